@@ -9,14 +9,14 @@ import models.Project;
 import models.SoftwareProject;
 import models.User;
 import services.GenerateProjectId;
-import services.ProjectService;
+import interfaces.IProjectService;
 import services.ProjectUserAssignmentOperations;
 import utils.Printer;
 import utils.ValidationUtils;
 
 public class ProjectController {
 
-    private final ProjectService projectService;
+    private final IProjectService projectService;
     private final ValidationUtils in;
     private final Printer out;
     private final GenerateProjectId idGenerator;
@@ -25,7 +25,7 @@ public class ProjectController {
     ProjectUserAssignmentOperations projectUserAssignmentOperations;
     private final INavigation navigation;
 
-    public ProjectController(ProjectService projectService, ValidationUtils in, Printer out,
+    public ProjectController(IProjectService projectService, ValidationUtils in, Printer out,
             GenerateProjectId idGenerator, IUserService userService, ITaskService taskservice,
             ProjectUserAssignmentOperations projectAssignment, INavigation navigation) {
         this.userService = userService;
@@ -2,25 +2,36 @@ package Controllers;
 
 import interfaces.INavigation;
 import interfaces.IReporting;
+import services.WorkloadReport;
 import utils.Printer;
 import utils.ValidationUtils;
+import utils.metrics.MetricsRegistry;
 
 /**
  * ReportController following Single Responsibility Principle (SRP)
  * - Only responsible for report-related user interactions
  */
 public class ReportController {
+    private static final int TOP_LOADED_USERS = 5;
+
     private final IReporting reportService;
     private final Printer out;
     private final INavigation navigation;
     private final ValidationUtils validationUtils;
+    private final WorkloadReport workloadReport;
 
     public ReportController(IReporting reportService, Printer out, INavigation navigation,
                             ValidationUtils validationUtils) {
+        this(reportService, out, navigation, validationUtils, null);
+    }
+
+    public ReportController(IReporting reportService, Printer out, INavigation navigation,
+                            ValidationUtils validationUtils, WorkloadReport workloadReport) {
         this.reportService = reportService;
         this.out = out;
         this.navigation = navigation;
         this.validationUtils = validationUtils;
+        this.workloadReport = workloadReport;
     }
 
     /**
@@ -30,8 +41,20 @@ public class ReportController {
         out.printTitle("PROJECT STATUS REPORT");
         reportService.generateReport();
         out.printMessage("");
+        if (workloadReport != null) {
+            out.printTitle("TOP " + TOP_LOADED_USERS + " LOADED USERS");
+            out.printWorkloadTable(workloadReport.topLoaded(TOP_LOADED_USERS));
+            out.printMessage("");
+        }
         validationUtils.readNonEmptyText("Press Enter to return to main menu: ");
         navigation.showMainMenu();
     }
 
+    /**
+     * Display latency percentiles, counters and gauges collected so far
+     */
+    public void showMetrics() {
+        out.printTitle("METRICS");
+        out.printMessage(MetricsRegistry.global().dump());
+    }
 }
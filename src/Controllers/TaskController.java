@@ -62,7 +62,7 @@ public class TaskController {
         if (users == null || users.length == 0) {
             out.printMessage("No users available. Task will be created without assignment.");
             task = new Task(taskName, status, projectId);
-            task.setTaskId(idGenerator.generate());
+            task = task.withTaskId(idGenerator.generate());
             taskService.addTask(task);
             out.printMessage(String.format("Task \"%s\" added successfully to project %s (No user assigned)",
                     taskName, projectId));
@@ -81,7 +81,7 @@ public class TaskController {
                 out.printMessage(String.format("Assigned User: %s (%s) - %s",
                         assignedUser.getName(), assignedUser.getEmail(), assignedUser.getRole()));
             }
-            task.setTaskId(idGenerator.generate());
+            task = task.withTaskId(idGenerator.generate());
             taskService.addTask(task);
         }
     }
@@ -1,10 +1,21 @@
 import Repository.ProjectRepository;
+import Repository.SegmentLog;
 import Repository.TaskRepository;
 import Repository.UserRepository;
 import services.*;
+import services.cdc.ChangeFeed;
+import services.events.EventBus;
 import utils.ConsoleMenu;
+import utils.metrics.MetricsFileReporter;
+import utils.metrics.MetricsRegistry;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
 
 public class Main {
+    private static final long CHANGE_SEGMENT_BYTES = 4L << 20;
+    private static final int CHANGE_SEGMENTS = 16;
+
     public static void main(String[] args) {
 
         // Step 1: Create repositories (following Dependency Inversion Principle)
@@ -18,10 +29,20 @@ public class Main {
 
         GenerateProjectId projectIdGenerator = new GenerateProjectId();
 
-        // Step 3: Create services with dependency injection (DIP)
-        ProjectService projectService = new ProjectService(projectRepository,projectIdGenerator);
-        TaskService taskService = new TaskService(taskRepository, taskIdGenerator);
-        UserService userService = new UserService(userRepository, userIdGenerator);
+        // Step 3: Create services with dependency injection (DIP), all publishing on one event bus
+        EventBus eventBus = new EventBus();
+        ProjectService projectService = new ProjectService(projectRepository,projectIdGenerator, eventBus);
+        TaskService taskService = new TaskService(taskRepository, taskIdGenerator, eventBus);
+        UserService userService = new UserService(userRepository, userIdGenerator, eventBus);
+
+        // Optional: persist every change to an on-disk feed consumers can resume from (-Dcdc.dir=path)
+        String changeLogDir = System.getProperty("cdc.dir");
+        if (changeLogDir != null) {
+            ChangeFeed changeFeed = new ChangeFeed(new SegmentLog(Path.of(changeLogDir), CHANGE_SEGMENT_BYTES,
+                    CHANGE_SEGMENTS, false));
+            eventBus.subscribe(changeFeed);
+            Runtime.getRuntime().addShutdownHook(new Thread(changeFeed::close));
+        }
         ReportService reportService = new ReportService(taskService, projectService);
 
         // Step 4: Create console menu (it internally creates all controllers and router)
@@ -32,6 +53,15 @@ public class Main {
                 userService
         );
 
+        // Optional: append metrics to a file periodically (-Dmetrics.file=path -Dmetrics.intervalSeconds=60)
+        String metricsFile = System.getProperty("metrics.file");
+        if (metricsFile != null) {
+            long interval = Long.getLong("metrics.intervalSeconds", 60);
+            MetricsFileReporter reporter = MetricsRegistry.global()
+                    .startFileReporter(Path.of(metricsFile), interval, TimeUnit.SECONDS);
+            Runtime.getRuntime().addShutdownHook(new Thread(reporter::close));
+        }
+
         // Step 5: Start the application
         consoleMenu.start();
 
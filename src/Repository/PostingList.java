@@ -0,0 +1,240 @@
+package Repository;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Sorted set of repository slot numbers for one index key.
+ * - Backed by int[] (no boxing)
+ * - Slots are mostly appended in increasing order, so add is amortized O(1)
+ * - A removed slot stays in place as a tombstone (stored as ~slot, so the array
+ *   stays sorted by slot) and is found by binary search: O(log n), nothing moves.
+ *   The array is compacted once tombstones outnumber live entries, so removing
+ *   k slots costs O(k log n) amortized however long the list is
+ * - Adding a slot back over its own tombstone revives it in place; a slot below
+ *   the last one that was never in the list goes to a small sorted side array,
+ *   merged in once it grows past about sqrt(n)
+ * - Readers take no lock: appends and tombstones are written in place before the
+ *   size is published, anything else publishes a new Block, so a reader sees a
+ *   consistent list. Writers of one list are serialized on its monitor, writers
+ *   of different lists never meet
+ */
+public final class PostingList {
+
+    private static final int[] NONE = new int[0];
+
+    // What readers see; only the current block is written to, and only past its length
+    // (appends) or in place (tombstones), so an older block a reader holds stays valid
+    private static final class Block {
+        final int[] slots;    // ascending by slot, tombstones included
+        final int[] inserted; // out-of-order additions, ascending, never written after publication
+        volatile int length;  // entries of slots in use
+
+        Block(int[] slots, int length, int[] inserted) {
+            this.slots = slots;
+            this.length = length;
+            this.inserted = inserted;
+        }
+    }
+
+    private volatile Block block = new Block(new int[4], 0, NONE);
+    private volatile int size; // live entries, written after every change
+    private int dead;          // tombstones in block.slots, writers only
+    private boolean retired;   // emptied and dropped from its map, writers only
+
+    /**
+     * Number of live slots.
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int slot) {
+        Block b = block;
+        int pos = find(b.slots, b.length, slot);
+        if (pos >= 0) return b.slots[pos] >= 0;
+        return Arrays.binarySearch(b.inserted, slot) >= 0;
+    }
+
+    /**
+     * Copy of the live slots, in ascending order.
+     */
+    public int[] toArray() {
+        Block b = block;
+        int length = b.length;
+        int[] slots = b.slots;
+        int[] inserted = b.inserted;
+        int[] result = new int[length + inserted.length];
+        int n = 0;
+        int j = 0;
+        for (int i = 0; i < length; i++) {
+            int value = slots[i];
+            if (value < 0) continue;
+            while (j < inserted.length && inserted[j] < value) result[n++] = inserted[j++];
+            result[n++] = value;
+        }
+        while (j < inserted.length) result[n++] = inserted[j++];
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    public synchronized void add(int slot) {
+        Block b = block;
+        int length = b.length;
+        if (length == 0 || slotAt(b.slots, length - 1) < slot) {
+            append(b, slot);
+        } else {
+            int pos = find(b.slots, length, slot);
+            if (pos >= 0) {
+                if (b.slots[pos] >= 0) return;
+                b.slots[pos] = slot;
+                dead--;
+            } else {
+                int at = Arrays.binarySearch(b.inserted, slot);
+                if (at >= 0) return;
+                at = -at - 1;
+                int[] inserted = new int[b.inserted.length + 1];
+                System.arraycopy(b.inserted, 0, inserted, 0, at);
+                inserted[at] = slot;
+                System.arraycopy(b.inserted, at, inserted, at + 1, b.inserted.length - at);
+                block = new Block(b.slots, length, inserted);
+                if (inserted.length > Math.max(16, (int) Math.sqrt(length))) rebuild(0);
+            }
+        }
+        size = size + 1;
+    }
+
+    /**
+     * @return true when slot was present
+     */
+    public synchronized boolean remove(int slot) {
+        Block b = block;
+        int pos = find(b.slots, b.length, slot);
+        if (pos >= 0) {
+            if (b.slots[pos] < 0) return false;
+            b.slots[pos] = ~slot;
+            dead++;
+        } else {
+            int at = Arrays.binarySearch(b.inserted, slot);
+            if (at < 0) return false;
+            int[] inserted = new int[b.inserted.length - 1];
+            System.arraycopy(b.inserted, 0, inserted, 0, at);
+            System.arraycopy(b.inserted, at + 1, inserted, at, inserted.length - at);
+            block = new Block(b.slots, b.length, inserted);
+        }
+        size = size - 1;
+        // Drop the tombstones once they are the majority, so scans stay O(live entries)
+        if (dead * 2 > b.length) rebuild(0);
+        return true;
+    }
+
+    /**
+     * Remove many slots, one binary search each.
+     *
+     * @return number of slots removed
+     */
+    public int removeAll(int[] removed) {
+        int count = 0;
+        for (int slot : removed) {
+            if (remove(slot)) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Add slot to the list of key, creating the list on first use. A list that
+     * was emptied and dropped from the map meanwhile is not used: the add starts
+     * over with the list the map holds now, so no slot is lost in a retired list.
+     */
+    static <K> PostingList add(ConcurrentMap<K, PostingList> lists, K key, int slot) {
+        while (true) {
+            PostingList list = lists.computeIfAbsent(key, k -> new PostingList());
+            synchronized (list) {
+                if (!list.retired) {
+                    list.add(slot);
+                    return list;
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove slot from the list of key; a list left empty is retired and dropped from the map.
+     */
+    static <K> void remove(ConcurrentMap<K, PostingList> lists, K key, int slot) {
+        PostingList list = lists.get(key);
+        if (list == null) return;
+        synchronized (list) {
+            if (list.remove(slot) && list.size == 0) {
+                list.retired = true;
+                lists.remove(key, list);
+            }
+        }
+    }
+
+    /**
+     * Remove slot from the list add returned for it, without looking the key up,
+     * and leave the list mapped even when it empties; see retireIfEmpty. That
+     * list cannot have been retired meanwhile: it still holds slot, and only the
+     * writer of slot removes it.
+     *
+     * @return true when the list is empty now
+     */
+    static boolean removeKeepingList(PostingList list, int slot) {
+        synchronized (list) {
+            return list.remove(slot) && list.size == 0;
+        }
+    }
+
+    /**
+     * Retire list and drop it from the map if it is still empty.
+     *
+     * @return true when it was dropped
+     */
+    static <K> boolean retireIfEmpty(ConcurrentMap<K, PostingList> lists, K key, PostingList list) {
+        synchronized (list) {
+            if (list.size != 0 || list.retired) return false;
+            list.retired = true;
+            lists.remove(key, list);
+            return true;
+        }
+    }
+
+    // Publish a new block with the live slots and the side array merged, room for extra appends
+    private void rebuild(int extra) {
+        int[] live = toArray();
+        int capacity = Math.max(4, live.length + (live.length >> 1) + extra);
+        block = new Block(Arrays.copyOf(live, capacity), live.length, NONE);
+        dead = 0;
+    }
+
+    // Side-array entries are all below the last slot, so slot stays the largest after a rebuild
+    private void append(Block b, int slot) {
+        int length = b.length;
+        if (length == b.slots.length) {
+            rebuild(1);
+            b = block;
+            length = b.length;
+        }
+        b.slots[length] = slot;
+        b.length = length + 1;
+    }
+
+    // Binary search by slot number, tombstones included: the position, or -(insertion point) - 1
+    private static int find(int[] slots, int length, int slot) {
+        int low = 0;
+        int high = length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int value = slotAt(slots, mid);
+            if (value < slot) low = mid + 1;
+            else if (value > slot) high = mid - 1;
+            else return mid;
+        }
+        return -(low + 1);
+    }
+
+    private static int slotAt(int[] slots, int pos) {
+        int value = slots[pos];
+        return value < 0 ? ~value : value;
+    }
+}
@@ -3,96 +3,258 @@ package Repository;
 import interfaces.IRepository;
 import models.Project;
 import utils.exceptions.*;
+import utils.jfr.CapacityGrowthEvent;
+import utils.metrics.Counter;
+import utils.metrics.LatencyHistogram;
+import utils.metrics.MetricsRegistry;
 
 import java.util.Arrays;
 
+/**
+ * ProjectRepository following Single Responsibility Principle (SRP)
+ * - Only responsible for Project data persistence and its text index
+ * - Slots are swapped with a lock-free compare-and-set; the text index of a
+ *   slot is then brought in line under a lock striped by slot number, so
+ *   writers of different projects do not wait for each other
+ * - Search takes no lock and drops hits whose slot was emptied meanwhile
+ */
 public class ProjectRepository implements IRepository<Project> {
+    private static final MetricsRegistry METRICS = MetricsRegistry.global();
+    private static final Counter CAPACITY_GROWTHS = METRICS.counter("ProjectRepository.capacityGrowths");
+    private static final LatencyHistogram ADD_TIME = METRICS.sampledHistogram("ProjectRepository.add");
+    private static final LatencyHistogram GET_BY_ID_TIME = METRICS.sampledHistogram("ProjectRepository.getById");
+    private static final LatencyHistogram FIND_TIME = METRICS.sampledHistogram("ProjectRepository.find");
+    private static final LatencyHistogram GET_ALL_TIME = METRICS.sampledHistogram("ProjectRepository.getAll");
+    private static final LatencyHistogram UPDATE_TIME = METRICS.sampledHistogram("ProjectRepository.update");
+    private static final LatencyHistogram COMPARE_AND_SET_TIME = METRICS.sampledHistogram("ProjectRepository.compareAndSet");
+    private static final LatencyHistogram REMOVE_BY_ID_TIME = METRICS.sampledHistogram("ProjectRepository.removeById");
+    private static final LatencyHistogram GET_PAGE_TIME = METRICS.sampledHistogram("ProjectRepository.getPage");
+    private static final LatencyHistogram FIND_BY_TYPE_TIME = METRICS.sampledHistogram("ProjectRepository.findByType");
+    private static final LatencyHistogram SEARCH_TIME = METRICS.sampledHistogram("ProjectRepository.search");
+    private static final LatencyHistogram FIND_BY_BUDGET_RANGE_TIME = METRICS.sampledHistogram("ProjectRepository.findByBudgetRange");
 
-    private Project[] projects;
+    private static final int STRIPES = 64;
+
+    private final SlotArray<Project> projects;
+    private final TextIndex textIndex;
+    // Text index maintenance of a slot runs under stripes[slot % STRIPES], see reindex
+    private final Object[] stripes = new Object[STRIPES];
 
     public ProjectRepository(int initialCapacity) {
         if (initialCapacity <= 0) initialCapacity = 10;
-        this.projects = new Project[initialCapacity];
+        this.projects = new SlotArray<>(initialCapacity);
+        this.textIndex = new TextIndex(initialCapacity);
+        for (int i = 0; i < STRIPES; i++) stripes[i] = new Object();
     }
 
     private void ensureCapacity(int index) {
-        if (index < projects.length) return;
+        if (index < projects.capacity()) return;
 
-        int newCapacity = Math.max(projects.length * 2, 1);
-        while (newCapacity <= index) newCapacity *= 2;
-        projects = Arrays.copyOf(projects, newCapacity);
+        CapacityGrowthEvent event = new CapacityGrowthEvent();
+        event.begin();
+        int oldCapacity = projects.capacity();
+        if (!projects.ensureCapacity(index)) return;
+        CAPACITY_GROWTHS.increment();
+        event.finish("ProjectRepository", oldCapacity, projects.capacity());
+    }
+
+    /**
+     * Index what a slot holds now; runs after every swap and re-reads the slot,
+     * so the last of two racing writers leaves the latest project indexed.
+     */
+    private void reindex(int slot) {
+        synchronized (stripes[slot & (STRIPES - 1)]) {
+            Project project = projects.get(slot);
+            if (project == null) textIndex.remove(slot);
+            else textIndex.index(slot, searchableText(project));
+        }
     }
 
     @Override
     public void add(Project project, int index) {
-        if (project == null) throw new EmptyProjectException("Project cannot be null");
-        ensureCapacity(index);
-        if (projects[index] != null)
-            throw new ProjectAlreadyExistException("Project already exists at index " + index);
-
-        projects[index] = project;
-        System.out.println(project.getType());
+        long startNanos = ADD_TIME.start();
+        try {
+            if (project == null) throw new EmptyProjectException("Project cannot be null");
+            if (index < 0) throw new IndexIsLessThanZero("Index cannot be less than zero");
+            ensureCapacity(index);
+            if (!projects.compareAndSet(index, null, project))
+                throw new ProjectAlreadyExistException("Project already exists at index " + index);
+            reindex(index);
+            System.out.println(project.getType());
+        } finally {
+            ADD_TIME.recordSince(startNanos);
+        }
     }
 
     @Override
     public Project getById(int index) {
-        if (index < 0 ) throw new IndexIsLessThanZero("Index cannot be less than zero");
-        if ( index >= projects.length) throw new IndexGreatherThanArrayLengthException("The Index is higher than the array Length ");
-        if(projects[index]==null)
-            throw new EmptyProjectException("No Project Found for this Id");
-        return projects[index];
+        long startNanos = GET_BY_ID_TIME.start();
+        try {
+            if (index < 0 ) throw new IndexIsLessThanZero("Index cannot be less than zero");
+            if ( index >= projects.capacity()) throw new IndexGreatherThanArrayLengthException("The Index is higher than the array Length ");
+            Project project = projects.get(index);
+            if(project==null)
+                throw new EmptyProjectException("No Project Found for this Id");
+            return project;
+        } finally {
+            GET_BY_ID_TIME.recordSince(startNanos);
+        }
     }
 
     @Override
-    public Project[] getAll() {
+    public Project find(int index) {
+        long startNanos = FIND_TIME.start();
+        try {
+            return projects.get(index);
+        } finally {
+            FIND_TIME.recordSince(startNanos);
+        }
+    }
 
-        boolean found = false;
+    @Override
+    public Project[] getAll() {
+        long startNanos = GET_ALL_TIME.start();
+        try {
+            // Copy of every slot up to one capacity snapshot, empty slots included
+            int capacity = projects.capacity();
+            Project[] copy = new Project[capacity];
+            boolean found = false;
+            for (int slot = 0; slot < capacity; slot++) {
+                copy[slot] = projects.get(slot);
+                if (copy[slot] != null) found = true;
+            }
 
-        for (Project p : projects) {
-            if (p != null) {
-                found = true;
-                break;
+            if (!found) {
+                throw new EmptyProjectException();
             }
-        }
 
-        if (!found) {
-            throw new EmptyProjectException();
+            return copy;
+        } finally {
+            GET_ALL_TIME.recordSince(startNanos);
         }
-
-        return Arrays.copyOf(projects, projects.length);
     }
 
 
 
     @Override
     public void update(int index, Project project) {
-        if (index < 0) throw new IllegalArgumentException("Invalid index");
-        ensureCapacity(index);
-        Project temp = getById(index);
-        projects[index] = project;
+        long startNanos = UPDATE_TIME.start();
+        try {
+            if (index < 0) throw new IllegalArgumentException("Invalid index");
+            ensureCapacity(index);
+            while (true) {
+                Project temp = getById(index);
+                if (projects.compareAndSet(index, temp, project)) break;
+            }
+            reindex(index);
+        } finally {
+            UPDATE_TIME.recordSince(startNanos);
+        }
+    }
+
+    /**
+     * Replace the project in a slot only if the slot still holds expected
+     * (compare-and-set on the slot). The swap takes no lock, the re-index that
+     * follows only locks the slot's stripe, see reindex.
+     *
+     * @return false when another writer replaced or removed it first
+     */
+    public boolean compareAndSet(int index, Project expected, Project replacement) {
+        long startNanos = COMPARE_AND_SET_TIME.start();
+        try {
+            if (replacement == null) throw new EmptyProjectException("Project cannot be null");
+            if (!projects.compareAndSet(index, expected, replacement)) return false;
+            reindex(index);
+            return true;
+        } finally {
+            COMPARE_AND_SET_TIME.recordSince(startNanos);
+        }
     }
 
     @Override
-    public void removeById(int index) {
-        if (index < 0 || index >= projects.length) throw new IndexIsLessThanZero("Invalid index");
-        Project temp = getById(index);
+    public Project removeById(int index) {
+        long startNanos = REMOVE_BY_ID_TIME.start();
+        try {
+            if (index < 0 || index >= projects.capacity()) throw new IndexIsLessThanZero("Invalid index");
+            Project temp = projects.getAndSet(index, null);
+            if (temp == null) throw new EmptyProjectException("No Project Found for this Id");
+            reindex(index);
+            return temp;
+        } finally {
+            REMOVE_BY_ID_TIME.recordSince(startNanos);
+        }
+    }
 
-        projects[index] = null;
+    @Override
+    public Project[] getPage(int afterIndex, int limit) {
+        long startNanos = GET_PAGE_TIME.start();
+        try {
+            Project[] page = new Project[Math.max(0, limit)];
+            int count = 0;
+            int capacity = projects.capacity();
+            // Nothing follows the last index; afterIndex + 1 would wrap around to the first page
+            int first = afterIndex == Integer.MAX_VALUE ? capacity : Math.max(0, afterIndex + 1);
+            for (int i = first; i < capacity && count < page.length; i++) {
+                Project project = projects.load(i);
+                if (project != null) page[count++] = project;
+            }
+            return count == page.length ? page : Arrays.copyOf(page, count);
+        } finally {
+            GET_PAGE_TIME.recordSince(startNanos);
+        }
     }
 
+
     /** Query helpers */
     public Project[] findByType(String type) {
-        if (type == null) throw new EntityAttributeException(type);
-        Project[] projects = getAll();
-        return Arrays.stream(projects)
-                .filter(p -> p != null && type.equalsIgnoreCase(p.getType()))
-                .toArray(Project[]::new);
+        long startNanos = FIND_BY_TYPE_TIME.start();
+        try {
+            if (type == null) throw new EntityAttributeException(type);
+            Project[] projects = getAll();
+            return Arrays.stream(projects)
+                    .filter(p -> p != null && type.equalsIgnoreCase(p.getType()))
+                    .toArray(Project[]::new);
+        } finally {
+            FIND_BY_TYPE_TIME.recordSince(startNanos);
+        }
+    }
+
+    /**
+     * Full-text search over project names and descriptions, best matches first
+     */
+    public Project[] search(String query, int limit) {
+        long startNanos = SEARCH_TIME.start();
+        try {
+            TextIndex.Hit[] hits = textIndex.search(query, limit);
+            Project[] result = new Project[hits.length];
+            int count = 0;
+            for (TextIndex.Hit hit : hits) {
+                Project project = projects.get(hit.slot());
+                if (project != null) result[count++] = project;
+            }
+            return count == result.length ? result : Arrays.copyOf(result, count);
+        } finally {
+            SEARCH_TIME.recordSince(startNanos);
+        }
+    }
+
+    // Name and description; a missing one is left out rather than indexed as "null"
+    private static String searchableText(Project project) {
+        String name = project.getName();
+        String description = project.getDescription();
+        if (description == null) return name == null ? "" : name;
+        return name == null ? description : name + " " + description;
     }
 
     public Project[] findByBudgetRange(double min, double max) {
-        Project[] projects = getAll();
-        return Arrays.stream(projects)
-                .filter(p -> p != null && p.getBudget() >= min && p.getBudget() <= max)
-                .toArray(Project[]::new);
+        long startNanos = FIND_BY_BUDGET_RANGE_TIME.start();
+        try {
+            Project[] projects = getAll();
+            return Arrays.stream(projects)
+                    .filter(p -> p != null && p.getBudget() >= min && p.getBudget() <= max)
+                    .toArray(Project[]::new);
+        } finally {
+            FIND_BY_BUDGET_RANGE_TIME.recordSince(startNanos);
+        }
     }
 }
@@ -0,0 +1,171 @@
+package Repository;
+
+import models.Task;
+import models.TaskQuery;
+import models.TaskQuery.Field;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Execution plan chosen by TaskQueryPlanner for one TaskQuery.
+ * - The driving index is walked in slot (= task ID) order
+ * - Every other constrained field is checked by probing its postings lists
+ * - Without predicates the plan falls back to a full slot scan
+ * - Postings are read without a lock while writers run, so they may trail a
+ *   slot by one update: every task that passes is rechecked against all
+ *   predicates, and slots emptied meanwhile are skipped
+ */
+public final class QueryPlan {
+
+    /**
+     * One constrained field and the postings lists of its accepted values.
+     */
+    static final class Access {
+        final Field field;
+        final Set<String> values;
+        final PostingList[] lists;
+        final int estimatedRows;
+
+        Access(Field field, Set<String> values, PostingList[] lists) {
+            this.field = field;
+            this.values = values;
+            this.lists = lists;
+            int rows = 0;
+            for (PostingList list : lists) if (list != null) rows += list.size();
+            this.estimatedRows = rows;
+        }
+
+        /**
+         * Whether the task itself has one of the accepted values.
+         */
+        boolean accepts(Task task) {
+            String key = TaskIndex.key(field, TaskIndex.valueOf(field, task));
+            for (String value : values) {
+                if (Objects.equals(key, TaskIndex.key(field, value))) return true;
+            }
+            return false;
+        }
+
+        boolean matches(int slot) {
+            for (PostingList list : lists) {
+                if (list != null && list.contains(slot)) return true;
+            }
+            return false;
+        }
+
+        /**
+         * Union of the postings, ascending. Values are disjoint so no dedup is needed.
+         */
+        int[] slots() {
+            if (lists.length == 1) return lists[0] == null ? new int[0] : lists[0].toArray();
+            int[] merged = new int[estimatedRows];
+            int n = 0;
+            for (PostingList list : lists) {
+                if (list == null) continue;
+                int[] slots = list.toArray();
+                System.arraycopy(slots, 0, merged, n, slots.length);
+                n += slots.length;
+            }
+            Arrays.sort(merged);
+            return merged;
+        }
+
+        String describe() {
+            String predicate = values.size() == 1
+                    ? field + " = " + values.iterator().next()
+                    : field + " IN " + values;
+            return predicate + " (" + estimatedRows + " postings)";
+        }
+    }
+
+    private final TaskQuery query;
+    private final Access driving;
+    private final Access[] probes;
+    private int rowsExamined = -1;
+    private int rowsReturned = -1;
+
+    QueryPlan(TaskQuery query, Access driving, Access[] probes) {
+        this.query = query;
+        this.driving = driving;
+        this.probes = probes;
+    }
+
+    /**
+     * Run the plan against the repository slots.
+     */
+    Task[] execute(TaskRepository.Slots slots) {
+        int[] candidates = driving == null ? null : driving.slots();
+        int count = candidates == null ? slots.length() : candidates.length;
+        boolean descending = query.order() == TaskQuery.Order.TASK_ID_DESC;
+        // Slot order is task ID order, so ID-ordered queries can stop at the limit
+        int stopAt = query.order() == TaskQuery.Order.NAME_ASC ? Integer.MAX_VALUE : query.limit();
+
+        List<Task> result = new ArrayList<>(Math.min(count, Math.min(stopAt, 1024)));
+        int examined = 0;
+        for (int i = 0; i < count && result.size() < stopAt; i++) {
+            int pos = descending ? count - 1 - i : i;
+            int slot = candidates == null ? pos : candidates[pos];
+            Task task = slot < slots.length() ? slots.get(slot) : null;
+            if (task == null) continue;
+            examined++;
+            if (matchesProbes(slot) && recheck(task)) result.add(task);
+        }
+
+        if (query.order() == TaskQuery.Order.NAME_ASC) {
+            result.sort(Comparator.comparing(Task::getTaskName, Comparator.nullsLast(Comparator.naturalOrder())));
+            if (result.size() > query.limit()) result = result.subList(0, query.limit());
+        }
+
+        rowsExamined = examined;
+        rowsReturned = result.size();
+        return result.toArray(new Task[0]);
+    }
+
+    private boolean matchesProbes(int slot) {
+        for (Access probe : probes) {
+            if (!probe.matches(slot)) return false;
+        }
+        return true;
+    }
+
+    private boolean recheck(Task task) {
+        if (driving != null && !driving.accepts(task)) return false;
+        for (Access probe : probes) {
+            if (!probe.accepts(task)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Human readable plan; row counts are filled in once the plan has been executed.
+     */
+    public String explain() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Query   : ").append(query).append(System.lineSeparator());
+        if (driving == null) {
+            sb.append("Access  : FULL SCAN of task slots").append(System.lineSeparator());
+        } else {
+            sb.append("Access  : INDEX ").append(driving.describe()).append(System.lineSeparator());
+        }
+        for (Access probe : probes) {
+            sb.append("Filter  : INDEX PROBE ").append(probe.describe()).append(System.lineSeparator());
+        }
+        sb.append("Order   : ").append(query.order());
+        if (query.order() == TaskQuery.Order.NAME_ASC) sb.append(" (sort after filter)");
+        sb.append(System.lineSeparator());
+        if (rowsExamined >= 0) {
+            sb.append("Rows    : examined ").append(rowsExamined)
+                    .append(", returned ").append(rowsReturned).append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+
+    public int rowsExamined() {
+        return rowsExamined;
+    }
+}
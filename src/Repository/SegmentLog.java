@@ -0,0 +1,324 @@
+package Repository;
+
+import utils.exceptions.OffsetOutOfRangeException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+/**
+ * SegmentLog following Single Responsibility Principle (SRP)
+ * - Only responsible for storing opaque records durably, in order, under
+ *   monotonically increasing offsets (0, 1, 2, ...)
+ * - Records are appended to the newest segment file; when it exceeds
+ *   maxSegmentBytes a new segment is started and the oldest segments beyond
+ *   maxSegments are deleted, which bounds the disk used
+ * - Each segment keeps the file position of every record in memory, so a
+ *   read from any retained offset seeks directly instead of scanning
+ *
+ * On disk a segment is named after its first offset (00000000000000000042.log)
+ * and holds [int length][int crc32][payload] frames. A torn frame at the end
+ * of the newest segment (crash during append) is truncated when the log is opened;
+ * a bad frame in an older segment, or a gap between segment offsets, fails the open.
+ */
+public final class SegmentLog implements AutoCloseable {
+
+    private static final String SUFFIX = ".log";
+    private static final int HEADER_BYTES = 8;
+
+    private final Path directory;
+    private final long maxSegmentBytes;
+    private final int maxSegments;
+    private final boolean syncOnAppend;
+    private final TreeMap<Long, Segment> segments = new TreeMap<>();
+    private long nextOffset;
+    private boolean closed;
+    private String owner;
+
+    /**
+     * Open (or create) a log in the given directory.
+     *
+     * @param syncOnAppend force every append to disk before returning
+     */
+    public SegmentLog(Path directory, long maxSegmentBytes, int maxSegments, boolean syncOnAppend) {
+        if (directory == null) throw new IllegalArgumentException("Log directory cannot be null");
+        if (maxSegmentBytes <= HEADER_BYTES) throw new IllegalArgumentException("Segment size is too small");
+        if (maxSegments < 1) throw new IllegalArgumentException("At least one segment must be retained");
+        this.directory = directory;
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.maxSegments = maxSegments;
+        this.syncOnAppend = syncOnAppend;
+        try {
+            Files.createDirectories(directory);
+            loadSegments();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open log in " + directory, e);
+        }
+    }
+
+    /**
+     * Reserve the log for one writer. Records are opaque, so a log read by one
+     * decoder (e.g. the change feed) must not receive another writer's records.
+     *
+     * @throws IllegalArgumentException when a different writer already claimed the log
+     */
+    public synchronized void claim(String writer) {
+        if (writer == null) throw new IllegalArgumentException("Writer cannot be null");
+        if (owner != null && !owner.equals(writer))
+            throw new IllegalArgumentException("Log in " + directory + " is already written by " + owner);
+        owner = writer;
+    }
+
+    /**
+     * First offset still retained.
+     */
+    public synchronized long startOffset() {
+        return segments.isEmpty() ? nextOffset : segments.firstKey();
+    }
+
+    /**
+     * Offset the next appended record will get.
+     */
+    public synchronized long endOffset() {
+        return nextOffset;
+    }
+
+    /**
+     * Append one record.
+     *
+     * @return its offset
+     */
+    public synchronized long append(byte[] payload) {
+        return appendAll(new byte[][]{payload}, 1);
+    }
+
+    /**
+     * Append the first count records with a single write.
+     *
+     * @return offset of the first record
+     */
+    public synchronized long appendAll(byte[][] payloads, int count) {
+        ensureOpen();
+        if (count <= 0) return nextOffset;
+
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            if (payloads[i] == null) throw new IllegalArgumentException("Record cannot be null");
+            size += HEADER_BYTES + payloads[i].length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        CRC32 crc = new CRC32();
+        for (int i = 0; i < count; i++) {
+            crc.reset();
+            crc.update(payloads[i]);
+            buffer.putInt(payloads[i].length).putInt((int) crc.getValue()).put(payloads[i]);
+        }
+        buffer.flip();
+
+        long first = nextOffset;
+        try {
+            Segment segment = activeSegment();
+            long position = segment.size;
+            while (buffer.hasRemaining()) segment.channel.write(buffer, position + buffer.position());
+            for (int i = 0; i < count; i++) {
+                segment.addPosition(position);
+                position += HEADER_BYTES + payloads[i].length;
+            }
+            segment.size = position;
+            nextOffset += count;
+            if (syncOnAppend) segment.channel.force(false);
+            if (segment.size >= maxSegmentBytes) roll();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot append to log in " + directory, e);
+        }
+        return first;
+    }
+
+    /**
+     * Read up to maxRecords records starting at fromOffset.
+     * Reading at endOffset() returns an empty list.
+     *
+     * @throws OffsetOutOfRangeException when fromOffset was deleted by retention or is beyond the end
+     */
+    public synchronized List<LogRecord> read(long fromOffset, int maxRecords) {
+        ensureOpen();
+        if (fromOffset < startOffset() || fromOffset > nextOffset)
+            throw new OffsetOutOfRangeException(fromOffset, startOffset(), nextOffset);
+
+        List<LogRecord> records = new ArrayList<>();
+        if (maxRecords <= 0 || fromOffset == nextOffset) return records;
+
+        long offset = fromOffset;
+        try {
+            for (Segment segment : segments.tailMap(segments.floorKey(fromOffset), true).values()) {
+                while (records.size() < maxRecords && offset < segment.baseOffset + segment.count) {
+                    records.add(new LogRecord(offset, segment.readAt((int) (offset - segment.baseOffset))));
+                    offset++;
+                }
+                if (records.size() >= maxRecords) break;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read log in " + directory, e);
+        }
+        return records;
+    }
+
+    /**
+     * Force appended records to disk.
+     */
+    public synchronized void flush() {
+        if (closed || segments.isEmpty()) return;
+        try {
+            segments.lastEntry().getValue().channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) return;
+        flush();
+        closed = true;
+        for (Segment segment : segments.values()) segment.closeQuietly();
+    }
+
+    private void ensureOpen() {
+        if (closed) throw new IllegalStateException("Log is closed");
+    }
+
+    private Segment activeSegment() throws IOException {
+        if (segments.isEmpty()) return createSegment(nextOffset);
+        return segments.lastEntry().getValue();
+    }
+
+    private void roll() throws IOException {
+        segments.lastEntry().getValue().channel.force(false);
+        createSegment(nextOffset);
+        while (segments.size() > maxSegments) {
+            Segment oldest = segments.pollFirstEntry().getValue();
+            oldest.closeQuietly();
+            Files.deleteIfExists(oldest.file);
+        }
+    }
+
+    private Segment createSegment(long baseOffset) throws IOException {
+        Path file = directory.resolve(String.format("%020d%s", baseOffset, SUFFIX));
+        Segment segment = new Segment(file, baseOffset,
+                FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE));
+        segments.put(baseOffset, segment);
+        return segment;
+    }
+
+    private void loadSegments() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path file : stream) files.add(file);
+        }
+        files.sort(null);
+        try {
+            for (int i = 0; i < files.size(); i++) {
+                Path file = files.get(i);
+                String name = file.getFileName().toString();
+                long baseOffset = Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+                if (!segments.isEmpty() && baseOffset != nextOffset)
+                    throw new IOException("Segment " + file + " starts at offset " + baseOffset + ", expected " + nextOffset);
+                Segment segment = new Segment(file, baseOffset,
+                        FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE));
+                segments.put(baseOffset, segment);
+                // Only the newest segment can have been cut short by a crash
+                segment.recover(i == files.size() - 1);
+                nextOffset = baseOffset + segment.count;
+            }
+        } catch (IOException e) {
+            for (Segment segment : segments.values()) segment.closeQuietly();
+            throw e;
+        }
+    }
+
+    /**
+     * One stored record.
+     */
+    public record LogRecord(long offset, byte[] payload) {
+    }
+
+    private static final class Segment {
+        final Path file;
+        final long baseOffset;
+        final FileChannel channel;
+        long[] positions = new long[64];
+        int count;
+        long size;
+
+        Segment(Path file, long baseOffset, FileChannel channel) {
+            this.file = file;
+            this.baseOffset = baseOffset;
+            this.channel = channel;
+        }
+
+        void addPosition(long position) {
+            if (count == positions.length) positions = Arrays.copyOf(positions, count * 2);
+            positions[count++] = position;
+        }
+
+        byte[] readAt(int index) throws IOException {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            readFully(header, positions[index]);
+            byte[] payload = new byte[header.getInt(0)];
+            readFully(ByteBuffer.wrap(payload), positions[index] + HEADER_BYTES);
+            return payload;
+        }
+
+        // Index every complete, checksummed frame; in the newest segment cut anything
+        // after the first bad one, in a sealed segment a bad frame is corruption
+        void recover(boolean truncateTail) throws IOException {
+            long fileSize = channel.size();
+            long position = 0;
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            CRC32 crc = new CRC32();
+            while (position + HEADER_BYTES <= fileSize) {
+                header.clear();
+                readFully(header, position);
+                int length = header.getInt(0);
+                if (length < 0 || position + HEADER_BYTES + length > fileSize) break;
+                byte[] payload = new byte[length];
+                readFully(ByteBuffer.wrap(payload), position + HEADER_BYTES);
+                crc.reset();
+                crc.update(payload);
+                if ((int) crc.getValue() != header.getInt(4)) break;
+                addPosition(position);
+                position += HEADER_BYTES + length;
+            }
+            if (position < fileSize) {
+                if (!truncateTail) throw new IOException("Segment " + file + " is corrupt at position " + position);
+                channel.truncate(position);
+            }
+            size = position;
+        }
+
+        private void readFully(ByteBuffer buffer, long position) throws IOException {
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position + buffer.position());
+                if (read < 0) throw new IOException("Unexpected end of segment " + file);
+            }
+        }
+
+        void closeQuietly() {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // nothing left to do with a segment being dropped
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package Repository;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * SlotArray following Single Responsibility Principle (SRP)
+ * - Only responsible for the slots of a repository: a growable array whose
+ *   elements are swapped with a lock-free compare-and-set while it grows
+ * - Storage is a list of chunks, the first one holding the initial capacity
+ *   (rounded up to a power of two) and every later one as many slots as all
+ *   before it, so the capacity doubles per chunk. Growing adds chunks and never
+ *   copies, so a swap can never be lost in a copy made by a concurrent grower;
+ *   a slot costs one extra array hop to reach
+ * - Reads and swaps take no lock; only growth is serialized, O(log n) times
+ */
+public final class SlotArray<T> {
+
+    private static final VarHandle ELEMENTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    private final int firstShift;  // log2 of the first chunk's length
+    private final Object[][] chunks;
+    private int chunkCount;        // guarded by chunks
+    // Written after the chunks it covers, so a reader that checks a slot against
+    // it always finds the slot's chunk
+    private volatile int capacity;
+
+    public SlotArray(int initialCapacity) {
+        int first = Math.max(1, Math.min(initialCapacity, 1 << 30));
+        this.firstShift = 32 - Integer.numberOfLeadingZeros(first - 1);
+        this.chunks = new Object[32 - firstShift][];
+        this.chunks[0] = new Object[1 << firstShift];
+        this.chunkCount = 1;
+        this.capacity = 1 << firstShift;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Element in a slot, or null when the slot is empty or out of range.
+     */
+    public T get(int slot) {
+        return slot >= 0 && slot < capacity ? load(slot) : null;
+    }
+
+    /**
+     * Element in a slot the caller has already checked against a capacity() it
+     * read, for scans that would otherwise re-read capacity per slot.
+     */
+    @SuppressWarnings("unchecked")
+    T load(int slot) {
+        int chunk = chunkOf(slot);
+        return (T) chunks[chunk][offsetIn(chunk, slot)];
+    }
+
+    /**
+     * Swap replacement in only if the slot still holds expected (by identity).
+     *
+     * @return false when the slot held something else or is out of range
+     */
+    public boolean compareAndSet(int slot, T expected, T replacement) {
+        if (slot < 0 || slot >= capacity) return false;
+        int chunk = chunkOf(slot);
+        return ELEMENTS.compareAndSet(chunks[chunk], offsetIn(chunk, slot), expected, replacement);
+    }
+
+    /**
+     * Store value and return what the slot held, in one atomic step.
+     */
+    @SuppressWarnings("unchecked")
+    public T getAndSet(int slot, T value) {
+        if (slot < 0 || slot >= capacity) throw new IndexOutOfBoundsException("Slot " + slot + " is out of range");
+        int chunk = chunkOf(slot);
+        return (T) ELEMENTS.getAndSet(chunks[chunk], offsetIn(chunk, slot), value);
+    }
+
+    public void set(int slot, T value) {
+        if (slot < 0 || slot >= capacity) throw new IndexOutOfBoundsException("Slot " + slot + " is out of range");
+        int chunk = chunkOf(slot);
+        ELEMENTS.setVolatile(chunks[chunk], offsetIn(chunk, slot), value);
+    }
+
+    /**
+     * Add chunks until slot is in range. Existing chunks are kept as they are.
+     *
+     * @return true when the capacity grew
+     */
+    public boolean ensureCapacity(int slot) {
+        if (slot < 0) throw new IndexOutOfBoundsException("Slot " + slot + " is out of range");
+        if (slot < capacity) return false;
+        synchronized (chunks) {
+            long total = capacity;
+            if (slot < total) return false;
+            while (total <= slot) {
+                long length = Math.min(total, Integer.MAX_VALUE - total);
+                chunks[chunkCount++] = new Object[(int) length];
+                total += length;
+            }
+            capacity = (int) total;
+            return true;
+        }
+    }
+
+    // Chunk 0 holds slots [0, B) for a first chunk of length B, chunk k > 0 holds [B 2^(k-1), B 2^k)
+    private int chunkOf(int slot) {
+        return 32 - Integer.numberOfLeadingZeros(slot >>> firstShift);
+    }
+
+    // Past chunk 0 a chunk starts at a power of two, the highest bit of its slots
+    private static int offsetIn(int chunk, int slot) {
+        return chunk == 0 ? slot : slot - Integer.highestOneBit(slot);
+    }
+}
@@ -0,0 +1,368 @@
+package Repository;
+
+import models.Task;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * TaskArchive following Single Responsibility Principle (SRP)
+ * - Only responsible for keeping archived tasks compactly, outside the hot
+ *   TaskRepository, so they no longer cost anything in hot scans and reports
+ * - Each task is packed as one variable-length record into large byte blocks;
+ *   no Task object or String is kept per archived task
+ * - Reads are on demand: records are scanned field by field and only the
+ *   matching ones are turned back into Task objects
+ *
+ * Record layout (all varints):
+ * [ID shape][ID number][project][status][assignee][name][version][completedAt delta]
+ * - Task IDs are split into a prefix and a zero-padded number ("T0042" is
+ *   prefix "T", width 4, number 42); the prefix dictionary code and the width
+ *   are packed into one varint
+ * - Project, status and assignee are codes into small dictionaries (0 = null)
+ * - The name is stored in the record: 0 for null, (length << 1) | 1 followed by
+ *   its UTF-8 bytes, or (position + 1) << 1 pointing at the same name in an
+ *   earlier record. Earlier names are found through a small fixed cache of
+ *   recently written names, so a repeated name is shared without any per-name
+ *   index, and a unique name costs only its bytes and a length byte
+ * - completedAt is stored as the difference to the previous record in the block
+ */
+public final class TaskArchive {
+
+    private static final int FIRST_BLOCK_BYTES = 1 << 10;
+    private static final int BLOCK_BYTES = 1 << 16;
+    private static final int MAX_RECORD_BYTES = 8 * 10; // without the name bytes
+    private static final int MAX_ID_DIGITS = 18;
+    private static final int WIDTH_BITS = 5;
+    private static final int OFFSET_BITS = 16; // a position is (block << 16) | offset of a record in it
+    private static final int RECENT_NAMES = 1 << 10;
+
+    private final Dictionary idPrefixes = new Dictionary();
+    private final Dictionary projects = new Dictionary();
+    private final Dictionary statuses = new Dictionary();
+    private final Dictionary users = new Dictionary();
+    // Direct-mapped by name hash: position + 1 of a recently written inline name, 0 = empty
+    private final long[] recentNames = new long[RECENT_NAMES];
+
+    private byte[][] blocks = new byte[4][];
+    private int[] blockLengths = new int[4];
+    private int blockCount;
+    private long previousCompletedAt;
+    private int size;
+
+    /**
+     * Archive a batch of tasks.
+     */
+    public synchronized void addAll(Task[] tasks) {
+        if (tasks == null) throw new IllegalArgumentException("Tasks cannot be null");
+        for (Task task : tasks) {
+            if (task != null) append(task);
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Approximate heap held by the archive: blocks, name cache and dictionaries.
+     */
+    public synchronized long footprintBytes() {
+        long bytes = arrayBytes(8L * blocks.length) + arrayBytes(4L * blockLengths.length)
+                + arrayBytes(8L * recentNames.length);
+        for (int i = 0; i < blockCount; i++) bytes += arrayBytes(blocks[i].length);
+        return bytes + idPrefixes.footprintBytes() + projects.footprintBytes()
+                + statuses.footprintBytes() + users.footprintBytes();
+    }
+
+    public synchronized Task findByTaskId(String taskId) {
+        if (taskId == null) return null;
+        int shape = idShape(taskId, false);
+        if (shape < 0) return null;
+        long number = idNumber(taskId, shape);
+
+        Cursor c = new Cursor();
+        for (int b = 0; b < blockCount; b++) {
+            c.start(b);
+            while (c.next()) {
+                if (c.shape == shape && c.number == number) return c.toTask();
+            }
+        }
+        return null;
+    }
+
+    public synchronized Task[] findByProjectId(String projectId) {
+        if (projectId == null) return new Task[0];
+        int code = projects.codeOf(projectId);
+        if (code < 0) return new Task[0];
+
+        Task[] result = new Task[8];
+        int count = 0;
+        Cursor c = new Cursor();
+        for (int b = 0; b < blockCount; b++) {
+            c.start(b);
+            while (c.next()) {
+                if (c.project != code + 1) continue;
+                if (count == result.length) result = Arrays.copyOf(result, count * 2);
+                result[count++] = c.toTask();
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    public synchronized Task[] getAll() {
+        Task[] result = new Task[size];
+        int count = 0;
+        Cursor c = new Cursor();
+        for (int b = 0; b < blockCount; b++) {
+            c.start(b);
+            while (c.next()) result[count++] = c.toTask();
+        }
+        return result;
+    }
+
+    private void append(Task task) {
+        byte[] name = task.getTaskName() == null ? null : task.getTaskName().getBytes(StandardCharsets.UTF_8);
+        int recordBytes = MAX_RECORD_BYTES + (name == null ? 0 : name.length);
+        byte[] block = blockCount == 0 ? null : blocks[blockCount - 1];
+        int length = blockCount == 0 ? 0 : blockLengths[blockCount - 1];
+        while (block == null || length + recordBytes > block.length) {
+            if (block != null && block.length < BLOCK_BYTES) {
+                block = Arrays.copyOf(block, block.length * 2);
+                blocks[blockCount - 1] = block;
+            } else {
+                // A name too long for a block gets a block of its own, so every record starts below 64 KiB
+                block = newBlock(Math.max(recordBytes, blockCount == 0 ? FIRST_BLOCK_BYTES : BLOCK_BYTES));
+                length = 0;
+            }
+        }
+
+        String taskId = task.getTaskId();
+        int shape = idShape(taskId, true);
+        length = writeVarint(block, length, shape);
+        length = writeVarlong(block, length, idNumber(taskId, shape));
+        length = writeVarint(block, length, projects.encode(task.getProjectId()) + 1);
+        length = writeVarint(block, length, statuses.encode(task.getTaskStatus()) + 1);
+        length = writeVarint(block, length, users.encode(task.getAssignedUserId()) + 1);
+        length = writeName(block, length, name);
+        length = writeVarlong(block, length, task.getVersion());
+        long delta = task.getCompletedAt() - previousCompletedAt;
+        length = writeVarlong(block, length, (delta << 1) ^ (delta >> 63));
+        previousCompletedAt = task.getCompletedAt();
+        blockLengths[blockCount - 1] = length;
+        size++;
+    }
+
+    private byte[] newBlock(int bytes) {
+        if (blockCount == blocks.length) {
+            blocks = Arrays.copyOf(blocks, blockCount * 2);
+            blockLengths = Arrays.copyOf(blockLengths, blockCount * 2);
+        }
+        byte[] block = new byte[bytes];
+        blocks[blockCount] = block;
+        blockLengths[blockCount++] = 0;
+        previousCompletedAt = 0;
+        return block;
+    }
+
+    /**
+     * Dictionary code of the ID's prefix and digit width, packed in one int.
+     * Returns -1 for an unknown prefix when create is false; a null ID has shape 0.
+     */
+    private int idShape(String taskId, boolean create) {
+        if (taskId == null) return 0;
+        int digits = 0;
+        while (digits < taskId.length() && digits < MAX_ID_DIGITS) {
+            char ch = taskId.charAt(taskId.length() - 1 - digits);
+            if (ch < '0' || ch > '9') break;
+            digits++;
+        }
+        if (digits == MAX_ID_DIGITS) digits = 0; // too long for a long, keep the whole ID as prefix
+        String prefix = taskId.substring(0, taskId.length() - digits);
+        int code = create ? idPrefixes.encode(prefix) : idPrefixes.codeOf(prefix);
+        if (code < 0) return -1;
+        return ((code + 1) << WIDTH_BITS) | digits;
+    }
+
+    private static long idNumber(String taskId, int shape) {
+        int digits = shape & ((1 << WIDTH_BITS) - 1);
+        return digits == 0 ? 0 : Long.parseLong(taskId, taskId.length() - digits, taskId.length(), 10);
+    }
+
+    private String idOf(int shape, long number) {
+        if (shape == 0) return null;
+        String prefix = idPrefixes.valueOf((shape >>> WIDTH_BITS) - 1);
+        int digits = shape & ((1 << WIDTH_BITS) - 1);
+        if (digits == 0) return prefix;
+        StringBuilder id = new StringBuilder(prefix.length() + digits).append(prefix);
+        String value = Long.toString(number);
+        for (int i = value.length(); i < digits; i++) id.append('0');
+        return id.append(value).toString();
+    }
+
+    // Name field of a record at pos in the last block, see the record layout
+    private int writeName(byte[] block, int pos, byte[] name) {
+        if (name == null) return writeVarint(block, pos, 0);
+        int cached = Arrays.hashCode(name) & (RECENT_NAMES - 1);
+        long earlier = recentNames[cached] - 1;
+        if (earlier >= 0 && nameEquals(earlier, name)) return writeVarlong(block, pos, (earlier + 1) << 1);
+
+        recentNames[cached] = position(blockCount - 1, pos) + 1;
+        pos = writeVarlong(block, pos, ((long) name.length << 1) | 1);
+        System.arraycopy(name, 0, block, pos, name.length);
+        return pos + name.length;
+    }
+
+    private static long position(int block, int offset) {
+        return ((long) block << OFFSET_BITS) | offset;
+    }
+
+    // Offset of the bytes of the inline name at position, and their length: (offset << 32) | length
+    private long nameBytes(long position) {
+        byte[] block = blocks[(int) (position >>> OFFSET_BITS)];
+        int pos = (int) (position & ((1 << OFFSET_BITS) - 1));
+        long tag = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = block[pos++];
+            tag |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return ((long) pos << 32) | (tag >>> 1);
+    }
+
+    private boolean nameEquals(long position, byte[] name) {
+        byte[] block = blocks[(int) (position >>> OFFSET_BITS)];
+        long bytes = nameBytes(position);
+        int from = (int) (bytes >>> 32);
+        return Arrays.equals(block, from, from + (int) bytes, name, 0, name.length);
+    }
+
+    private String nameAt(long position) {
+        long bytes = nameBytes(position);
+        return new String(blocks[(int) (position >>> OFFSET_BITS)], (int) (bytes >>> 32), (int) bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int writeVarint(byte[] block, int pos, int value) {
+        return writeVarlong(block, pos, value & 0xFFFFFFFFL);
+    }
+
+    private static int writeVarlong(byte[] block, int pos, long value) {
+        while ((value & ~0x7FL) != 0) {
+            block[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        block[pos++] = (byte) value;
+        return pos;
+    }
+
+    private static long arrayBytes(long payload) {
+        return (16 + payload + 7) & ~7L;
+    }
+
+    /**
+     * Sequential reader over one block. next() decodes the varint fields of one
+     * record into primitives; Strings and the Task are only built by toTask().
+     */
+    private final class Cursor {
+        private byte[] block;
+        private int blockIndex;
+        private int end;
+        private int pos;
+        int shape;
+        long number;
+        int project;
+        int status;
+        int user;
+        long name; // position of the inline name, -1 for null
+        long version;
+        long completedAt;
+
+        void start(int blockIndex) {
+            this.blockIndex = blockIndex;
+            block = blocks[blockIndex];
+            end = blockLengths[blockIndex];
+            pos = 0;
+            completedAt = 0;
+        }
+
+        boolean next() {
+            if (pos >= end) return false;
+            shape = (int) varlong();
+            number = varlong();
+            project = (int) varlong();
+            status = (int) varlong();
+            user = (int) varlong();
+            int nameAt = pos;
+            long tag = varlong();
+            if (tag == 0) {
+                name = -1;
+            } else if ((tag & 1) != 0) {
+                name = position(blockIndex, nameAt);
+                pos += (int) (tag >>> 1);
+            } else {
+                name = (tag >>> 1) - 1;
+            }
+            version = varlong();
+            long zigzag = varlong();
+            completedAt += (zigzag >>> 1) ^ -(zigzag & 1);
+            return true;
+        }
+
+        Task toTask() {
+            return Task.restore(idOf(shape, number), name < 0 ? null : nameAt(name),
+                    statuses.valueOf(status - 1), projects.valueOf(project - 1), users.valueOf(user - 1),
+                    version, completedAt);
+        }
+
+        private long varlong() {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = block[pos++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+
+    /**
+     * Code per distinct value; meant for low-cardinality fields.
+     */
+    private static final class Dictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private String[] values = new String[8];
+
+        int encode(String value) {
+            if (value == null) return -1;
+            Integer code = codes.get(value);
+            if (code != null) return code;
+            int next = codes.size();
+            if (next == values.length) values = Arrays.copyOf(values, next * 2);
+            values[next] = value;
+            codes.put(value, next);
+            return next;
+        }
+
+        int codeOf(String value) {
+            Integer code = codes.get(value);
+            return code == null ? -1 : code;
+        }
+
+        // Value for a code, null for -1
+        String valueOf(int code) {
+            return code < 0 ? null : values[code];
+        }
+
+        long footprintBytes() {
+            long bytes = arrayBytes(4L * values.length);
+            for (int i = 0; i < codes.size(); i++) bytes += 96 + arrayBytes(values[i].length());
+            return bytes;
+        }
+    }
+}
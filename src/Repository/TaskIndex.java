@@ -0,0 +1,106 @@
+package Repository;
+
+import models.Task;
+import models.TaskQuery.Field;
+import utils.StringInterner;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Secondary indexes over TaskRepository slots: project, status and assignee.
+ * - Each key maps to a PostingList of slot numbers
+ * - The keys indexed for every slot are remembered, so when a slot gets a new
+ *   version of its task only the fields whose key changed touch a posting list
+ * - Keys are interned, so the remembered keys of all slots share one instance per value
+ * - Lookups take no lock. Updates of one slot must not overlap (TaskRepository
+ *   runs them under the slot's stripe lock); updates of different slots only
+ *   meet on the monitor of a posting list they both change
+ */
+public final class TaskIndex {
+
+    private static final Field[] FIELDS = Field.values();
+
+    private final Map<Field, ConcurrentHashMap<String, PostingList>> postings = new EnumMap<>(Field.class);
+    private final StringInterner interner;
+    private final SlotArray<String[]> slotKeys;
+
+    public TaskIndex(int initialCapacity) {
+        this(initialCapacity, StringInterner.global());
+    }
+
+    public TaskIndex(int initialCapacity, StringInterner interner) {
+        if (interner == null) throw new IllegalArgumentException("StringInterner cannot be null");
+        for (Field field : FIELDS) postings.put(field, new ConcurrentHashMap<>());
+        this.slotKeys = new SlotArray<>(initialCapacity);
+        this.interner = interner;
+    }
+
+    /**
+     * Normalize a value the way it is stored in the index.
+     * Statuses are matched case-insensitively everywhere else, so they are lower-cased.
+     */
+    public static String key(Field field, String value) {
+        if (value == null) return null;
+        return field == Field.STATUS ? value.toLowerCase(Locale.ROOT) : value;
+    }
+
+    /**
+     * The raw value of a field of a task, before key() normalizes it.
+     */
+    public static String valueOf(Field field, Task task) {
+        return switch (field) {
+            case PROJECT -> task.getProjectId();
+            case STATUS -> task.getTaskStatus();
+            case ASSIGNEE -> task.getAssignedUserId();
+        };
+    }
+
+    /**
+     * Index (or re-index) the task stored in a slot. A field is first removed
+     * from its old key and then added under the new one, so a lookup never
+     * finds the slot under two values of one field.
+     */
+    public void index(int slot, Task task) {
+        slotKeys.ensureCapacity(slot);
+        String[] old = slotKeys.get(slot);
+        String[] keys = new String[FIELDS.length];
+        for (Field field : FIELDS) keys[field.ordinal()] = interner.intern(key(field, valueOf(field, task)));
+        for (Field field : FIELDS) {
+            String before = old == null ? null : old[field.ordinal()];
+            String after = keys[field.ordinal()];
+            if (Objects.equals(before, after)) continue;
+            if (before != null) PostingList.remove(postings.get(field), before, slot);
+            if (after != null) PostingList.add(postings.get(field), after, slot);
+        }
+        slotKeys.set(slot, keys);
+    }
+
+    public void unindex(int slot) {
+        String[] keys = slotKeys.get(slot);
+        if (keys == null) return;
+        for (Field field : FIELDS) {
+            String key = keys[field.ordinal()];
+            if (key != null) PostingList.remove(postings.get(field), key, slot);
+        }
+        slotKeys.set(slot, null);
+    }
+
+    /**
+     * Postings for a raw (not yet normalized) value, or null if no task has it.
+     */
+    public PostingList postings(Field field, String value) {
+        String key = key(field, value);
+        return key == null ? null : postings.get(field).get(key);
+    }
+
+    /**
+     * Number of distinct keys currently indexed for a field.
+     */
+    public int distinctKeys(Field field) {
+        return postings.get(field).size();
+    }
+}
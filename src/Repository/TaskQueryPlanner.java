@@ -0,0 +1,43 @@
+package Repository;
+
+import models.TaskQuery;
+import models.TaskQuery.Field;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * TaskQueryPlanner following Single Responsibility Principle (SRP)
+ * - Only responsible for choosing how a TaskQuery is answered
+ * - The most selective index (fewest postings) drives the scan,
+ *   the other constrained fields become index probes
+ */
+public final class TaskQueryPlanner {
+
+    private final TaskIndex index;
+
+    public TaskQueryPlanner(TaskIndex index) {
+        if (index == null) throw new IllegalArgumentException("TaskIndex cannot be null");
+        this.index = index;
+    }
+
+    public QueryPlan plan(TaskQuery query) {
+        if (query == null) throw new IllegalArgumentException("Query cannot be null");
+
+        List<QueryPlan.Access> accesses = new ArrayList<>();
+        for (Field field : query.fields()) {
+            Set<String> values = query.valuesOf(field);
+            PostingList[] lists = new PostingList[values.size()];
+            int i = 0;
+            for (String value : values) lists[i++] = index.postings(field, value);
+            accesses.add(new QueryPlan.Access(field, values, lists));
+        }
+        if (accesses.isEmpty()) return new QueryPlan(query, null, new QueryPlan.Access[0]);
+
+        accesses.sort(Comparator.comparingInt(a -> a.estimatedRows));
+        QueryPlan.Access driving = accesses.remove(0);
+        return new QueryPlan(query, driving, accesses.toArray(new QueryPlan.Access[0]));
+    }
+}
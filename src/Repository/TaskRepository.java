@@ -3,83 +3,396 @@ package Repository;
 import interfaces.Completable;
 import interfaces.IRepository;
 import models.Task;
+import models.TaskQuery;
+import utils.IdCodec;
+import utils.StringInterner;
 import utils.exceptions.EmptyProjectException;
 import utils.exceptions.TaskNotFoundException;
 import utils.exceptions.UserNotFoundException;
+import utils.jfr.CapacityGrowthEvent;
+import utils.jfr.RepositoryScanEvent;
+import utils.metrics.Counter;
+import utils.metrics.LatencyHistogram;
+import utils.metrics.MetricsRegistry;
 
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
 
 /**
  * TaskRepository following Single Responsibility Principle (SRP)
  * - Only responsible for Task data persistence
  * - Implements IRepository for Dependency Inversion (DIP)
+ * - Safe for concurrent writers without a repository-wide lock: a slot is
+ *   changed with a lock-free compare-and-set, then its index entries are brought
+ *   in line under a lock striped by slot number, so writers of different tasks
+ *   do not wait for each other
+ * - Readers take no lock; postings may trail a slot by one update while it is
+ *   re-indexed, so every lookup rechecks the tasks it returns
  */
-public class TaskRepository implements IRepository<Task>, Completable {
+public class TaskRepository implements IRepository<Task>, Completable, Iterable<Task> {
+    private static final String NAME = "TaskRepository";
+    private static final MetricsRegistry METRICS = MetricsRegistry.global();
+    private static final Counter CAPACITY_GROWTHS = METRICS.counter("TaskRepository.capacityGrowths");
+    private static final LatencyHistogram ADD_TIME = METRICS.sampledHistogram("TaskRepository.add");
+    private static final LatencyHistogram GET_BY_ID_TIME = METRICS.sampledHistogram("TaskRepository.getById");
+    private static final LatencyHistogram FIND_TIME = METRICS.sampledHistogram("TaskRepository.find");
+    private static final LatencyHistogram GET_ALL_TIME = METRICS.sampledHistogram("TaskRepository.getAll");
+    private static final LatencyHistogram UPDATE_TIME = METRICS.sampledHistogram("TaskRepository.update");
+    private static final LatencyHistogram COMPARE_AND_SET_TIME = METRICS.sampledHistogram("TaskRepository.compareAndSet");
+    private static final LatencyHistogram REMOVE_BY_ID_TIME = METRICS.sampledHistogram("TaskRepository.removeById");
+    private static final LatencyHistogram REMOVE_BY_PROJECT_ID_TIME = METRICS.sampledHistogram("TaskRepository.removeByProjectId");
+    private static final LatencyHistogram REMOVE_COMPLETED_BEFORE_TIME = METRICS.sampledHistogram("TaskRepository.removeCompletedBefore");
+    private static final LatencyHistogram GET_PAGE_TIME = METRICS.sampledHistogram("TaskRepository.getPage");
+    private static final LatencyHistogram FIND_BY_PROJECT_ID_TIME = METRICS.sampledHistogram("TaskRepository.findByProjectId");
+    private static final LatencyHistogram FIND_BY_TASK_ID_TIME = METRICS.sampledHistogram("TaskRepository.findByTaskId");
+    private static final LatencyHistogram FIND_BY_ASSIGNED_USER_ID_TIME = METRICS.sampledHistogram("TaskRepository.findByAssignedUserId");
+    private static final LatencyHistogram QUERY_TIME = METRICS.sampledHistogram("TaskRepository.query");
+    private static final LatencyHistogram EXPLAIN_TIME = METRICS.sampledHistogram("TaskRepository.explain");
+    private static final LatencyHistogram SEARCH_BY_NAME_TIME = METRICS.sampledHistogram("TaskRepository.searchByName");
+    private static final LatencyHistogram MARK_AS_COMPLETE_TIME = METRICS.sampledHistogram("TaskRepository.markAsComplete");
 
-    private Task[] tasks;
+    private static final int STRIPES = 64;
+
+    // Slots hold immutable tasks; a new version is swapped in with compareAndSet
+    private final SlotArray<Task> tasks;
+    // Index maintenance of a slot runs under stripes[slot % STRIPES], see reindex
+    private final Object[] stripes = new Object[STRIPES];
+    private final TaskIndex taskIndex;
+    private final TaskQueryPlanner planner;
+    private final TextIndex nameIndex;
+    private final StringInterner interner;
 
     public TaskRepository(int initialCapacity) {
+        this(initialCapacity, StringInterner.global());
+    }
+
+    /**
+     * @param interner canonicalizes the status, project and assignee IDs of stored tasks
+     */
+    public TaskRepository(int initialCapacity, StringInterner interner) {
         if (initialCapacity <= 0) initialCapacity = 50;
-        this.tasks = new Task[initialCapacity];
+        if (interner == null) throw new IllegalArgumentException("StringInterner cannot be null");
+        this.interner = interner;
+        this.tasks = new SlotArray<>(initialCapacity);
+        for (int i = 0; i < STRIPES; i++) stripes[i] = new Object();
+        this.taskIndex = new TaskIndex(initialCapacity, interner);
+        this.planner = new TaskQueryPlanner(taskIndex);
+        this.nameIndex = new TextIndex(initialCapacity);
     }
 
     private void ensureCapacity(int index) {
-        if (index < tasks.length) return;
+        if (index < tasks.capacity()) return;
 
-        int newCapacity = Math.max(tasks.length * 2, 1);
-        while (newCapacity <= index) newCapacity *= 2;
-        tasks = Arrays.copyOf(tasks, newCapacity);
+        CapacityGrowthEvent event = new CapacityGrowthEvent();
+        event.begin();
+        int oldCapacity = tasks.capacity();
+        if (!tasks.ensureCapacity(index)) return;
+        CAPACITY_GROWTHS.increment();
+        event.finish(NAME, oldCapacity, tasks.capacity());
+    }
+
+    /**
+     * Bring the indexes in line with what a slot holds now. Every writer calls
+     * this after its swap; it re-reads the slot rather than indexing the value the
+     * writer stored, so when swaps of one slot race, whichever reindex runs last
+     * indexes the latest value. Slots that share a stripe wait for each other
+     * here, other writers do not.
+     */
+    private void reindex(int slot) {
+        synchronized (stripes[slot & (STRIPES - 1)]) {
+            Task task = tasks.get(slot);
+            if (task == null) {
+                taskIndex.unindex(slot);
+                nameIndex.remove(slot);
+            } else {
+                taskIndex.index(slot, task);
+                nameIndex.index(slot, task.getTaskName());
+            }
+        }
     }
 
     @Override
     public void add(Task task, int index) {
-        if (task == null) throw new TaskNotFoundException("Task cannot be null");
-        ensureCapacity(index);
-        if (tasks[index] != null)
-            throw new TaskNotFoundException("Task already exists at index " + index);
-
-        tasks[index] = task;
+        long startNanos = ADD_TIME.start();
+        try {
+            if (task == null) throw new TaskNotFoundException("Task cannot be null");
+            if (index < 0) throw new TaskNotFoundException("Invalid Index");
+            task = canonical(task);
+            ensureCapacity(index);
+            if (!tasks.compareAndSet(index, null, task))
+                throw new TaskNotFoundException("Task already exists at index " + index);
+            reindex(index);
+        } finally {
+            ADD_TIME.recordSince(startNanos);
+        }
     }
 
     @Override
     public Task getById(int index) {
-        if (index < 0 || index >= tasks.length) return null;
-        if(tasks[index]==null) throw  new TaskNotFoundException("Task does not exist");
+        long startNanos = GET_BY_ID_TIME.start();
+        try {
+            if (index < 0 || index >= tasks.capacity()) return null;
+            Task task = tasks.get(index);
+            if(task==null) throw  new TaskNotFoundException("Task does not exist");
 
-        return tasks[index];
+            return task;
+        } finally {
+            GET_BY_ID_TIME.recordSince(startNanos);
+        }
+    }
+
+    @Override
+    public Task find(int index) {
+        long startNanos = FIND_TIME.start();
+        try {
+            return tasks.get(index);
+        } finally {
+            FIND_TIME.recordSince(startNanos);
+        }
     }
 
     @Override
     public Task[] getAll() {
-        // Return trimmed array (no null slots)
-        int count = 0;
-        for (Task t : tasks) if (t != null) count++;
-        Task[] result = new Task[count];
-        int i = 0;
-        for (Task t : tasks) if (t != null) result[i++] = t;
-        return result;
+        long startNanos = GET_ALL_TIME.start();
+        RepositoryScanEvent scan = new RepositoryScanEvent();
+        scan.begin();
+        try {
+            // One pass over the slots up to one capacity snapshot into a growable buffer, trimmed at the end
+            int capacity = tasks.capacity();
+            Task[] result = new Task[Math.min(capacity, 16)];
+            int count = 0;
+            for (int slot = 0; slot < capacity; slot++) {
+                Task t = tasks.load(slot);
+                if (t == null) continue;
+                if (count == result.length) result = Arrays.copyOf(result, count * 2);
+                result[count++] = t;
+            }
+            scan.finish(NAME, "getAll", capacity, count);
+            return count == result.length ? result : Arrays.copyOf(result, count);
+        } finally {
+            GET_ALL_TIME.recordSince(startNanos);
+        }
     }
 
     @Override
     public void update(int index, Task task) {
-        if (index < 0) throw new TaskNotFoundException("Invalid Index");
-        ensureCapacity(index);
-        if(tasks[index]==null) throw  new TaskNotFoundException("Task does not exist");
+        long startNanos = UPDATE_TIME.start();
+        try {
+            if (index < 0) throw new TaskNotFoundException("Invalid Index");
+            task = canonical(task);
+            while (true) {
+                Task current = tasks.get(index);
+                if(current==null) throw  new TaskNotFoundException("Task does not exist");
+                if (tasks.compareAndSet(index, current, task)) break;
+            }
+            reindex(index);
+        } finally {
+            UPDATE_TIME.recordSince(startNanos);
+        }
+    }
+
+    /**
+     * The task as it would be stored: repeated fields replaced by shared instances.
+     * Returns task itself when they already are, so callers can keep the instance
+     * they swap in with compareAndSet.
+     */
+    public Task canonical(Task task) {
+        return task.withSharedStrings(interner::intern);
+    }
 
-        tasks[index] = task;
+    /**
+     * Swap a new version of a task into its slot, only if the slot still holds
+     * expected. A writer that loses the race gets false and can re-read.
+     * The swap itself takes no lock; the index update that follows only locks
+     * the slot's stripe, see reindex.
+     */
+    public boolean compareAndSet(int index, Task expected, Task replacement) {
+        long startNanos = COMPARE_AND_SET_TIME.start();
+        try {
+            if (replacement == null) throw new TaskNotFoundException("Task cannot be null");
+            replacement = canonical(replacement);
+            if (!tasks.compareAndSet(index, expected, replacement)) return false;
+            reindex(index);
+            return true;
+        } finally {
+            COMPARE_AND_SET_TIME.recordSince(startNanos);
+        }
     }
 
     @Override
-    public void removeById(int index) {
-        if (index < 0 || index >= tasks.length) throw  new TaskNotFoundException("Invalid Index");
+    public Task removeById(int index) {
+        long startNanos = REMOVE_BY_ID_TIME.start();
+        try {
+            if (index < 0 || index >= tasks.capacity()) throw  new TaskNotFoundException("Invalid Index");
+            // Slots stay keyed by the ID number, so a delete only clears its own slot
+            Task removed = tasks.getAndSet(index, null);
+            if(removed==null) throw  new TaskNotFoundException("Task does not exist");
+            reindex(index);
+            return removed;
+        } finally {
+            REMOVE_BY_ID_TIME.recordSince(startNanos);
+        }
+    }
 
+    /**
+     * Remove every task of a project in one pass over its project postings.
+     * Every index list leaves a tombstone per removed slot, so the cost is
+     * O(project tasks * log n). A task moved to another project meanwhile is kept.
+     *
+     * @return the removed tasks, in slot order
+     */
+    public Task[] removeByProjectId(String projectId) {
+        long startNanos = REMOVE_BY_PROJECT_ID_TIME.start();
+        try {
+            if (projectId == null) throw new EmptyProjectException("Project ID cannot be null");
+            PostingList postings = taskIndex.postings(TaskQuery.Field.PROJECT, projectId);
+            if (postings == null) return new Task[0];
 
-        // Compact array by shifting elements
-        for (int j = index; j < tasks.length - 1; j++) {
-            if(tasks[j]==null) throw  new TaskNotFoundException("Task does not exist");
-            tasks[j] = tasks[j + 1];
+            return removeSlots(postings.toArray(), task -> projectId.equals(task.getProjectId()));
+        } finally {
+            REMOVE_BY_PROJECT_ID_TIME.recordSince(startNanos);
         }
-        tasks[tasks.length - 1] = null;
+    }
+
+    /**
+     * Remove every task completed before cutoffMillis (epoch millis), e.g. to move
+     * it to the archive tier. Only the "completed" status postings are visited.
+     *
+     * @return the removed tasks, in slot order
+     */
+    public Task[] removeCompletedBefore(long cutoffMillis) {
+        long startNanos = REMOVE_COMPLETED_BEFORE_TIME.start();
+        try {
+            PostingList completed = taskIndex.postings(TaskQuery.Field.STATUS, "Completed");
+            if (completed == null) return new Task[0];
+
+            return removeSlots(completed.toArray(),
+                    task -> "Completed".equalsIgnoreCase(task.getTaskStatus()) && task.getCompletedAt() < cutoffMillis);
+        } finally {
+            REMOVE_COMPLETED_BEFORE_TIME.recordSince(startNanos);
+        }
+    }
+
+    // Clear the slots (ascending) whose task still matches when it is swapped out
+    private Task[] removeSlots(int[] slots, Predicate<Task> matches) {
+        Task[] removed = new Task[slots.length];
+        int count = 0;
+        for (int slot : slots) {
+            Task task = tasks.get(slot);
+            while (task != null && matches.test(task)) {
+                if (tasks.compareAndSet(slot, task, null)) {
+                    removed[count++] = task;
+                    reindex(slot);
+                    break;
+                }
+                task = tasks.get(slot);
+            }
+        }
+        return count == removed.length ? removed : Arrays.copyOf(removed, count);
+    }
+
+    @Override
+    public Task[] getPage(int afterIndex, int limit) {
+        long startNanos = GET_PAGE_TIME.start();
+        RepositoryScanEvent scan = new RepositoryScanEvent();
+        scan.begin();
+        try {
+            Task[] page = new Task[Math.max(0, limit)];
+            int count = 0;
+            int capacity = tasks.capacity();
+            // Nothing follows the last index; afterIndex + 1 would wrap around to the first page
+            int first = afterIndex == Integer.MAX_VALUE ? capacity : Math.max(0, afterIndex + 1);
+            int i = first;
+            for (; i < capacity && count < page.length; i++) {
+                Task task = tasks.load(i);
+                if (task != null) page[count++] = task;
+            }
+            scan.finish(NAME, "getPage", i - first, count);
+            return count == page.length ? page : Arrays.copyOf(page, count);
+        } finally {
+            GET_PAGE_TIME.recordSince(startNanos);
+        }
+    }
+
+
+    /**
+     * The slots of the repository, for scans split across threads without copying
+     * them. Like iterator(), the view does not see later growth; it reads every
+     * slot as it is when the slot is read.
+     */
+    public Slots slots() {
+        return new Slots(null, tasks, tasks.capacity());
+    }
+
+    /**
+     * Read-only, indexable view of task slots; empty slots read as null.
+     * Tasks are immutable, so a view may be read from several threads at once.
+     */
+    public static final class Slots {
+        private final Task[] array;
+        private final SlotArray<Task> store;
+        private final int length;
+
+        private Slots(Task[] array, SlotArray<Task> store, int length) {
+            this.array = array;
+            this.store = store;
+            this.length = length;
+        }
+
+        /**
+         * View over an existing array (not copied), e.g. tasks that are not in a repository
+         */
+        public static Slots of(Task[] tasks) {
+            Task[] array = tasks == null ? new Task[0] : tasks;
+            return new Slots(array, null, array.length);
+        }
+
+        public int length() {
+            return length;
+        }
+
+        public Task get(int slot) {
+            if (array != null) return array[slot];
+            if (slot < 0 || slot >= length) throw new IndexOutOfBoundsException("Slot " + slot + " is out of range");
+            return store.load(slot);
+        }
+    }
+
+    /**
+     * Iterate stored tasks slot by slot without copying the backing array.
+     * The iterator is weakly consistent: it covers the capacity there was when it
+     * was created, and returns each task as it was when its slot was reached.
+     */
+    @Override
+    public Iterator<Task> iterator() {
+        final int capacity = tasks.capacity();
+        return new Iterator<>() {
+            private Task next = advance(0);
+            private int position;
+
+            private Task advance(int from) {
+                for (position = from; position < capacity; position++) {
+                    Task task = tasks.load(position);
+                    if (task != null) return task;
+                }
+                return null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Task next() {
+                if (next == null) throw new NoSuchElementException();
+                Task task = next;
+                next = advance(position + 1);
+                return task;
+            }
+        };
     }
 
     /**
@@ -88,31 +401,139 @@ public class TaskRepository implements IRepository<Task>, Completable {
      * - Closed for modification
      */
     public Task[] findByProjectId(String projectId) {
-        if (projectId == null) throw new EmptyProjectException("Project ID cannot be null");
-        return Arrays.stream(tasks)
-                .filter(t -> t != null && projectId.equals(t.getProjectId()))
-                .toArray(Task[]::new);
+        long startNanos = FIND_BY_PROJECT_ID_TIME.start();
+        try {
+            if (projectId == null) throw new EmptyProjectException("Project ID cannot be null");
+            return tasksAt(TaskQuery.Field.PROJECT, projectId, "findByProjectId");
+        } finally {
+            FIND_BY_PROJECT_ID_TIME.recordSince(startNanos);
+        }
     }
 
+    /**
+     * Tasks live in the slot named by the number in their ID, so the lookup goes
+     * straight to that slot and confirms the ID; malformed IDs are a miss.
+     */
     public Task findByTaskId(String taskId) {
-        if (taskId == null) throw new TaskNotFoundException("Project ID cannot be null");
-        return Arrays.stream(tasks)
-                .filter(t -> t != null && taskId.equals(t.getTaskId()))
-                .findFirst()
-                .orElse(null);
+        long startNanos = FIND_BY_TASK_ID_TIME.start();
+        RepositoryScanEvent scan = new RepositoryScanEvent();
+        scan.begin();
+        try {
+            if (taskId == null) throw new TaskNotFoundException("Project ID cannot be null");
+            int index = IdCodec.parseDigits(taskId, 1);
+            Task t = tasks.get(index);
+            if (t != null && taskId.equals(t.getTaskId())) {
+                scan.finish(NAME, "findByTaskId", 1, 1);
+                return t;
+            }
+            scan.finish(NAME, "findByTaskId", index == IdCodec.INVALID ? 0 : 1, 0);
+            return null;
+        } finally {
+            FIND_BY_TASK_ID_TIME.recordSince(startNanos);
+        }
     }
 
     public Task[] findByAssignedUserId(String userId) {
-        if (userId == null) throw new UserNotFoundException("User ID cannot be null");
-        return Arrays.stream(tasks)
-                .filter(t -> t != null && userId.equals(t.getAssignedUserId()))
-                .toArray(Task[]::new);
+        long startNanos = FIND_BY_ASSIGNED_USER_ID_TIME.start();
+        try {
+            if (userId == null) throw new UserNotFoundException("User ID cannot be null");
+            return tasksAt(TaskQuery.Field.ASSIGNEE, userId, "findByAssignedUserId");
+        } finally {
+            FIND_BY_ASSIGNED_USER_ID_TIME.recordSince(startNanos);
+        }
     }
 
-    @Override
-    public void markAsComplete(Task task) {
+    /**
+     * Run a composable query; the planner picks the most selective index
+     */
+    public Task[] query(TaskQuery query) {
+        long startNanos = QUERY_TIME.start();
+        RepositoryScanEvent scan = new RepositoryScanEvent();
+        scan.begin();
+        try {
+            QueryPlan plan = planner.plan(query);
+            Task[] result = plan.execute(slots());
+            scan.finish(NAME, "query", plan.rowsExamined(), result.length);
+            return result;
+        } finally {
+            QUERY_TIME.recordSince(startNanos);
+        }
+    }
+
+    /**
+     * Run a query and describe which index was used and how many rows were examined
+     */
+    public String explain(TaskQuery query) {
+        long startNanos = EXPLAIN_TIME.start();
+        try {
+            QueryPlan plan = planner.plan(query);
+            plan.execute(slots());
+            return plan.explain();
+        } finally {
+            EXPLAIN_TIME.recordSince(startNanos);
+        }
+    }
 
-        task.setTaskStatus("Completed");
+    /**
+     * Full-text search over task names, best matches first
+     */
+    public Task[] searchByName(String query, int limit) {
+        long startNanos = SEARCH_BY_NAME_TIME.start();
+        RepositoryScanEvent scan = new RepositoryScanEvent();
+        scan.begin();
+        try {
+            // A hit whose slot was emptied since the index was read is dropped
+            TextIndex.Hit[] hits = nameIndex.search(query, limit);
+            Task[] result = new Task[hits.length];
+            int count = 0;
+            for (TextIndex.Hit hit : hits) {
+                Task task = tasks.get(hit.slot());
+                if (task != null) result[count++] = task;
+            }
+            scan.finish(NAME, "searchByName", hits.length, count);
+            return count == result.length ? result : Arrays.copyOf(result, count);
+        } finally {
+            SEARCH_BY_NAME_TIME.recordSince(startNanos);
+        }
+    }
+
+    // Tasks in the postings of one field value; slots emptied or changed since the
+    // postings were read are skipped, so only tasks that have the value are returned
+    private Task[] tasksAt(TaskQuery.Field field, String value, String operation) {
+        RepositoryScanEvent scan = new RepositoryScanEvent();
+        scan.begin();
+        PostingList slots = taskIndex.postings(field, value);
+        if (slots == null) {
+            scan.finish(NAME, operation, 0, 0);
+            return new Task[0];
+        }
+        String key = TaskIndex.key(field, value);
+        int[] found = slots.toArray();
+        Task[] result = new Task[found.length];
+        int count = 0;
+        for (int slot : found) {
+            Task task = tasks.get(slot);
+            if (task != null && key.equals(TaskIndex.key(field, TaskIndex.valueOf(field, task)))) result[count++] = task;
+        }
+        scan.finish(NAME, operation, found.length, count);
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
 
+    @Override
+    public void markAsComplete(Task task) {
+        long startNanos = MARK_AS_COMPLETE_TIME.start();
+        try {
+            // The slot is named by the ID; swap in a completed version, re-reading on a lost race.
+            // No index is read here, compareAndSet keeps them in line
+            if (task == null || task.getTaskId() == null) return;
+            int slot = IdCodec.parseDigits(task.getTaskId(), 1);
+            Task current = find(slot);
+            while (current != null && current.getTaskId().equals(task.getTaskId())) {
+                if (compareAndSet(slot, current, current.withStatus("Completed"))) return;
+                current = find(slot);
+            }
+        } finally {
+            MARK_AS_COMPLETE_TIME.recordSince(startNanos);
+        }
     }
 }
@@ -0,0 +1,225 @@
+package Repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process inverted index over the text of repository slots.
+ * - Text is lower-cased and split on anything that is not a letter or digit
+ * - Every query term also matches terms it is a prefix of ("deploy" finds "deployment")
+ * - Hits are ranked by idf of the matched terms, exact matches weigh more than
+ *   prefix matches, short documents rank above long ones
+ * - Only the k best hits are kept, using a bounded min-heap
+ * - Search takes no lock. Updates of one slot must not overlap (the repository
+ *   runs them under the slot's stripe lock); updates of different slots only
+ *   meet on the monitor of a term's posting list
+ * - A term whose last document goes keeps its (empty) list, so a term that
+ *   comes back costs no map update; empty lists are swept out in batches once
+ *   there are about half as many as terms that survived the last sweep
+ */
+public final class TextIndex {
+
+    private static final double PREFIX_WEIGHT = 0.6;
+    private static final int MIN_SWEEP = 1024;
+
+    private final ConcurrentSkipListMap<String, PostingList> terms = new ConcurrentSkipListMap<>();
+    private final SlotArray<Document> documentsBySlot;
+    private final AtomicInteger documents = new AtomicInteger();
+    private final AtomicInteger emptied = new AtomicInteger(); // lists emptied since the last sweep
+    private volatile int sweepAfter = MIN_SWEEP;
+
+    public TextIndex(int initialCapacity) {
+        this.documentsBySlot = new SlotArray<>(initialCapacity);
+    }
+
+    /**
+     * What a slot was indexed with: its text (to skip re-indexing the same text),
+     * its distinct terms and the posting list each term was added to, so removing
+     * the document needs no term lookup.
+     */
+    private record Document(String text, String[] terms, PostingList[] postings) {
+    }
+
+    /**
+     * A ranked search result: the slot of the document and its score.
+     */
+    public record Hit(int slot, double score) {
+    }
+
+    public static String[] tokenize(String text) {
+        if (text == null || text.isEmpty()) return new String[0];
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean word = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (word && start < 0) start = i;
+            if (!word && start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return tokens.toArray(new String[0]);
+    }
+
+    /**
+     * Index (or re-index) the text stored in a slot; unchanged text is left as it is.
+     * The slot's terms are recorded before its postings are added, so a search
+     * that finds the slot can always weigh it.
+     */
+    public void index(int slot, String text) {
+        if (text == null) text = "";
+        Document old = documentsBySlot.get(slot);
+        if (old != null && text.equals(old.text())) return;
+        String[] tokens = Arrays.stream(tokenize(text)).distinct().toArray(String[]::new);
+        remove(slot);
+        PostingList[] postings = new PostingList[tokens.length];
+        Document document = new Document(text, tokens, postings);
+        documentsBySlot.ensureCapacity(slot);
+        documentsBySlot.set(slot, document);
+        documents.incrementAndGet();
+        for (int i = 0; i < tokens.length; i++) postings[i] = PostingList.add(terms, tokens[i], slot);
+    }
+
+    public void remove(int slot) {
+        Document document = documentsBySlot.get(slot);
+        if (document == null) return;
+        PostingList[] postings = document.postings();
+        int nowEmpty = 0;
+        for (PostingList list : postings) {
+            if (PostingList.removeKeepingList(list, slot)) nowEmpty++;
+        }
+        documentsBySlot.set(slot, null);
+        documents.decrementAndGet();
+        if (nowEmpty > 0 && emptied.addAndGet(nowEmpty) > sweepAfter && emptied.getAndSet(0) > sweepAfter) sweep();
+    }
+
+    // Drop the empty lists; the next sweep waits for half as many emptied lists as terms kept,
+    // so the pass over all terms is O(1) amortized per emptied list
+    private void sweep() {
+        int kept = 0;
+        for (Map.Entry<String, PostingList> term : terms.entrySet()) {
+            if (!PostingList.retireIfEmpty(terms, term.getKey(), term.getValue())) kept++;
+        }
+        sweepAfter = Math.max(MIN_SWEEP, kept / 2);
+    }
+
+    /**
+     * Remove many documents, one binary search per term and slot.
+     */
+    public void removeAll(int[] slots) {
+        for (int slot : slots) remove(slot);
+    }
+
+    /**
+     * Top-k documents for a free-text query, best first.
+     */
+    public Hit[] search(String query, int k) {
+        String[] queryTerms = tokenize(query);
+        int documents = this.documents.get();
+        if (queryTerms.length == 0 || k <= 0 || documents <= 0) return new Hit[0];
+
+        ScoreTable scores = new ScoreTable();
+        for (int t = 0; t < queryTerms.length; t++) {
+            String queryTerm = queryTerms[t];
+            Map<String, PostingList> matches = terms.subMap(queryTerm, queryTerm + Character.MAX_VALUE);
+            for (Map.Entry<String, PostingList> match : matches.entrySet()) {
+                PostingList postings = match.getValue();
+                double idf = Math.log(1.0 + (double) documents / Math.max(1, postings.size()));
+                double weight = match.getKey().length() == queryTerm.length() ? idf : idf * PREFIX_WEIGHT;
+                for (int slot : postings.toArray()) scores.accumulate(slot, t, weight);
+            }
+        }
+
+        PriorityQueue<Hit> best = new PriorityQueue<>(k + 1, (a, b) -> Double.compare(a.score(), b.score()));
+        for (int e = 0; e < scores.keys.length; e++) {
+            int slot = scores.keys[e];
+            if (slot < 0) continue;
+            // A document removed since its postings were read is skipped
+            Document document = documentsBySlot.get(slot);
+            if (document == null) continue;
+            double score = scores.totals[e] / Math.sqrt(document.terms().length);
+            if (best.size() < k) {
+                best.add(new Hit(slot, score));
+            } else if (score > best.peek().score()) {
+                best.poll();
+                best.add(new Hit(slot, score));
+            }
+        }
+
+        Hit[] hits = new Hit[best.size()];
+        for (int i = hits.length - 1; i >= 0; i--) hits[i] = best.poll();
+        return hits;
+    }
+
+    public int documentCount() {
+        return documents.get();
+    }
+
+    /**
+     * Open-addressing slot -> score table, avoids boxing a key per matched document.
+     * A document matching one query term through several words counts its best word only.
+     */
+    private static final class ScoreTable {
+        private int[] keys = newKeys(64);
+        private double[] totals = new double[64];
+        private double[] termBest = new double[64];
+        private int[] termSeen = new int[64];
+        private int size;
+
+        private static int[] newKeys(int capacity) {
+            int[] keys = new int[capacity];
+            Arrays.fill(keys, -1);
+            return keys;
+        }
+
+        void accumulate(int slot, int term, double weight) {
+            int e = find(slot);
+            if (keys[e] < 0) {
+                keys[e] = slot;
+                termSeen[e] = term;
+                termBest[e] = weight;
+                totals[e] = weight;
+                if (++size * 2 > keys.length) grow();
+            } else if (termSeen[e] != term) {
+                termSeen[e] = term;
+                termBest[e] = weight;
+                totals[e] += weight;
+            } else if (weight > termBest[e]) {
+                totals[e] += weight - termBest[e];
+                termBest[e] = weight;
+            }
+        }
+
+        private int find(int slot) {
+            int mask = keys.length - 1;
+            int e = (slot * 0x9E3779B9) >>> 1 & mask;
+            while (keys[e] >= 0 && keys[e] != slot) e = (e + 1) & mask;
+            return e;
+        }
+
+        private void grow() {
+            int[] oldKeys = keys;
+            double[] oldTotals = totals;
+            double[] oldBest = termBest;
+            int[] oldSeen = termSeen;
+            keys = newKeys(oldKeys.length * 2);
+            totals = new double[keys.length];
+            termBest = new double[keys.length];
+            termSeen = new int[keys.length];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] < 0) continue;
+                int e = find(oldKeys[i]);
+                keys[e] = oldKeys[i];
+                totals[e] = oldTotals[i];
+                termBest[e] = oldBest[i];
+                termSeen[e] = oldSeen[i];
+            }
+        }
+    }
+}
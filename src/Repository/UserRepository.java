@@ -2,7 +2,13 @@ package Repository;
 
 import interfaces.IRepository;
 import models.User;
+import utils.IdCodec;
+import utils.StringInterner;
 import utils.exceptions.UserNotFoundException;
+import utils.jfr.CapacityGrowthEvent;
+import utils.metrics.Counter;
+import utils.metrics.LatencyHistogram;
+import utils.metrics.MetricsRegistry;
 
 import java.util.Arrays;
 
@@ -12,77 +18,170 @@ import java.util.Arrays;
  * - Implements IRepository for Dependency Inversion (DIP)
  */
 public class UserRepository implements IRepository<User> {
+    private static final MetricsRegistry METRICS = MetricsRegistry.global();
+    private static final Counter CAPACITY_GROWTHS = METRICS.counter("UserRepository.capacityGrowths");
+    private static final LatencyHistogram ADD_TIME = METRICS.sampledHistogram("UserRepository.add");
+    private static final LatencyHistogram GET_BY_ID_TIME = METRICS.sampledHistogram("UserRepository.getById");
+    private static final LatencyHistogram FIND_TIME = METRICS.sampledHistogram("UserRepository.find");
+    private static final LatencyHistogram GET_ALL_TIME = METRICS.sampledHistogram("UserRepository.getAll");
+    private static final LatencyHistogram UPDATE_TIME = METRICS.sampledHistogram("UserRepository.update");
+    private static final LatencyHistogram REMOVE_BY_ID_TIME = METRICS.sampledHistogram("UserRepository.removeById");
+    private static final LatencyHistogram GET_PAGE_TIME = METRICS.sampledHistogram("UserRepository.getPage");
+    private static final LatencyHistogram FIND_BY_USER_ID_TIME = METRICS.sampledHistogram("UserRepository.findByUserId");
+    private static final LatencyHistogram FIND_BY_ROLE_TIME = METRICS.sampledHistogram("UserRepository.findByRole");
 
     private User[] users;
+    private final StringInterner interner;
 
     public UserRepository(int initialCapacity) {
+        this(initialCapacity, StringInterner.global());
+    }
+
+    /**
+     * @param interner canonicalizes the ID and role of stored users
+     */
+    public UserRepository(int initialCapacity, StringInterner interner) {
         if (initialCapacity <= 0) initialCapacity = 20;
+        if (interner == null) throw new IllegalArgumentException("StringInterner cannot be null");
         this.users = new User[initialCapacity];
+        this.interner = interner;
     }
 
     private void ensureCapacity(int index) {
         if (index < users.length) return;
 
-        int newCapacity = Math.max(users.length * 2, 1);
+        CapacityGrowthEvent event = new CapacityGrowthEvent();
+        event.begin();
+        int oldCapacity = users.length;
+        int newCapacity = Math.max(oldCapacity * 2, 1);
         while (newCapacity <= index) newCapacity *= 2;
         users = Arrays.copyOf(users, newCapacity);
+        CAPACITY_GROWTHS.increment();
+        event.finish("UserRepository", oldCapacity, newCapacity);
     }
 
     @Override
     public void add(User user, int index) {
-        if (user == null) throw new UserNotFoundException("User cannot be null");
-        ensureCapacity(index);
-        if (users[index] != null)
-            throw new UserNotFoundException("User already exists at index " + index);
+        long startNanos = ADD_TIME.start();
+        try {
+            if (user == null) throw new UserNotFoundException("User cannot be null");
+            ensureCapacity(index);
+            if (users[index] != null)
+                throw new UserNotFoundException("User already exists at index " + index);
 
-        users[index] = user;
+            user.shareStrings(interner::intern);
+            users[index] = user;
+        } finally {
+            ADD_TIME.recordSince(startNanos);
+        }
     }
 
     @Override
     public User getById(int index) {
-        if (index < 0 || index >= users.length) throw new UserNotFoundException("Invalid index");
-        return users[index];
+        long startNanos = GET_BY_ID_TIME.start();
+        try {
+            if (index < 0 || index >= users.length) throw new UserNotFoundException("Invalid index");
+            return users[index];
+        } finally {
+            GET_BY_ID_TIME.recordSince(startNanos);
+        }
+    }
+
+    @Override
+    public User find(int index) {
+        long startNanos = FIND_TIME.start();
+        try {
+            User[] slots = users;
+            return index >= 0 && index < slots.length ? slots[index] : null;
+        } finally {
+            FIND_TIME.recordSince(startNanos);
+        }
     }
 
     @Override
     public User[] getAll() {
-        // Return trimmed array (no null slots)
-        int count = 0;
-        for (User u : users) if (u != null) count++;
-        User[] result = new User[count];
-        int i = 0;
-        for (User u : users) if (u != null) result[i++] = u;
-        return result;
+        long startNanos = GET_ALL_TIME.start();
+        try {
+            // Return trimmed array (no null slots)
+            int count = 0;
+            for (User u : users) if (u != null) count++;
+            User[] result = new User[count];
+            int i = 0;
+            for (User u : users) if (u != null) result[i++] = u;
+            return result;
+        } finally {
+            GET_ALL_TIME.recordSince(startNanos);
+        }
     }
 
     @Override
     public void update(int index, User user) {
-        if (index < 0) throw new UserNotFoundException("Invalid index");
-        ensureCapacity(index);
-        users[index] = user;
+        long startNanos = UPDATE_TIME.start();
+        try {
+            if (index < 0) throw new UserNotFoundException("Invalid index");
+            ensureCapacity(index);
+            if (user != null) user.shareStrings(interner::intern);
+            users[index] = user;
+        } finally {
+            UPDATE_TIME.recordSince(startNanos);
+        }
     }
 
     @Override
-    public void removeById(int index) {
-        if (index < 0 || index >= users.length) return;
-        users[index] = null;
+    public User removeById(int index) {
+        long startNanos = REMOVE_BY_ID_TIME.start();
+        try {
+            if (index < 0 || index >= users.length) return null;
+            User removed = users[index];
+            users[index] = null;
+            return removed;
+        } finally {
+            REMOVE_BY_ID_TIME.recordSince(startNanos);
+        }
     }
 
+    @Override
+    public User[] getPage(int afterIndex, int limit) {
+        long startNanos = GET_PAGE_TIME.start();
+        try {
+            User[] page = new User[Math.max(0, limit)];
+            int count = 0;
+            // Nothing follows the last index; afterIndex + 1 would wrap around to the first page
+            int first = afterIndex == Integer.MAX_VALUE ? users.length : Math.max(0, afterIndex + 1);
+            for (int i = first; i < users.length && count < page.length; i++) {
+                if (users[i] != null) page[count++] = users[i];
+            }
+            return count == page.length ? page : Arrays.copyOf(page, count);
+        } finally {
+            GET_PAGE_TIME.recordSince(startNanos);
+        }
+    }
+
+
     /**
      * Query helpers following Open/Closed Principle (OCP)
      */
     public User findByUserId(String userId) {
-        if (userId == null) throw new UserNotFoundException("userId cannot be null");
-        return Arrays.stream(users)
-                .filter(u -> u != null && userId.equals(u.getId()))
-                .findFirst()
-                .orElse(null);
+        long startNanos = FIND_BY_USER_ID_TIME.start();
+        try {
+            if (userId == null) throw new UserNotFoundException("userId cannot be null");
+            // Users live in the slot named by the number in their ID; confirm the ID
+            User user = find(IdCodec.parseDigits(userId, 1));
+            return user != null && userId.equals(user.getId()) ? user : null;
+        } finally {
+            FIND_BY_USER_ID_TIME.recordSince(startNanos);
+        }
     }
 
     public User[] findByRole(String role) {
-        if (role == null) return new User[0];
-        return Arrays.stream(users)
-                .filter(u -> u != null && role.equalsIgnoreCase(u.getRole()))
-                .toArray(User[]::new);
+        long startNanos = FIND_BY_ROLE_TIME.start();
+        try {
+            if (role == null) return new User[0];
+            return Arrays.stream(users)
+                    .filter(u -> u != null && role.equalsIgnoreCase(u.getRole()))
+                    .toArray(User[]::new);
+        } finally {
+            FIND_BY_ROLE_TIME.recordSince(startNanos);
+        }
     }
 }
@@ -0,0 +1,148 @@
+package Tests;
+
+import Repository.TaskRepository;
+import interfaces.ICache;
+import models.CacheStats;
+import models.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import services.CachingTaskService;
+import services.GenerateTaskId;
+import services.TaskService;
+import utils.cache.LfuCache;
+import utils.cache.LruCache;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit 5 tests for the cache layer
+ * Tests cover:
+ * - LRU eviction order
+ * - LFU eviction order
+ * - Read-through hits and misses on CachingTaskService
+ * - Invalidation after mutations
+ * - A load overlapping an invalidate is returned but not cached
+ */
+class CacheTest {
+
+    private CachingTaskService cachingTaskService;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        TaskService taskService = new TaskService(new TaskRepository(10), new GenerateTaskId());
+        cachingTaskService = new CachingTaskService(taskService, new LruCache<>(4));
+        task = new Task("Write docs", "Pending", "P0001");
+        task = cachingTaskService.addTask(task);
+    }
+
+    /**
+     * Test: LRU evicts the entry that was used longest ago
+     */
+    @Test
+    void testLruEviction() {
+        // Given
+        LruCache<String, String> cache = new LruCache<>(2);
+        cache.put("a", "A");
+        cache.put("b", "B");
+
+        // When
+        cache.get("a");
+        cache.put("c", "C");
+
+        // Then
+        assertNull(cache.get("b"), "b was least recently used and should be evicted");
+        assertEquals("A", cache.get("a"));
+        assertEquals(1, cache.stats().evictions(), "Exactly one eviction expected");
+    }
+
+    /**
+     * Test: LFU evicts the least frequently used entry, oldest first on ties
+     */
+    @Test
+    void testLfuEviction() {
+        // Given
+        LfuCache<String, String> cache = new LfuCache<>(2);
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.get("a");
+        cache.get("a");
+        cache.get("b");
+
+        // When
+        cache.put("c", "C");
+        cache.put("d", "D");
+
+        // Then
+        assertEquals("A", cache.get("a"), "Most frequently used entry should survive");
+        assertNull(cache.get("b"), "b should be evicted before a");
+        assertNull(cache.get("c"), "c is the older of the two single-use entries");
+        assertEquals("D", cache.get("d"));
+    }
+
+    /**
+     * Test: Repeated lookups are served from the cache
+     */
+    @Test
+    void testReadThrough() {
+        // When
+        Task first = cachingTaskService.getTaskById(task.getTaskId());
+        Task second = cachingTaskService.getTaskById(task.getTaskId());
+
+        // Then
+        assertSame(first, second);
+        CacheStats stats = cachingTaskService.getCacheStats();
+        assertEquals(1, stats.misses(), "First lookup should miss");
+        assertEquals(1, stats.hits(), "Second lookup should hit");
+        assertEquals(0.5, stats.hitRate(), 1e-9);
+    }
+
+    /**
+     * Test: Status updates and deletes invalidate the cached task
+     */
+    @Test
+    void testInvalidationOnMutation() {
+        // Given
+        cachingTaskService.getTaskById(task.getTaskId());
+
+        // When
+        cachingTaskService.updateTaskStatus(task.getTaskId(), "Completed");
+
+        // Then
+        assertEquals(0, cachingTaskService.getCacheStats().size(), "Update should drop the cached entry");
+        assertEquals("Completed", cachingTaskService.getTaskById(task.getTaskId()).getTaskStatus());
+
+        // When
+        cachingTaskService.deleteTask(task.getTaskId());
+
+        // Then
+        assertEquals(0, cachingTaskService.getCacheStats().size(), "Delete should drop the cached entry");
+    }
+
+    /**
+     * Test: An invalidate that lands while a value is loading keeps the stale value out
+     */
+    @Test
+    void testInvalidateDuringLoad() {
+        for (ICache<String, String> cache : List.<ICache<String, String>>of(new LruCache<>(4), new LfuCache<>(4))) {
+            // Given: the loader reads the old value, then a writer changes it and invalidates
+            String[] store = {"old"};
+
+            // When
+            String loaded = cache.getOrLoad("k", key -> {
+                String value = store[0];
+                store[0] = "new";
+                cache.invalidate(key);
+                return value;
+            });
+
+            // Then
+            assertEquals("old", loaded, "The caller still gets what it loaded");
+            assertNull(cache.get("k"), cache.getClass().getSimpleName() + " must not cache the stale value");
+            assertEquals("new", cache.getOrLoad("k", key -> store[0]));
+            assertEquals("new", cache.get("k"), "A load without an invalidate is cached");
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package Tests;
+
+import Repository.ProjectRepository;
+import Repository.TaskRepository;
+import models.CascadeDeleteResult;
+import models.SoftwareProject;
+import models.Task;
+import models.TaskQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import services.CachingProjectService;
+import services.CachingTaskService;
+import services.CascadeDeleteService;
+import services.GenerateProjectId;
+import services.GenerateTaskId;
+import services.ProjectService;
+import services.ProjectUserAssignmentOperations;
+import services.TaskService;
+import services.events.DomainEvent;
+import services.events.EventBus;
+import utils.cache.LruCache;
+import utils.exceptions.EmptyProjectException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit 5 tests for CascadeDeleteService
+ * Tests cover:
+ * - Deleting a project removes its tasks and assignments, other projects keep theirs
+ * - Status, assignee and name indexes stay consistent after the bulk removal
+ * - One event per removed row is published
+ * - Deleting an unknown project is rejected
+ * - ProjectService.deleteProjectById is unaffected by building a cascade
+ * - Caching decorators subscribed to the bus drop the removed rows
+ */
+class CascadeDeleteTest {
+
+    private ProjectService projectService;
+    private TaskService taskService;
+    private ProjectUserAssignmentOperations assignments;
+    private CascadeDeleteService cascade;
+    private EventBus bus;
+    private List<DomainEvent> published;
+    private SoftwareProject doomed;
+    private SoftwareProject kept;
+
+    @BeforeEach
+    void setUp() {
+        bus = new EventBus();
+        published = new ArrayList<>();
+        bus.subscribe(published::add);
+        projectService = new ProjectService(new ProjectRepository(10), new GenerateProjectId(), bus);
+        taskService = new TaskService(new TaskRepository(10), new GenerateTaskId(), bus);
+        assignments = new ProjectUserAssignmentOperations(projectService, null, 10, bus);
+        cascade = new CascadeDeleteService(projectService, taskService, assignments);
+
+        doomed = new SoftwareProject("Doomed", "Desc", "Software", 5, "Java", 1000.0);
+        kept = new SoftwareProject("Kept", "Desc", "Software", 5, "Java", 1000.0);
+        projectService.addProject(doomed);
+        projectService.addProject(kept);
+        for (int i = 0; i < 30; i++) {
+            // Interleave the two projects so their slots are mixed in every index
+            taskService.addTask(new Task("Build step " + i, "Pending", doomed.getId(), "U0001"));
+            taskService.addTask(new Task("Build step " + i, "Pending", kept.getId(), "U0001"));
+        }
+        assignments.assignUsers(doomed.getId(), "U0001", "U0002");
+        assignments.assignUser(kept.getId(), "U0001");
+    }
+
+    /**
+     * Test: Only the deleted project's tasks and team are gone
+     */
+    @Test
+    void testDeleteRemovesTasksAndAssignments() {
+        // Given
+        published.clear();
+
+        // When
+        CascadeDeleteResult result = cascade.deleteProject(doomed.getId());
+
+        // Then
+        assertEquals(30, result.tasksRemoved());
+        assertEquals(2, result.assignmentsRemoved());
+        assertEquals(0, taskService.getTasksByProjectId(doomed.getId()).length);
+        assertEquals(30, taskService.getTasksByProjectId(kept.getId()).length, "Other projects keep their tasks");
+        assertArrayEquals(new String[]{kept.getId()}, assignments.getProjectsForUser("U0001"));
+        assertEquals(0, assignments.countProjectsForUser("U0002"));
+        assertThrows(RuntimeException.class, () -> projectService.getProjectById(doomed.getId()));
+        assertEquals(30 + 2 + 1, published.size(), "One event per removed task, assignment and project");
+    }
+
+    /**
+     * Test: Shared index lists are compacted correctly
+     */
+    @Test
+    void testIndexesStayConsistent() {
+        // When
+        cascade.deleteProject(doomed.getId());
+
+        // Then
+        Task[] pending = taskService.findTasks(new TaskQuery().statusIs("Pending"));
+        assertEquals(30, pending.length);
+        for (Task task : pending) assertEquals(kept.getId(), task.getProjectId());
+        assertEquals(30, taskService.getTasksByAssignedUserId("U0001").length);
+        for (Task task : taskService.searchTasks("build", 100)) assertEquals(kept.getId(), task.getProjectId());
+    }
+
+    /**
+     * Test: Unknown projects are rejected and nothing is published
+     */
+    @Test
+    void testDeleteUnknownProject() {
+        published.clear();
+        assertThrows(EmptyProjectException.class, () -> cascade.deleteProject("P9999"));
+        assertTrue(published.isEmpty());
+    }
+
+    /**
+     * Test: The cascade is called explicitly, building it does not change ProjectService
+     */
+    @Test
+    void testProjectServiceDeleteIsNotRedirected() {
+        // Given
+        published.clear();
+
+        // When
+        projectService.deleteProjectById(doomed.getId());
+
+        // Then: only the project went, the cascade was not used behind the caller's back
+        assertFalse(projectService.findProjectById(doomed.getId()).isPresent());
+        assertEquals(30, taskService.getTasksByProjectId(doomed.getId()).length);
+        assertArrayEquals(new String[]{doomed.getId()}, assignments.getProjectsForUser("U0002"));
+        assertEquals(List.of(new DomainEvent.ProjectRemoved(doomed.getId())), published);
+    }
+
+    /**
+     * Test: Cached rows removed by the cascade are not served afterwards
+     */
+    @Test
+    void testCachesDropCascadedRows() {
+        // Given: caches warmed with the doomed project and one of its tasks
+        CachingTaskService cachedTasks = new CachingTaskService(taskService, new LruCache<>(16));
+        CachingProjectService cachedProjects = new CachingProjectService(projectService, new LruCache<>(16));
+        bus.subscribe(cachedTasks);
+        bus.subscribe(cachedProjects);
+        String taskId = taskService.getTasksByProjectId(doomed.getId())[0].getTaskId();
+        assertNotNull(cachedTasks.getTaskById(taskId));
+        assertTrue(cachedProjects.findProjectById(doomed.getId()).isPresent());
+
+        // When: deleted without going through the decorators
+        cascade.deleteProject(doomed.getId());
+
+        // Then
+        assertFalse(cachedTasks.findTaskById(taskId).isPresent(), "Deleted task must not come from the cache");
+        assertFalse(cachedProjects.findProjectById(doomed.getId()).isPresent(), "Removed project must not come from the cache");
+    }
+}
@@ -0,0 +1,202 @@
+package Tests;
+
+import Repository.SegmentLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import services.cdc.ChangeFeed;
+import services.cdc.ChangeRecord;
+import services.cdc.FileOffsetConsumer;
+import services.events.DomainEvent;
+import services.events.EventBus;
+import utils.exceptions.OffsetOutOfRangeException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit 5 tests for the change-data-capture feed
+ * Tests cover:
+ * - Events published on the bus are readable in order with offsets
+ * - Offsets survive reopening the log
+ * - Retention deletes old segments and reports out-of-range offsets
+ * - A torn record at the end of the log is dropped on reopen
+ * - A corrupt older segment or a missing middle segment fails the open
+ * - The file-based consumer resumes where it stopped
+ */
+class ChangeFeedTest {
+
+    private static final int HEADER_BYTES = 8;
+
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("change-feed");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    /**
+     * Test: Published events come back decoded, in order, after a reopen
+     */
+    @Test
+    void testFeedIsOrderedAndDurable() {
+        // Given
+        EventBus bus = new EventBus();
+        try (ChangeFeed feed = new ChangeFeed(new SegmentLog(directory.resolve("log"), 1 << 20, 4, false))) {
+            bus.subscribe(feed);
+
+            // When
+            bus.publish(new DomainEvent.TaskCreated("T0001", "P0001", null, "Pending"));
+            bus.publish(new DomainEvent.TaskStatusChanged("T0001", "P0001", "U0001", "Pending", "Completed"));
+            bus.publishAll(new DomainEvent.UserAssigned("P0001", "U0001"), new DomainEvent.ProjectRemoved("P0001"));
+        }
+
+        // Then
+        try (ChangeFeed reopened = new ChangeFeed(new SegmentLog(directory.resolve("log"), 1 << 20, 4, false))) {
+            assertEquals(4, reopened.endOffset(), "Offsets must survive a restart");
+            List<ChangeRecord> changes = reopened.read(1, 10);
+            assertEquals(3, changes.size());
+            assertEquals(1, changes.get(0).offset());
+            assertEquals(new DomainEvent.TaskStatusChanged("T0001", "P0001", "U0001", "Pending", "Completed"),
+                    changes.get(0).event());
+            assertEquals(new DomainEvent.ProjectRemoved("P0001"), changes.get(2).event());
+            assertTrue(reopened.read(4, 10).isEmpty(), "Reading at the end returns nothing");
+        }
+    }
+
+    /**
+     * Test: Old segments are deleted and their offsets are reported as out of range
+     */
+    @Test
+    void testRetentionBoundsTheLog() {
+        // Given: tiny segments so every few records roll a new one
+        try (SegmentLog log = new SegmentLog(directory.resolve("log"), 64, 3, false)) {
+
+            // When
+            for (int i = 0; i < 100; i++) log.append(("record-" + i).getBytes());
+
+            // Then
+            assertTrue(log.startOffset() > 0, "Oldest segments should be gone");
+            OffsetOutOfRangeException e = assertThrows(OffsetOutOfRangeException.class, () -> log.read(0, 10));
+            assertEquals(log.startOffset(), e.getStartOffset());
+            assertEquals("record-99", new String(log.read(99, 1).get(0).payload()));
+        }
+    }
+
+    /**
+     * Test: A half-written last record is truncated when the log is reopened
+     */
+    @Test
+    void testTornTailIsRecovered() throws IOException {
+        // Given
+        Path logDir = directory.resolve("log");
+        try (SegmentLog log = new SegmentLog(logDir, 1 << 20, 2, false)) {
+            log.append("first".getBytes());
+            log.append("second".getBytes());
+        }
+        Path segment;
+        try (Stream<Path> files = Files.list(logDir)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 50, 1, 2}));   // header promising 50 bytes, then crash
+        }
+
+        // When
+        try (SegmentLog log = new SegmentLog(logDir, 1 << 20, 2, false)) {
+
+            // Then
+            assertEquals(2, log.endOffset(), "Torn record must not be visible");
+            assertEquals(2, log.append("third".getBytes()), "Appends continue after the last good record");
+            assertEquals("third", new String(log.read(2, 1).get(0).payload()));
+        }
+    }
+
+    /**
+     * Test: Damage in a sealed segment is not silently cut off
+     */
+    @Test
+    void testCorruptOlderSegmentFailsOpen() throws IOException {
+        // Given: records spread over several segments
+        Path logDir = directory.resolve("log");
+        try (SegmentLog log = new SegmentLog(logDir, 32, 10, false)) {
+            for (int i = 0; i < 8; i++) log.append(("record-" + i).getBytes());
+        }
+        Path oldest;
+        long sizeBefore;
+        try (Stream<Path> files = Files.list(logDir)) {
+            oldest = files.sorted().findFirst().orElseThrow();
+        }
+        sizeBefore = Files.size(oldest);
+        try (FileChannel channel = FileChannel.open(oldest, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{42}), HEADER_BYTES + 1);   // flip a payload byte
+        }
+
+        // When / Then
+        assertThrows(UncheckedIOException.class, () -> new SegmentLog(logDir, 32, 10, false),
+                "A bad frame in an older segment must fail the open");
+        assertEquals(sizeBefore, Files.size(oldest), "The sealed segment must not be truncated");
+    }
+
+    /**
+     * Test: A deleted middle segment leaves a gap in the offsets and fails the open
+     */
+    @Test
+    void testSegmentGapFailsOpen() throws IOException {
+        // Given
+        Path logDir = directory.resolve("log");
+        try (SegmentLog log = new SegmentLog(logDir, 32, 10, false)) {
+            for (int i = 0; i < 8; i++) log.append(("record-" + i).getBytes());
+        }
+        try (Stream<Path> files = Files.list(logDir)) {
+            Files.delete(files.sorted().skip(1).findFirst().orElseThrow());
+        }
+
+        // When / Then
+        assertThrows(UncheckedIOException.class, () -> new SegmentLog(logDir, 32, 10, false));
+    }
+
+    /**
+     * Test: The file consumer stores its offset and only sees new changes after a restart
+     */
+    @Test
+    void testFileConsumerResumes() {
+        // Given
+        Path offsetFile = directory.resolve("consumer.offset");
+        try (ChangeFeed feed = new ChangeFeed(new SegmentLog(directory.resolve("log"), 1 << 20, 4, false))) {
+            for (int i = 0; i < 5; i++) feed.onEvent(new DomainEvent.UserCreated("U" + i, "Regular"));
+
+            List<ChangeRecord> seen = new ArrayList<>();
+            FileOffsetConsumer consumer = new FileOffsetConsumer(feed, offsetFile);
+            assertEquals(3, consumer.poll(3, seen::add));
+
+            // When: restart the consumer and add more changes
+            FileOffsetConsumer restarted = new FileOffsetConsumer(feed, offsetFile);
+            feed.onEvent(new DomainEvent.UserCreated("U5", "Admin"));
+            int handled = restarted.poll(100, seen::add);
+
+            // Then
+            assertEquals(3, handled, "Only the changes after the stored offset are read");
+            assertEquals(6, restarted.position());
+            for (int i = 0; i < seen.size(); i++) assertEquals(i, seen.get(i).offset(), "No change seen twice or skipped");
+        }
+    }
+}
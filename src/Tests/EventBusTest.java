@@ -0,0 +1,175 @@
+package Tests;
+
+import Repository.TaskRepository;
+import models.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import services.GenerateTaskId;
+import services.TaskService;
+import services.events.DomainEvent;
+import services.events.EventBus;
+import services.events.EventSubscriber;
+import utils.metrics.MetricsRegistry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit 5 tests for the domain event bus
+ * Tests cover:
+ * - TaskService publishes value snapshots of its mutations
+ * - Subscribing twice delivers once
+ * - A failing subscriber does not stop delivery to the others
+ * - A failing event does not stop the rest of its batch
+ * - Failures go to the failure handler, a throwing handler changes nothing
+ * - Asynchronous mode keeps publish order and delivers in batches
+ */
+class EventBusTest {
+
+    private EventBus eventBus;
+    private List<DomainEvent> received;
+
+    @BeforeEach
+    void setUp() {
+        eventBus = new EventBus();
+        received = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    /**
+     * Test: Task mutations are published with the state at publish time
+     */
+    @Test
+    void testTaskServicePublishesSnapshots() {
+        // Given
+        TaskService taskService = new TaskService(new TaskRepository(10), new GenerateTaskId(), eventBus);
+        eventBus.subscribe(received::add);
+        Task task = new Task("Write docs", "Pending", "P0001");
+
+        // When
+        task = taskService.addTask(task);
+        taskService.updateTaskStatus(task.getTaskId(), "Completed");
+        taskService.deleteTask(task.getTaskId());
+
+        // Then
+        assertEquals(3, received.size());
+        DomainEvent.TaskCreated created = assertInstanceOf(DomainEvent.TaskCreated.class, received.get(0));
+        assertEquals("Pending", created.status(), "Created event keeps the status it was published with");
+        DomainEvent.TaskStatusChanged changed = assertInstanceOf(DomainEvent.TaskStatusChanged.class, received.get(1));
+        assertEquals("Pending", changed.oldStatus());
+        assertEquals("Completed", changed.newStatus());
+        assertInstanceOf(DomainEvent.TaskDeleted.class, received.get(2));
+    }
+
+    /**
+     * Test: Duplicate subscriptions and failing subscribers
+     */
+    @Test
+    void testSubscriptionAndFailureIsolation() {
+        // Given
+        EventSubscriber collector = received::add;
+        eventBus.subscribe(event -> {
+            throw new IllegalStateException("boom");
+        });
+        eventBus.subscribe(collector);
+        eventBus.subscribe(collector);
+
+        // When
+        eventBus.publish(new DomainEvent.ProjectRemoved("P0001"));
+
+        // Then
+        assertEquals(1, received.size(), "Subscriber should get the event exactly once despite the failing one");
+    }
+
+    /**
+     * Test: One bad event in a batch is reported, the events after it still arrive
+     */
+    @Test
+    void testBatchFailureIsolatedPerEvent() {
+        // Given: a subscriber that fails on project removals
+        eventBus.subscribe(event -> {
+            if (event instanceof DomainEvent.ProjectRemoved) throw new IllegalStateException("boom");
+            received.add(event);
+        });
+        long errorsBefore = MetricsRegistry.global().counter("EventBus.subscriberErrors").get();
+
+        // When
+        eventBus.publishAll(
+                new DomainEvent.ProjectAdded("P0001", "Alpha"),
+                new DomainEvent.ProjectRemoved("P0001"),
+                new DomainEvent.ProjectAdded("P0002", "Beta"),
+                new DomainEvent.ProjectRemoved("P0002"),
+                new DomainEvent.ProjectAdded("P0003", "Gamma"));
+
+        // Then
+        assertEquals(3, received.size(), "Events after a failed one must still be delivered");
+        assertEquals("P0003", ((DomainEvent.ProjectAdded) received.get(2)).projectId());
+        assertEquals(2, MetricsRegistry.global().counter("EventBus.subscriberErrors").get() - errorsBefore,
+                "Each failed event is reported");
+    }
+
+    /**
+     * Test: Each subscriber failure reaches the failure handler, even one that throws itself
+     */
+    @Test
+    void testFailureHandler() {
+        // Given
+        List<RuntimeException> failures = new ArrayList<>();
+        EventSubscriber failing = event -> {
+            throw new IllegalStateException("boom");
+        };
+        eventBus.subscribe(failing);
+        eventBus.subscribe(received::add);
+        eventBus.setFailureHandler((subscriber, failure) -> {
+            assertSame(failing, subscriber);
+            failures.add(failure);
+            throw new IllegalStateException("handler failed too");
+        });
+
+        // When
+        eventBus.publish(new DomainEvent.ProjectRemoved("P0001"));
+        eventBus.setFailureHandler(null);
+        eventBus.publish(new DomainEvent.ProjectRemoved("P0002"));
+
+        // Then
+        assertEquals(1, failures.size(), "Only failures before the handler was cleared are handed over");
+        assertEquals("boom", failures.get(0).getMessage());
+        assertEquals(2, received.size(), "A throwing handler must not stop delivery");
+    }
+
+    /**
+     * Test: Asynchronous mode delivers everything, in order, in batches
+     */
+    @Test
+    void testAsyncDeliveryInOrder() {
+        // Given
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        try (EventBus async = EventBus.async(64)) {
+            async.subscribe(new EventSubscriber() {
+                @Override
+                public void onEvent(DomainEvent event) {
+                    received.add(event);
+                }
+
+                @Override
+                public void onBatch(DomainEvent[] events, int count) {
+                    batchSizes.add(count);
+                    for (int i = 0; i < count; i++) onEvent(events[i]);
+                }
+            });
+
+            // When (more events than the ring holds, publishers must wait)
+            for (int i = 0; i < 1_000; i++) async.publish(new DomainEvent.UserAssigned("P0001", "U" + i));
+            async.awaitDelivered();
+        }
+
+        // Then
+        assertEquals(1_000, received.size(), "No event may be dropped");
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals("U" + i, ((DomainEvent.UserAssigned) received.get(i)).userId(), "Order must be kept");
+        }
+        assertEquals(1_000, batchSizes.stream().mapToInt(Integer::intValue).sum());
+    }
+}
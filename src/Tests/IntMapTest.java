@@ -0,0 +1,110 @@
+package Tests;
+
+import interfaces.IdGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import services.GenerateUserId;
+import utils.collections.IntIntMap;
+import utils.collections.IntObjectMap;
+import utils.collections.LinkedIntSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit 5 tests for the primitive int keyed maps and sets and ID keys
+ * Tests cover:
+ * - Entries survive growth and removal of their neighbours in a probe run
+ * - IntIntMap accepts every int as key and value, including 0 and -1
+ * - LinkedIntSet keeps insertion order across removals and node reuse
+ * - keyOf and idOf are inverse, and non canonical IDs have no key
+ */
+class IntMapTest {
+
+    private IntObjectMap<String> objects;
+    private IntIntMap counts;
+
+    @BeforeEach
+    void setUp() {
+        objects = new IntObjectMap<>(4);
+        counts = new IntIntMap(4);
+    }
+
+    /**
+     * Test: Every other key removed after growth, the rest are still found
+     */
+    @Test
+    void testPutRemoveAcrossGrowth() {
+        // Given
+        for (int i = 0; i < 1000; i++) objects.put(i * 16, "v" + i);
+
+        // When
+        for (int i = 0; i < 1000; i += 2) assertEquals("v" + i, objects.remove(i * 16));
+
+        // Then
+        assertEquals(500, objects.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 2 == 0 ? null : "v" + i, objects.get(i * 16), "Key " + i * 16);
+        }
+        assertEquals(16, objects.minKey(), "Smallest remaining key");
+    }
+
+    /**
+     * Test: Zero and negative keys and values are ordinary entries
+     */
+    @Test
+    void testIntIntMapEdgeValues() {
+        // When
+        counts.put(0, -1);
+        counts.addTo(-1, 5);
+        counts.addTo(-1, 5);
+
+        // Then
+        assertEquals(-1, counts.get(0, 42));
+        assertEquals(10, counts.get(-1, 42));
+        assertEquals(42, counts.get(7, 42), "Absent keys return the given default");
+        assertTrue(counts.remove(0));
+        assertFalse(counts.containsKey(0));
+        assertEquals(1, counts.size());
+    }
+
+    /**
+     * Test: Removing from the head, middle and tail keeps the order of the rest
+     */
+    @Test
+    void testLinkedIntSetOrder() {
+        // Given
+        LinkedIntSet set = new LinkedIntSet(2);
+        for (int i = 0; i < 10; i++) assertTrue(set.add(i));
+        assertFalse(set.add(3), "Duplicates are not added");
+
+        // When
+        set.remove(0);
+        set.remove(5);
+        set.remove(9);
+        assertFalse(set.remove(5), "Already removed");
+        set.add(5);
+        set.add(-1);
+
+        // Then: re-added values go to the end, freed nodes are reused
+        assertArrayEquals(new int[]{1, 2, 3, 4, 6, 7, 8, 5, -1}, set.toArray());
+        assertTrue(set.contains(-1));
+        assertFalse(set.contains(0));
+        assertEquals(9, set.size());
+    }
+
+    /**
+     * Test: Only the generated form of an ID has a key
+     */
+    @Test
+    void testIdKeys() {
+        IdGenerator users = new GenerateUserId();
+        assertEquals(42, users.keyOf("U0042"));
+        assertEquals("U0042", users.idOf(42));
+        assertEquals(12345, users.keyOf("U12345"));
+        assertEquals(-1, users.keyOf("U42"), "Too short");
+        assertEquals(-1, users.keyOf("U00042"), "Leading zero beyond the padding");
+        assertEquals(-1, users.keyOf("P0042"), "Wrong prefix");
+        assertEquals(-1, users.keyOf("U00x2"));
+        assertEquals(-1, users.keyOf(null));
+    }
+}
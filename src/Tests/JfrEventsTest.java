@@ -0,0 +1,89 @@
+package Tests;
+
+import Repository.TaskRepository;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import models.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit 5 tests for the custom JFR events
+ * Tests cover:
+ * - Events are not recorded unless enabled
+ * - Scan and capacity growth events carry their attributes when enabled
+ */
+class JfrEventsTest {
+
+    private TaskRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new TaskRepository(2);
+    }
+
+    /**
+     * Test: A default recording does not contain the events
+     */
+    @Test
+    void testDisabledByDefault() throws Exception {
+        // When
+        List<RecordedEvent> events = record(false);
+
+        // Then
+        assertTrue(events.stream().noneMatch(e -> e.getEventType().getName().startsWith("pms.")),
+                "Events should be disabled unless explicitly enabled");
+    }
+
+    /**
+     * Test: Enabled events report rows and capacities
+     */
+    @Test
+    void testEnabledEventsCarryAttributes() throws Exception {
+        // When
+        List<RecordedEvent> events = record(true);
+
+        // Then
+        RecordedEvent growth = events.stream()
+                .filter(e -> e.getEventType().getName().equals("pms.CapacityGrowth"))
+                .findFirst().orElseThrow();
+        assertEquals(2, growth.getInt("oldCapacity"));
+        assertEquals(4, growth.getInt("newCapacity"));
+
+        RecordedEvent scan = events.stream()
+                .filter(e -> e.getEventType().getName().equals("pms.RepositoryScan"))
+                .filter(e -> "findByTaskId".equals(e.getString("operation")))
+                .findFirst().orElseThrow();
+        assertEquals("TaskRepository", scan.getString("repository"));
+        assertEquals(1, scan.getInt("rowsScanned"), "Lookup should read only the slot named by the ID");
+        assertEquals(1, scan.getInt("rowsReturned"));
+    }
+
+    private List<RecordedEvent> record(boolean enabled) throws Exception {
+        Path file = Files.createTempFile("pms-events", ".jfr");
+        try (Recording recording = new Recording()) {
+            if (enabled) {
+                recording.enable("pms.RepositoryScan").withoutThreshold();
+                recording.enable("pms.CapacityGrowth").withoutThreshold();
+            }
+            recording.start();
+            for (int i = 0; i < 3; i++) {
+                Task task = new Task("Task " + i, "Pending", "P0001").withTaskId("T" + i);
+                repository.add(task, i);
+            }
+            repository.findByTaskId("T2");
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package Tests;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utils.metrics.Counter;
+import utils.metrics.LatencyHistogram;
+import utils.metrics.MetricsRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit 5 tests for the metrics registry
+ * Tests cover:
+ * - Histogram percentiles within the bucket precision
+ * - Sampled histograms: weighted count close to the number of calls
+ * - Counters and gauges
+ * - Dump output
+ */
+class MetricsTest {
+
+    private MetricsRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new MetricsRegistry();
+    }
+
+    /**
+     * Test: Percentiles of 1..10000 are reported within 6.25%
+     */
+    @Test
+    void testHistogramPercentiles() {
+        // Given
+        LatencyHistogram histogram = registry.histogram("test.latency");
+
+        // When
+        for (int i = 1; i <= 10_000; i++) histogram.record(i);
+
+        // Then
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(10_000, snapshot.count());
+        assertEquals(5_000.5, snapshot.mean(), 1e-9, "Mean is exact");
+        assertEquals(5_000, snapshot.p50(), 5_000 * 0.0625, "p50 within bucket precision");
+        assertEquals(9_900, snapshot.p99(), 9_900 * 0.0625, "p99 within bucket precision");
+        assertTrue(snapshot.p50() >= 5_000, "Percentiles never under-report");
+        assertEquals(10_000, snapshot.max(), 10_000 * 0.0625);
+        assertEquals(0, registry.histogram("test.empty").percentile(99), "Empty histogram reports zero");
+    }
+
+    /**
+     * Test: A sampled histogram times a fraction of the calls but estimates all of them
+     */
+    @Test
+    void testSampledHistogramEstimatesCount() {
+        // Given
+        LatencyHistogram sampled = registry.sampledHistogram("test.sampled");
+        int calls = 80_000;
+
+        // When
+        int timed = 0;
+        for (int i = 0; i < calls; i++) {
+            long startNanos = sampled.start();
+            if (startNanos != LatencyHistogram.NOT_SAMPLED) timed++;
+            sampled.recordSince(startNanos);
+        }
+
+        // Then
+        assertTrue(timed > 0 && timed < calls / 4, "Only a fraction of the calls should read the clock: " + timed);
+        assertEquals(calls, sampled.snapshot().count(), calls * 0.05, "Weighted count estimates every call");
+        assertEquals((long) timed * 8, sampled.snapshot().count(), "Each timed call stands for eight");
+        assertSame(sampled, registry.histogram("test.sampled"), "A name keeps its first registration");
+    }
+
+    /**
+     * Test: Same name returns the same metric; counters add up
+     */
+    @Test
+    void testCounterAndGauge() {
+        // Given
+        Counter counter = registry.counter("test.count");
+
+        // When
+        counter.increment();
+        registry.counter("test.count").add(4);
+        registry.gauge("test.gauge", () -> 42);
+
+        // Then
+        assertSame(counter, registry.counter("test.count"));
+        assertEquals(5, counter.get());
+        String dump = registry.dump();
+        assertTrue(dump.contains("test.count"), "Dump should list the counter");
+        assertTrue(dump.contains("42"), "Dump should sample the gauge");
+
+        // When
+        registry.reset();
+
+        // Then
+        assertEquals(0, counter.get(), "Reset should zero counters");
+    }
+}
@@ -0,0 +1,345 @@
+package Tests;
+
+import Repository.ProjectRepository;
+import Repository.TaskRepository;
+import models.SoftwareProject;
+import models.Project;
+import models.Task;
+import models.TaskQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import services.GenerateProjectId;
+import services.GenerateTaskId;
+import services.ProjectService;
+import services.TaskService;
+import services.events.DomainEvent;
+import services.events.EventBus;
+import utils.IdCodec;
+import utils.exceptions.VersionConflictException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit 5 tests for version-checked updates
+ * Tests cover:
+ * - Versions start at 0 and grow by one per change
+ * - Updates install a new Task, readers keep the version they loaded
+ * - A stale version is rejected with VersionConflictException
+ * - Of many writers racing on one version exactly one wins
+ * - Project replacement with a version check
+ * - Concurrent updates of different tasks and projects keep the indexes exact
+ * - Adds racing with capacity growth lose no task and no index entry
+ * - A delete racing with status updates reports the status it actually removed
+ * - Lock-free readers running beside writers only return tasks that match
+ */
+class OptimisticConcurrencyTest {
+
+    private TaskService taskService;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        taskService = new TaskService(new TaskRepository(10), new GenerateTaskId());
+        task = new Task("Write docs", "Pending", "P0001");
+        task = taskService.addTask(task);
+    }
+
+    /**
+     * Test: Updating with the current version succeeds, a stale one is refused
+     */
+    @Test
+    void testStaleVersionIsRejected() {
+        // Given
+        long version = task.getVersion();
+        assertEquals(0, version);
+
+        // When
+        Task updated = taskService.updateTaskStatus(task.getTaskId(), "In Progress", version);
+
+        // Then
+        assertEquals(1, updated.getVersion());
+        assertSame(updated, taskService.getTaskById(task.getTaskId()), "Repository should hold the new version");
+        assertEquals("Pending", task.getTaskStatus(), "The loaded instance must never change");
+        assertEquals(0, task.getVersion());
+        VersionConflictException e = assertThrows(VersionConflictException.class,
+                () -> taskService.updateTaskStatus(task.getTaskId(), "Completed", version));
+        assertEquals(1, e.getActualVersion(), "Conflict should report the version to retry from");
+        assertEquals("In Progress", taskService.getTaskById(task.getTaskId()).getTaskStatus(),
+                "Losing update must not be applied");
+    }
+
+    /**
+     * Test: Concurrent writers with the same expected version, only one wins
+     */
+    @Test
+    void testOneWinnerPerVersion() throws Exception {
+        // Given
+        int writers = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger wins = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+
+        // When
+        Future<?>[] futures = new Future<?>[writers];
+        for (int i = 0; i < writers; i++) {
+            String status = i % 2 == 0 ? "Completed" : "In Progress";
+            futures[i] = pool.submit(() -> {
+                start.await();
+                try {
+                    taskService.updateTaskStatus(task.getTaskId(), status, 0);
+                    wins.incrementAndGet();
+                } catch (VersionConflictException e) {
+                    conflicts.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        for (Future<?> f : futures) f.get(10, TimeUnit.SECONDS);
+        pool.shutdown();
+
+        // Then
+        assertEquals(1, wins.get(), "Exactly one writer may win");
+        assertEquals(writers - 1, conflicts.get());
+        assertEquals(1, taskService.getTaskById(task.getTaskId()).getVersion());
+    }
+
+    /**
+     * Test: Replacing a project bumps its version and rejects stale replacements
+     */
+    @Test
+    void testProjectUpdateWithVersion() {
+        // Given
+        ProjectService projectService = new ProjectService(new ProjectRepository(10), new GenerateProjectId());
+        SoftwareProject original = new SoftwareProject("Alpha", "Desc", "Software", 3, "Java", 1000.0);
+        projectService.addProject(original);
+
+        // When
+        SoftwareProject renamed = new SoftwareProject("Alpha v2", "Desc", "Software", 3, "Java", 1000.0);
+        renamed.setId(original.getId());
+        Project stored = projectService.updateProject(renamed, 0);
+
+        // Then
+        assertEquals(1, projectService.getProjectById(original.getId()).getVersion());
+        assertSame(stored, projectService.getProjectById(original.getId()));
+        assertEquals(0, renamed.getVersion(), "The caller's object must not be stamped");
+        assertEquals("Alpha v2", projectService.getProjectById(original.getId()).getName());
+        SoftwareProject stale = new SoftwareProject("Alpha stale", "Desc", "Software", 3, "Java", 1000.0);
+        stale.setId(original.getId());
+        assertThrows(VersionConflictException.class, () -> projectService.updateProject(stale, 0));
+        assertEquals("Alpha v2", projectService.getProjectById(original.getId()).getName());
+        assertEquals(0, stale.getVersion(), "A losing update leaves its object as it was");
+    }
+
+    /**
+     * Test: Writers racing on different tasks leave the status index matching the slots
+     */
+    @Test
+    void testConcurrentUpdatesKeepTaskIndex() throws Exception {
+        // Given: 4000 pending tasks, one slice per writer
+        int writers = 8;
+        int count = 4_000;
+        TaskService service = new TaskService(new TaskRepository(16), new GenerateTaskId());
+        String[] ids = new String[count];
+        for (int i = 0; i < count; i++) {
+            Task added = new Task("Task " + i, "Pending", "P000" + (i % 3 + 1));
+            added = service.addTask(added);
+            ids[i] = added.getTaskId();
+        }
+
+        // When: every writer moves its tasks to In Progress, and every fourth on to Completed
+        runConcurrently(writers, w -> {
+            for (int i = w; i < count; i += writers) {
+                service.updateTaskStatus(ids[i], "In Progress");
+                if (i % 4 == 0) service.updateTaskStatus(ids[i], "Completed");
+            }
+        });
+
+        // Then
+        assertEquals(count * 3 / 4, service.findTasks(new TaskQuery().statusIs("In Progress")).length,
+                "Every update must be indexed exactly once");
+        assertEquals(count / 4, service.findTasks(new TaskQuery().statusIs("Completed")).length);
+        assertEquals(0, service.findTasks(new TaskQuery().statusIs("Pending")).length, "No stale postings");
+    }
+
+    /**
+     * Test: Writers racing on different projects leave the text index matching the slots
+     */
+    @Test
+    void testConcurrentProjectUpdatesKeepTextIndex() throws Exception {
+        // Given
+        int writers = 8;
+        int count = 800;
+        ProjectService projectService = new ProjectService(new ProjectRepository(16), new GenerateProjectId());
+        String[] ids = new String[count];
+        for (int i = 0; i < count; i++) {
+            SoftwareProject project = new SoftwareProject("Draft " + i, "Desc", "Software", 3, "Java", 1000.0);
+            projectService.addProject(project);
+            ids[i] = project.getId();
+        }
+
+        // When
+        runConcurrently(writers, w -> {
+            for (int i = w; i < count; i += writers) {
+                SoftwareProject renamed = new SoftwareProject("Released " + i, "Desc", "Software", 3, "Java", 1000.0);
+                renamed.setId(ids[i]);
+                projectService.updateProject(renamed, 0);
+            }
+        });
+
+        // Then
+        Project[] released = projectService.searchProjects("released", count * 2);
+        assertEquals(count, released.length, "Every rename must be indexed");
+        assertEquals(0, projectService.searchProjects("draft", count).length, "Old names must be gone");
+    }
+
+    /**
+     * Test: Writers adding and updating while the slots grow under them lose nothing
+     */
+    @Test
+    void testConcurrentAddsDuringGrowth() throws Exception {
+        // Given: a repository of capacity 1, every writer adds an interleaved slice of IDs
+        int writers = 8;
+        int count = 20_000;
+        TaskRepository repository = new TaskRepository(1);
+
+        // When: each task is added and at once completed by its writer
+        runConcurrently(writers, w -> {
+            for (int i = w; i < count; i += writers) {
+                Task added = Task.restore(IdCodec.format('T', i), "Task " + i, "Pending", "P0001", null, 0, 0);
+                repository.add(added, i);
+                Task stored = repository.find(i);
+                assertTrue(repository.compareAndSet(i, stored, stored.withStatus("Completed")),
+                        "No other writer touches slot " + i);
+            }
+        });
+
+        // Then
+        assertEquals(count, repository.getAll().length, "A swap must never be lost to a concurrent growth");
+        assertEquals(count, repository.query(new TaskQuery().statusIs("Completed")).length);
+        assertEquals(0, repository.query(new TaskQuery().statusIs("Pending")).length);
+        assertEquals(count, repository.findByProjectId("P0001").length);
+    }
+
+    /**
+     * Test: The TaskDeleted event carries the last status stored before the delete
+     */
+    @Test
+    void testDeleteReportsTheRemovedStatus() throws Exception {
+        // Given
+        EventBus eventBus = new EventBus();
+        List<DomainEvent.TaskDeleted> deleted = Collections.synchronizedList(new ArrayList<>());
+        eventBus.subscribe(event -> {
+            if (event instanceof DomainEvent.TaskDeleted d) deleted.add(d);
+        });
+        TaskService service = new TaskService(new TaskRepository(16), new GenerateTaskId(), eventBus);
+        int rounds = 300;
+        String[] lastStored = new String[rounds];
+
+        for (int round = 0; round < rounds; round++) {
+            String id = service.addTask(new Task("Racy " + round, "Pending", "P0001")).getTaskId();
+            lastStored[round] = "Pending";
+            int current = round;
+
+            // When: one writer flips the status until the task is gone while the other deletes it
+            runConcurrently(2, w -> {
+                if (w == 1) {
+                    Thread.yield();
+                    service.deleteTask(id);
+                    return;
+                }
+                for (int flip = 0; ; flip++) {
+                    Task updated = service.updateTaskStatus(id, flip % 2 == 0 ? "In Progress" : "Pending");
+                    if (updated == null) return;
+                    lastStored[current] = updated.getTaskStatus();
+                }
+            });
+        }
+
+        // Then
+        assertEquals(rounds, deleted.size());
+        for (int round = 0; round < rounds; round++) {
+            assertEquals(lastStored[round], deleted.get(round).status(),
+                    "Round " + round + " reported a status that was already replaced");
+        }
+    }
+
+    /**
+     * Test: Queries and lookups running while writers flip statuses return no
+     * empty slot and no task whose current version does not match
+     */
+    @Test
+    void testReadersBesideWritersSeeMatchingTasks() throws Exception {
+        // Given
+        int count = 2_000;
+        TaskService service = new TaskService(new TaskRepository(16), new GenerateTaskId());
+        String[] ids = new String[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = service.addTask(new Task("Task " + i, "Pending", "P0001")).getTaskId();
+        }
+        AtomicInteger badReads = new AtomicInteger();
+
+        // When: writers 0-3 flip statuses, ending on Completed, readers 4-7 query
+        runConcurrently(8, w -> {
+            if (w < 4) {
+                for (int round = 0; round < 5; round++) {
+                    for (int i = w; i < count; i += 4) {
+                        service.updateTaskStatus(ids[i], round % 2 == 0 ? "Completed" : "Pending");
+                    }
+                }
+                return;
+            }
+            for (int round = 0; round < 50; round++) {
+                for (Task t : service.findTasks(new TaskQuery().statusIs("Completed").projectIs("P0001"))) {
+                    if (t == null || !"Completed".equals(t.getTaskStatus())) badReads.incrementAndGet();
+                }
+                for (Task t : service.getTasksByProjectId("P0001")) {
+                    if (t == null || !"P0001".equals(t.getProjectId())) badReads.incrementAndGet();
+                }
+                for (Task t : service.searchTasks("task", 20)) {
+                    if (t == null) badReads.incrementAndGet();
+                }
+            }
+        });
+
+        // Then
+        assertEquals(0, badReads.get(), "Readers must recheck what the postings point to");
+        assertEquals(count, service.findTasks(new TaskQuery().statusIs("Completed")).length);
+    }
+
+    private static void runConcurrently(int writers, WriterBody body) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        Future<?>[] futures = new Future<?>[writers];
+        for (int w = 0; w < writers; w++) {
+            int writer = w;
+            futures[w] = pool.submit(() -> {
+                start.await();
+                body.run(writer);
+                return null;
+            });
+        }
+        start.countDown();
+        try {
+            for (Future<?> f : futures) f.get(30, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @FunctionalInterface
+    private interface WriterBody {
+        void run(int writer);
+    }
+}
@@ -0,0 +1,150 @@
+package Tests;
+
+import Repository.ProjectRepository;
+import Repository.TaskRepository;
+import Repository.UserRepository;
+import models.Page;
+import models.RegularUser;
+import models.SoftwareProject;
+import models.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import services.GenerateTaskId;
+import services.TaskService;
+import utils.exceptions.InvalidInputException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit 5 tests for keyset (cursor) pagination
+ * Tests cover:
+ * - Walking every page with the returned cursor
+ * - Pages skipping deleted tasks
+ * - No next cursor when the last page is exactly full
+ * - Page size limits
+ * - Invalid cursors
+ * - A cursor at the last possible index ends the walk in every repository
+ */
+class PaginationTest {
+
+    private TaskService taskService;
+
+    @BeforeEach
+    void setUp() {
+        taskService = new TaskService(new TaskRepository(10), new GenerateTaskId());
+    }
+
+    /**
+     * Test: Walk all pages - every task is returned exactly once, in ID order
+     */
+    @Test
+    void testGetTasksPage_WalkAllPages() {
+        // Given: 25 tasks
+        for (int i = 0; i < 25; i++) {
+            taskService.addTask(new Task("Task " + i, "Pending", "P0001"));
+        }
+
+        // When: Reading pages of 10 until there is no next cursor
+        int seen = 0;
+        int pages = 0;
+        String cursor = null;
+        String previousId = "";
+        do {
+            Page<Task> page = taskService.getTasksPage(cursor, 10);
+            for (Task t : page.items()) {
+                assertTrue(t.getTaskId().compareTo(previousId) > 0, "Tasks should come in ID order");
+                previousId = t.getTaskId();
+                seen++;
+            }
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Then: 3 pages covering all 25 tasks
+        assertEquals(25, seen, "Every task should be listed once");
+        assertEquals(3, pages, "25 tasks in pages of 10 should take 3 pages");
+    }
+
+    /**
+     * Test: Deleted tasks leave no hole in a page
+     */
+    @Test
+    void testGetTasksPage_SkipsDeletedTasks() {
+        // Given: 5 tasks, the second one deleted
+        Task[] tasks = new Task[5];
+        for (int i = 0; i < tasks.length; i++) {
+            tasks[i] = taskService.addTask(new Task("Task " + i, "Pending", "P0001"));
+        }
+        taskService.deleteTask(tasks[1].getTaskId());
+
+        // When: Reading a page of 5 after the first task
+        Page<Task> page = taskService.getTasksPage(tasks[0].getTaskId(), 5);
+
+        // Then: The 3 remaining tasks and no next page
+        assertEquals(3, page.items().length);
+        assertEquals(tasks[2].getTaskId(), page.items()[0].getTaskId());
+        assertFalse(page.hasNext(), "There should be no page after the last task");
+    }
+
+    /**
+     * Test: A full last page has no next cursor, the extra row fetched decides it
+     */
+    @Test
+    void testGetTasksPage_ExactlyFullLastPage() {
+        // Given: 20 tasks
+        for (int i = 0; i < 20; i++) taskService.addTask(new Task("Task " + i, "Pending", "P0001"));
+
+        // When: Reading pages of 10
+        Page<Task> first = taskService.getTasksPage(null, 10);
+        Page<Task> second = taskService.getTasksPage(first.nextCursor(), 10);
+
+        // Then: Two full pages, only the first points to another one
+        assertEquals(10, first.items().length);
+        assertTrue(first.hasNext(), "More tasks follow the first page");
+        assertEquals(10, second.items().length);
+        assertFalse(second.hasNext(), "Nothing follows the second page");
+    }
+
+    /**
+     * Test: Page size is clamped to the maximum
+     */
+    @Test
+    void testNormalizePageSize_Limits() {
+        assertEquals(Page.DEFAULT_PAGE_SIZE, Page.normalizePageSize(0));
+        assertEquals(Page.MAX_PAGE_SIZE, Page.normalizePageSize(1_000_000));
+        assertEquals(7, Page.normalizePageSize(7));
+    }
+
+    /**
+     * Test: Malformed cursor is rejected
+     */
+    @Test
+    void testGetTasksPage_InvalidCursor() {
+        assertThrows(InvalidInputException.class,
+                () -> taskService.getTasksPage("Tabc", 10),
+                "A malformed cursor should throw InvalidInputException");
+    }
+
+    /**
+     * Test: Nothing follows Integer.MAX_VALUE; the page must not wrap around to the first one
+     */
+    @Test
+    void testGetPage_AfterLastIndexIsEmpty() {
+        // Given: one entry in each repository
+        taskService.addTask(new Task("Task", "Pending", "P0001"));
+        ProjectRepository projects = new ProjectRepository(10);
+        projects.add(new SoftwareProject("Alpha", "Desc", "Software", 2, "Java", 1000.0), 0);
+        UserRepository users = new UserRepository(10);
+        users.add(new RegularUser("Ada", "ada@example.com"), 0);
+
+        // When
+        Page<Task> page = taskService.getTasksPage("T" + Integer.MAX_VALUE, 10);
+
+        // Then
+        assertEquals(0, page.items().length, "No task follows the last index");
+        assertFalse(page.hasNext());
+        assertEquals(0, projects.getPage(Integer.MAX_VALUE, 10).length);
+        assertEquals(0, users.getPage(Integer.MAX_VALUE, 10).length);
+        assertEquals(1, projects.getPage(-1, 10).length, "The entry is there for a cursor before it");
+    }
+}
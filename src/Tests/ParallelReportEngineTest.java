@@ -0,0 +1,105 @@
+package Tests;
+
+import Repository.ProjectRepository;
+import Repository.TaskRepository;
+import models.Project;
+import models.ProjectStatusReportDto;
+import models.SoftwareProject;
+import models.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import services.GenerateProjectId;
+import services.GenerateTaskId;
+import services.ParallelReportEngine;
+import services.ProjectService;
+import services.ReportService;
+import services.TaskService;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit 5 tests for the fork/join report engine
+ * Tests cover:
+ * - Same counts as a sequential pass, over an uneven number of slots that is split
+ * - Same rows as the incrementally maintained ReportService view
+ */
+class ParallelReportEngineTest {
+
+    // Above the engine's minimum slice, odd so the halves are uneven
+    private static final int TASKS = 40_001;
+    private static final String[] STATUSES = {"Pending", "In Progress", "Completed", "completed"};
+
+    private ForkJoinPool pool;
+    private TaskService taskService;
+    private ProjectService projectService;
+    private Project[] projects;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        taskService = new TaskService(new TaskRepository(16), new GenerateTaskId());
+        projectService = new ProjectService(new ProjectRepository(8), new GenerateProjectId());
+        projects = new Project[7];
+        for (int p = 0; p < projects.length; p++) {
+            projects[p] = new SoftwareProject("Project " + p, "Desc", "Software", 3, "Java", 1000.0);
+            projectService.addProject(projects[p]);
+        }
+        for (int i = 0; i < TASKS; i++) {
+            // Skewed: project 0 gets about half of the tasks
+            Project project = projects[i % 2 == 0 ? 0 : i % projects.length];
+            taskService.addTask(new Task("Task " + i, STATUSES[i % STATUSES.length], project.getId()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Test: Parallel counts over the repository slots equal a sequential count
+     */
+    @Test
+    void testParallelEqualsSequential() {
+        // Given: some slots emptied so ranges hold different numbers of tasks
+        Task[] all = taskService.getAllTasks();
+        for (int i = 0; i < all.length; i += 97) taskService.deleteTask(all[i].getTaskId());
+
+        // When
+        ProjectStatusReportDto[] parallel = new ParallelReportEngine(pool).build(projects, taskService.taskSlots());
+
+        // Then
+        Task[] remaining = taskService.getAllTasks();
+        assertEquals(projects.length, parallel.length);
+        for (int p = 0; p < projects.length; p++) {
+            int total = 0;
+            int completed = 0;
+            for (Task t : remaining) {
+                if (!projects[p].getId().equals(t.getProjectId())) continue;
+                total++;
+                if ("Completed".equalsIgnoreCase(t.getTaskStatus())) completed++;
+            }
+            assertEquals(projects[p].getId(), parallel[p].projectId(), "Rows keep the project order");
+            assertEquals(total, parallel[p].tasks(), "Total of " + projects[p].getId());
+            assertEquals(completed, parallel[p].completed(), "Completed of " + projects[p].getId());
+        }
+    }
+
+    /**
+     * Test: A parallel rebuild matches the report ReportService maintains event by event
+     */
+    @Test
+    void testParallelEqualsReportServiceView() {
+        // Given: the view is loaded, then follows further changes through events
+        ReportService reportService = new ReportService(taskService, projectService, new ParallelReportEngine(pool));
+        Task[] all = taskService.getAllTasks();
+        for (int i = 0; i < all.length; i += 11) taskService.updateTaskStatus(all[i].getTaskId(), "Completed");
+        for (int i = 5; i < all.length; i += 13) taskService.deleteTask(all[i].getTaskId());
+
+        // When / Then
+        assertEquals(0, reportService.verifyReportView().size(), "View and parallel rebuild should agree");
+    }
+}
@@ -0,0 +1,88 @@
+package Tests;
+
+import Repository.PostingList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit 5 tests for the slot lists behind the task and text indexes
+ * Tests cover:
+ * - Removed slots disappear from size, contains and toArray at once
+ * - Adding a removed slot back revives it in order, duplicates are ignored
+ * - Compaction after most slots are removed keeps the rest in order
+ */
+class PostingListTest {
+
+    private PostingList list;
+
+    @BeforeEach
+    void setUp() {
+        list = new PostingList();
+        for (int slot = 0; slot < 100; slot++) list.add(slot * 2);
+    }
+
+    /**
+     * Test: A removed slot is gone from every read
+     */
+    @Test
+    void testRemoveLeavesNoTrace() {
+        // When
+        assertTrue(list.remove(10));
+        assertEquals(2, list.removeAll(new int[]{0, 11, 198}), "Slot 11 was never there");
+
+        // Then
+        assertEquals(97, list.size());
+        assertFalse(list.contains(10));
+        assertFalse(list.contains(198));
+        assertTrue(list.contains(12));
+        int[] slots = list.toArray();
+        assertEquals(97, slots.length);
+        assertEquals(2, slots[0]);
+        assertEquals(196, slots[slots.length - 1]);
+        assertFalse(list.remove(10), "Removing twice reports false");
+    }
+
+    /**
+     * Test: Removed and new slots are added back at their sorted position
+     */
+    @Test
+    void testAddBackAndInsert() {
+        // Given
+        list.remove(50);
+
+        // When
+        list.add(50);
+        list.add(51);
+        list.add(52);
+
+        // Then
+        assertEquals(101, list.size(), "52 was already present");
+        int[] slots = list.toArray();
+        for (int i = 1; i < slots.length; i++) assertTrue(slots[i - 1] < slots[i], "Ascending at " + i);
+        assertTrue(list.contains(50));
+        assertTrue(list.contains(51));
+    }
+
+    /**
+     * Test: After removing most slots the survivors are still found, in order
+     */
+    @Test
+    void testCompactionKeepsOrder() {
+        // When: every slot but multiples of 10
+        for (int slot = 0; slot < 200; slot += 2) {
+            if (slot % 10 != 0) list.remove(slot);
+        }
+        list.add(1000);
+
+        // Then
+        int[] expected = new int[21];
+        for (int i = 0; i < 20; i++) expected[i] = i * 10;
+        expected[20] = 1000;
+        assertArrayEquals(expected, list.toArray());
+        assertEquals(21, list.size());
+        assertTrue(list.contains(190));
+        assertFalse(list.contains(192));
+    }
+}
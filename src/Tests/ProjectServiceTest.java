@@ -25,6 +25,7 @@ class ProjectServiceTest {
      * - Project retrieval (by ID, all projects)
      * - Project deletion
      * - Project filtering (by type, by budget range)
+     * - Full-text search skipping missing names and descriptions
      * - Exception handling
      */
 
@@ -129,6 +130,23 @@ class ProjectServiceTest {
                     "Getting non-existent project should throw EmptyProjectException");
         }
 
+        /**
+         * Test: Find project by ID - misses are empty, not exceptions
+         */
+        @Test
+        void testFindProjectById_MissingAndMalformed() {
+            // Given: One stored project
+            SoftwareProject project = new SoftwareProject("Mobile App", "iOS app", "Software", 4, "Swift", 75000.0);
+            projectService.addProject(project);
+
+            // When/Then: Only the stored ID is found, nothing throws
+            assertSame(project, projectService.findProjectById(project.getId()).orElse(null),
+                    "Stored project should be found");
+            assertTrue(projectService.findProjectById("P9999").isEmpty(), "Out of range ID should be empty");
+            assertTrue(projectService.findProjectById("INVALID").isEmpty(), "Malformed ID should be empty");
+            assertTrue(projectService.findProjectById(null).isEmpty(), "Null ID should be empty");
+        }
+
         /**
          * Test: Get project by ID - invalid index (negative)
          */
@@ -421,5 +439,23 @@ class ProjectServiceTest {
                         "Programming language should match");
             }
         }
-    }
 
+        /**
+         * Test: Search - a missing description is not indexed as the word "null"
+         */
+        @Test
+        void testSearchProjects_SkipsMissingFields() {
+            // Given: A project without a description
+            SoftwareProject project = new SoftwareProject("Harbor Portal", null, "Software", 3, "Java", 5000.0);
+            projectService.addProject(project);
+
+            // When
+            Project[] byName = projectService.searchProjects("portal", 10);
+            Project[] byNull = projectService.searchProjects("null", 10);
+
+            // Then
+            assertEquals(1, byName.length, "The name should still be searchable");
+            assertEquals(project.getId(), byName[0].getId());
+            assertEquals(0, byNull.length, "\"null\" is not part of the project's text");
+        }
+    }
@@ -0,0 +1,98 @@
+package Tests;
+
+import Repository.ProjectRepository;
+import models.AssignmentResult;
+import models.SoftwareProject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import services.GenerateProjectId;
+import services.ProjectService;
+import services.ProjectUserAssignmentOperations;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit 5 tests for ProjectUserAssignmentOperations
+ * Tests cover:
+ * - Assigning and removing users
+ * - Double assignment and team size limit
+ * - Reverse lookup (projects of a user)
+ * - Batch assignment with partial failures
+ */
+class ProjectUserAssignmentTest {
+
+    private ProjectUserAssignmentOperations assignments;
+    private SoftwareProject alpha;
+    private SoftwareProject beta;
+
+    @BeforeEach
+    void setUp() {
+        ProjectService projectService = new ProjectService(new ProjectRepository(20), new GenerateProjectId());
+        alpha = new SoftwareProject("Alpha", "Desc", "Software", 2, "Java", 1000.0);
+        beta = new SoftwareProject("Beta", "Desc", "Software", 5, "Java", 1000.0);
+        projectService.addProject(alpha);
+        projectService.addProject(beta);
+        assignments = new ProjectUserAssignmentOperations(projectService, 20);
+    }
+
+    /**
+     * Test: Assign and remove keep both directions in sync
+     */
+    @Test
+    void testAssignAndRemove() {
+        assertTrue(assignments.assignUser(alpha.getId(), "U0001"));
+        assertTrue(assignments.assignUser(beta.getId(), "U0001"));
+
+        assertArrayEquals(new String[]{"U0001"}, assignments.getAssignedUsers(alpha.getId()));
+        assertArrayEquals(new String[]{alpha.getId(), beta.getId()}, assignments.getProjectsForUser("U0001"));
+
+        assertTrue(assignments.removeUser(alpha.getId(), "U0001"));
+        assertFalse(assignments.isAssigned(alpha.getId(), "U0001"));
+        assertArrayEquals(new String[]{beta.getId()}, assignments.getProjectsForUser("U0001"));
+        assertFalse(assignments.removeUser(alpha.getId(), "U0001"), "Removing twice should fail");
+    }
+
+    /**
+     * Test: A user cannot be assigned twice and the team size is enforced
+     */
+    @Test
+    void testAssign_DuplicateAndTeamFull() {
+        assertTrue(assignments.assignUser(alpha.getId(), "U0001"));
+        assertFalse(assignments.assignUser(alpha.getId(), "U0001"), "Double assignment should be rejected");
+
+        assertTrue(assignments.assignUser(alpha.getId(), "U0002"));
+        assertFalse(assignments.assignUser(alpha.getId(), "U0003"), "Team of 2 should be full");
+        assertEquals(2, assignments.getAssignedUsers(alpha.getId()).length);
+    }
+
+    /**
+     * Test: Batch assignment fills the team and reports the rest
+     */
+    @Test
+    void testAssignUsers_PartialFailures() {
+        // Given: Alpha has room for 2 users
+        // When: Assigning 4 users, one of them twice
+        AssignmentResult result = assignments.assignUsers(alpha.getId(), "U0001", "U0001", "U0002", "U0003");
+
+        // Then: 2 assigned, the overflow is reported, the duplicate is handled once
+        assertEquals(List.of("U0001", "U0002"), result.assigned());
+        assertEquals(1, result.failures().size());
+        assertFalse(result.failures().containsKey("U0001"), "An assigned user must not also be a failure");
+        assertFalse(result.isComplete());
+        assertTrue(result.failures().get("U0003").startsWith("Team is full"));
+    }
+
+    /**
+     * Test: One user onto many projects, unknown projects are reported
+     */
+    @Test
+    void testAssignUserToProjects() {
+        AssignmentResult result = assignments.assignUserToProjects("U0001", alpha.getId(), beta.getId(), "P9999");
+
+        assertEquals(List.of(alpha.getId(), beta.getId()), result.assigned());
+        assertTrue(result.failures().containsKey("P9999"));
+        assertEquals(2, assignments.countProjectsForUser("U0001"));
+    }
+}
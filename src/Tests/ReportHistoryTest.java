@@ -0,0 +1,191 @@
+package Tests;
+
+import models.TrendPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import services.ReportHistory;
+import services.events.DomainEvent;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit 5 tests for the time-bucketed report history, driven by a manual clock
+ * Tests cover:
+ * - One bucket per period, later changes in a period overwrite its sample
+ * - Carrying counters over buckets without changes, including from before
+ *   the retained range of the chosen resolution
+ * - Choice of the finest resolution covering the start of the range
+ * - Task events after ProjectRemoved, or for unknown projects, create no history
+ */
+class ReportHistoryTest {
+
+    private static final long MINUTE = 60_000L;
+    private static final long HOUR = 60 * MINUTE;
+    private static final long DAY = 24 * HOUR;
+
+    private ManualClock clock;
+    private ReportHistory history;
+
+    @BeforeEach
+    void setUp() {
+        clock = new ManualClock(20_000 * DAY);
+        history = new ReportHistory(clock);
+        history.onEvent(new DomainEvent.ProjectAdded("P0001", "Alpha"));
+    }
+
+    /**
+     * Test: Changes land in the bucket of their minute, the last one of a minute wins
+     */
+    @Test
+    void testBucketRollover() {
+        // Given: two tasks in minute 0, one completed in minute 2
+        long start = clock.millis();
+        add("T0001", "Pending");
+        clock.advance(30_000);
+        add("T0002", "Pending");
+        clock.advance(MINUTE + 40_000);
+        complete("T0001");
+
+        // When
+        List<TrendPoint> points = history.trend("P0001", start, clock.millis(), ReportHistory.Resolution.MINUTE);
+
+        // Then: minute 0 holds its last value, minute 1 carries it, minute 2 has the change
+        assertEquals(3, points.size());
+        assertEquals(start, points.get(0).bucketStartMillis());
+        assertEquals(2, points.get(0).total());
+        assertEquals(0, points.get(0).completed());
+        assertEquals(0, points.get(1).completed(), "Minute without changes carries the previous one");
+        assertEquals(start + 2 * MINUTE, points.get(2).bucketStartMillis());
+        assertEquals(1, points.get(2).completed());
+    }
+
+    /**
+     * Test: A project untouched for longer than the minute ring still has a recent trend
+     */
+    @Test
+    void testCarryForwardFromLiveCounters() {
+        // Given: two tasks, then three quiet hours
+        add("T0001", "Completed");
+        add("T0002", "Pending");
+        clock.advance(3 * HOUR);
+
+        // When: the last hour at minute resolution
+        List<TrendPoint> points = history.trend("P0001", clock.millis() - HOUR, clock.millis(),
+                ReportHistory.Resolution.MINUTE);
+
+        // Then: every minute shows the current counters
+        assertEquals(61, points.size());
+        for (TrendPoint point : points) {
+            assertEquals(2, point.total());
+            assertEquals(1, point.completed());
+        }
+    }
+
+    /**
+     * Test: A range starting before the minute ring's oldest sample starts from the hour ring
+     */
+    @Test
+    void testCarryForwardFromCoarserRing() {
+        // Given: one task, three quiet hours, then a second task
+        add("T0001", "Pending");
+        clock.advance(3 * HOUR);
+        add("T0002", "Pending");
+        clock.advance(10 * MINUTE);
+
+        // When: the last hour at minute resolution
+        List<TrendPoint> points = history.trend("P0001", clock.millis() - HOUR, clock.millis(),
+                ReportHistory.Resolution.MINUTE);
+
+        // Then: one task until the change, two after it
+        assertEquals(1, points.get(0).total(), "Value before the change comes from the hour ring");
+        assertEquals(2, points.get(points.size() - 1).total());
+    }
+
+    /**
+     * Test: The finest resolution that still covers the start is used
+     */
+    @Test
+    void testResolutionChoice() {
+        // Given: activity long enough ago for every ring
+        add("T0001", "Pending");
+        clock.advance(10 * DAY);
+        long now = clock.millis();
+
+        // When / Then: bucket spacing follows the range length
+        assertEquals(MINUTE, spacing(history.trend("P0001", now - 30 * MINUTE, now)));
+        assertEquals(HOUR, spacing(history.trend("P0001", now - 5 * HOUR, now)));
+        assertEquals(DAY, spacing(history.trend("P0001", now - 5 * DAY, now)));
+    }
+
+    /**
+     * Test: Trailing cascade-delete events do not bring a removed project's history back
+     */
+    @Test
+    void testNoHistoryAfterProjectRemoved() {
+        // Given
+        add("T0001", "Pending");
+        add("T0002", "Completed");
+        long now = clock.millis();
+
+        // When: the project goes first, its task events follow
+        history.onEvent(new DomainEvent.ProjectRemoved("P0001"));
+        history.onEvent(new DomainEvent.TaskDeleted("T0001", "P0001", null, "Pending"));
+        history.onEvent(new DomainEvent.TaskArchived("T0002", "P0001", null, "Completed"));
+        history.onEvent(new DomainEvent.TaskCreated("T0003", "P0404", null, "Pending"));
+
+        // Then
+        assertTrue(history.trend("P0001", now, clock.millis()).isEmpty(), "Removed project stays removed");
+        assertTrue(history.trend("P0404", now, clock.millis()).isEmpty(), "Unknown project gets no history");
+    }
+
+    private void add(String taskId, String status) {
+        history.onEvent(new DomainEvent.TaskCreated(taskId, "P0001", null, status));
+    }
+
+    private void complete(String taskId) {
+        history.onEvent(new DomainEvent.TaskStatusChanged(taskId, "P0001", null, "Pending", "Completed"));
+    }
+
+    private static long spacing(List<TrendPoint> points) {
+        assertTrue(points.size() >= 2, "Need two points to measure spacing");
+        return points.get(1).bucketStartMillis() - points.get(0).bucketStartMillis();
+    }
+
+    private static final class ManualClock extends Clock {
+        private long millis;
+
+        ManualClock(long millis) {
+            this.millis = millis;
+        }
+
+        void advance(long deltaMillis) {
+            millis += deltaMillis;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package Tests;
+
+import Repository.ProjectRepository;
+import Repository.TaskRepository;
+import models.ProjectStatusReportDto;
+import models.ReportSnapshot;
+import models.SoftwareProject;
+import models.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import services.GenerateProjectId;
+import services.GenerateTaskId;
+import services.ProjectService;
+import services.ReportService;
+import services.TaskService;
+import services.events.DomainEvent;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit 5 tests for the materialized project status report
+ * Tests cover:
+ * - Counters following task add, status change and delete
+ * - Project removal, also when its task deletions arrive afterwards
+ * - Snapshot reuse while nothing changed
+ * - Verification against a full rebuild
+ */
+class ReportViewTest {
+
+    private TaskService taskService;
+    private ProjectService projectService;
+    private ReportService reportService;
+    private SoftwareProject project;
+
+    @BeforeEach
+    void setUp() {
+        taskService = new TaskService(new TaskRepository(50), new GenerateTaskId());
+        projectService = new ProjectService(new ProjectRepository(20), new GenerateProjectId());
+        project = new SoftwareProject("Report App", "Desc", "Software", 3, "Java", 1000.0);
+        projectService.addProject(project);
+        reportService = new ReportService(taskService, projectService);
+    }
+
+    /**
+     * Test: Task mutations are reflected without rebuilding the report
+     */
+    @Test
+    void testSnapshot_FollowsTaskMutations() {
+        // Given: 3 tasks, one completed later and one deleted
+        Task t1 = new Task("Task 1", "Pending", project.getId());
+        Task t2 = new Task("Task 2", "Pending", project.getId());
+        Task t3 = new Task("Task 3", "Completed", project.getId());
+        t1 = taskService.addTask(t1);
+        t2 = taskService.addTask(t2);
+        t3 = taskService.addTask(t3);
+        taskService.updateTaskStatus(t1.getTaskId(), "Completed");
+        taskService.deleteTask(t3.getTaskId());
+
+        // When: Reading the snapshot
+        ReportSnapshot snapshot = reportService.getReportSnapshot();
+
+        // Then: 2 tasks, 1 completed, and the view matches a full rebuild
+        ProjectStatusReportDto row = snapshot.rows().get(0);
+        assertEquals(2, row.tasks());
+        assertEquals(1, row.completed());
+        assertEquals(50.0, snapshot.averageCompletion(), 0.01);
+        assertTrue(reportService.verifyReportView().isEmpty(), "View should match a full rebuild");
+    }
+
+    /**
+     * Test: Unchanged view returns the same snapshot instance
+     */
+    @Test
+    void testSnapshot_ReusedWhileUnchanged() {
+        ReportSnapshot first = reportService.getReportSnapshot();
+        assertSame(first, reportService.getReportSnapshot());
+
+        taskService.addTask(new Task("Task", "Pending", project.getId()));
+        assertNotSame(first, reportService.getReportSnapshot());
+    }
+
+    /**
+     * Test: Removed project disappears from the view
+     */
+    @Test
+    void testSnapshot_ProjectRemoved() {
+        projectService.deleteProjectById(project.getId());
+
+        assertTrue(reportService.getReportSnapshot().rows().isEmpty());
+        assertTrue(reportService.verifyReportView().isEmpty());
+    }
+
+    /**
+     * Test: Task deletions published after the project removal do not bring it back
+     */
+    @Test
+    void testSnapshot_TaskDeletedAfterProjectRemoved() {
+        // Given: a project with a completed task, removed before its task
+        Task task = new Task("Task", "Completed", project.getId());
+        task = taskService.addTask(task);
+        projectService.deleteProjectById(project.getId());
+
+        // When: the cascade's task deletion and an update arrive late
+        taskService.getEventBus().publish(
+                new DomainEvent.TaskDeleted(task.getTaskId(), project.getId(), null, "Completed"));
+        projectService.getEventBus().publish(new DomainEvent.ProjectUpdated(project.getId(), "Late rename"));
+
+        // Then: no row, no negative totals
+        ReportSnapshot snapshot = reportService.getReportSnapshot();
+        assertTrue(snapshot.rows().isEmpty(), "Removed project should stay out of the view");
+        assertEquals(0, snapshot.totalTasks());
+    }
+}
@@ -0,0 +1,63 @@
+package Tests;
+
+import Repository.TaskRepository;
+import models.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utils.StringInterner;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit 5 tests for string interning at the repository boundary
+ * Tests cover:
+ * - Equal values come back as one instance, null stays null
+ * - Tasks stored with private copies of a value end up sharing one instance
+ * - A task that is already canonical is stored as is
+ */
+class StringInternerTest {
+
+    private StringInterner interner;
+    private TaskRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        interner = new StringInterner();
+        repository = new TaskRepository(10, interner);
+    }
+
+    /**
+     * Test: intern returns the first instance seen for a value
+     */
+    @Test
+    void testInternSharesInstances() {
+        String first = new String("P0001");
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(new String("P0001")));
+        assertNull(interner.intern(null));
+        assertEquals(1, interner.size());
+    }
+
+    /**
+     * Test: Stored tasks share their project, status and assignee strings
+     */
+    @Test
+    void testRepositoryCanonicalizesFields() {
+        // Given
+        Task a = Task.restore("T0001", "A", new String("Pending"), new String("P0001"), new String("U0001"), 0, 0);
+        Task b = Task.restore("T0002", "B", new String("Pending"), new String("P0001"), new String("U0001"), 0, 0);
+
+        // When
+        repository.add(a, 1);
+        repository.add(b, 2);
+
+        // Then
+        Task storedA = repository.getById(1);
+        Task storedB = repository.getById(2);
+        assertSame(storedA.getProjectId(), storedB.getProjectId());
+        assertSame(storedA.getTaskStatus(), storedB.getTaskStatus());
+        assertSame(storedA.getAssignedUserId(), storedB.getAssignedUserId());
+        assertSame(storedA, repository.canonical(storedA), "A canonical task should not be copied again");
+        assertEquals(2, repository.findByProjectId(new String("P0001")).length);
+    }
+}
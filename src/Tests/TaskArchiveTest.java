@@ -0,0 +1,189 @@
+package Tests;
+
+import Repository.TaskArchive;
+import Repository.TaskRepository;
+import models.Task;
+import models.TaskQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import services.GenerateTaskId;
+import services.TaskArchiveService;
+import services.TaskService;
+import services.events.DomainEvent;
+import services.events.EventBus;
+
+import utils.StringInterner;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit 5 tests for the task archive tier
+ * Tests cover:
+ * - Completion time is set on completion and cleared when a task is reopened
+ * - Old completed tasks leave the hot repository and stay readable from the archive
+ * - Recently completed and open tasks are not archived
+ * - A TaskArchived event is published per archived task
+ * - Packed records round-trip every field, including unusual IDs, nulls,
+ *   repeated names and a name longer than a block
+ * - An archived task takes at least 5x less heap than a live Task with interned fields
+ */
+class TaskArchiveTest {
+
+    // Task: header + 5 references + 2 longs; String: header + hash fields + array reference
+    private static final long TASK_BYTES = 48;
+    private static final long STRING_BYTES = 24;
+    private static final int RATIO = 5;
+
+    private TaskService taskService;
+    private TaskArchive archive;
+    private List<DomainEvent> published;
+    private Task done;
+    private Task open;
+
+    @BeforeEach
+    void setUp() {
+        EventBus bus = new EventBus();
+        published = new ArrayList<>();
+        bus.subscribe(published::add);
+        taskService = new TaskService(new TaskRepository(10), new GenerateTaskId(), bus);
+        archive = new TaskArchive();
+
+        done = new Task("Ship release", "Pending", "P0001", "U0001");
+        open = new Task("Write changelog", "Pending", "P0001", "U0002");
+        done = taskService.addTask(done);
+        open = taskService.addTask(open);
+        done = taskService.updateTaskStatus(done.getTaskId(), "Completed");
+    }
+
+    /**
+     * Test: completedAt follows the status
+     */
+    @Test
+    void testCompletionTimestamp() {
+        assertTrue(done.getCompletedAt() > 0, "Completing a task should stamp it");
+        assertEquals(0, open.getCompletedAt());
+        assertEquals(0, done.withStatus("In Progress").getCompletedAt(), "Reopening should clear the stamp");
+    }
+
+    /**
+     * Test: A task completed 31 days ago moves to the archive with all its fields
+     */
+    @Test
+    void testOldCompletedTasksAreArchived() {
+        // Given
+        Clock later = Clock.offset(Clock.systemUTC(), Duration.ofDays(31));
+        TaskArchiveService archiver = new TaskArchiveService(taskService, archive, later);
+        published.clear();
+
+        // When
+        int archived = archiver.archiveCompletedOlderThan(30);
+
+        // Then
+        assertEquals(1, archived);
+        assertEquals(1, taskService.getAllTasks().length, "Only the open task stays hot");
+        assertNull(taskService.getTaskById(done.getTaskId()));
+        assertEquals(0, taskService.findTasks(new TaskQuery().statusIs("Completed")).length);
+        Task restored = archiver.findArchivedTask(done.getTaskId());
+        assertEquals(done.getTaskName(), restored.getTaskName());
+        assertEquals(done.getVersion(), restored.getVersion());
+        assertEquals(done.getCompletedAt(), restored.getCompletedAt());
+        assertEquals(1, archiver.findArchivedTasksByProjectId("P0001").length);
+        assertEquals(List.of(DomainEvent.TaskArchived.of(done)), published);
+    }
+
+    /**
+     * Test: Tasks completed within the window are kept hot
+     */
+    @Test
+    void testRecentTasksStayHot() {
+        TaskArchiveService archiver = new TaskArchiveService(taskService, archive);
+
+        assertEquals(0, archiver.archiveCompletedOlderThan(30));
+        assertEquals(2, taskService.getAllTasks().length);
+        assertEquals(0, archiver.getArchivedCount());
+    }
+
+    /**
+     * Test: Every field comes back exactly, whatever the ID looks like
+     */
+    @Test
+    void testPackedRecordsRoundTrip() {
+        // Given
+        Task[] tasks = {
+                Task.restore("T0042", "Audit", "Completed", "P0001", null, 3, 1_700_000_000_000L),
+                Task.restore("T123456", "Audit", "Completed", "P0002", "U0001", 0, 1_600_000_000_000L),
+                Task.restore("legacy-id", null, "Completed", null, "U0001", 7, 0),
+                Task.restore("T0007", "Über-Task", "completed", "P0001", "U0002", 1, 1_700_000_000_500L),
+                Task.restore("T0008", "x".repeat(70_000), "Completed", "P0003", "U0002", 0, 1_700_000_000_600L),
+                Task.restore("T0009", "Audit", "Completed", "P0003", "U0002", 0, 1_700_000_000_700L)
+        };
+
+        // When
+        archive.addAll(tasks);
+
+        // Then
+        Task[] restored = archive.getAll();
+        assertEquals(tasks.length, restored.length);
+        for (int i = 0; i < tasks.length; i++) {
+            assertEquals(tasks[i].getTaskId(), restored[i].getTaskId());
+            assertEquals(tasks[i].getTaskName(), restored[i].getTaskName());
+            assertEquals(tasks[i].getTaskStatus(), restored[i].getTaskStatus());
+            assertEquals(tasks[i].getProjectId(), restored[i].getProjectId());
+            assertEquals(tasks[i].getAssignedUserId(), restored[i].getAssignedUserId());
+            assertEquals(tasks[i].getVersion(), restored[i].getVersion());
+            assertEquals(tasks[i].getCompletedAt(), restored[i].getCompletedAt());
+        }
+        assertEquals("legacy-id", archive.findByTaskId("legacy-id").getTaskId());
+        assertNull(archive.findByTaskId("T042"), "Same number, different width is a different ID");
+        assertEquals(2, archive.findByProjectId("P0001").length);
+    }
+
+    /**
+     * Test: Footprint of 200k archived tasks vs the same tasks live, with their
+     * repeated fields interned as TaskRepository stores them
+     */
+    @Test
+    void testArchiveFootprint() {
+        // Given
+        int count = 200_000;
+        StringInterner interner = new StringInterner();
+        Task[] live = new Task[count];
+        for (int i = 0; i < count; i++) {
+            live[i] = Task.restore(String.format("T%06d", i), "Task " + i, "Completed", String.format("P%04d", i % 50),
+                    String.format("U%04d", i % 500), 2, 1_700_000_000_000L + i * 1000L).withSharedStrings(interner::intern);
+        }
+        long liveBytes = liveBytes(live);
+
+        // When
+        archive.addAll(live);
+
+        // Then
+        assertEquals(count, archive.size());
+        long archivedBytes = archive.footprintBytes();
+        assertTrue(archivedBytes * RATIO <= liveBytes,
+                "Archived " + archivedBytes / count + " B/task vs live " + liveBytes / count + " B/task");
+    }
+
+    // Shallow size of the tasks plus each distinct String they reference, counted once
+    // (compressed oops: 12 byte header, 4 byte references, Latin-1 String contents)
+    private static long liveBytes(Task[] tasks) {
+        Set<String> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        long bytes = 0;
+        for (Task task : tasks) {
+            bytes += TASK_BYTES;
+            for (String s : new String[]{task.getTaskId(), task.getTaskName(), task.getTaskStatus(),
+                    task.getProjectId(), task.getAssignedUserId()}) {
+                if (s != null && seen.add(s)) bytes += STRING_BYTES + ((16 + s.length() + 7) & ~7L);
+            }
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,99 @@
+package Tests;
+
+import Repository.TaskRepository;
+import models.Task;
+import models.TaskQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import services.GenerateTaskId;
+import services.TaskService;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit 5 tests for the composable task query engine
+ * Tests cover:
+ * - AND of project, status and assignee IN predicates
+ * - Ordering and limit
+ * - Index choice shown by explain
+ * - Index maintenance on status update and delete
+ */
+class TaskQueryTest {
+
+    private TaskService taskService;
+
+    @BeforeEach
+    void setUp() {
+        taskService = new TaskService(new TaskRepository(50), new GenerateTaskId());
+
+        // 2 projects x 3 statuses x 2 users, plus unassigned tasks
+        String[] statuses = {"Pending", "In Progress", "Completed"};
+        for (int i = 0; i < 24; i++) {
+            String projectId = i % 2 == 0 ? "P0001" : "P0002";
+            String userId = i % 4 < 2 ? "U0001" : "U0002";
+            taskService.addTask(new Task("Task " + i, statuses[i % 3], projectId, userId));
+        }
+        taskService.addTask(new Task("Unassigned", "In Progress", "P0001"));
+    }
+
+    /**
+     * Test: Combined predicates - only tasks matching every predicate are returned
+     */
+    @Test
+    void testFindTasks_CombinedPredicates() {
+        // When: project = P0001 AND status = In Progress AND assignee IN (U0001, U0002)
+        Task[] result = taskService.findTasks(new TaskQuery()
+                .projectIs("P0001").statusIs("In Progress").assigneeIn("U0001", "U0002"));
+
+        // Then: Every task satisfies all predicates and the unassigned task is excluded
+        assertEquals(4, result.length);
+        for (Task t : result) {
+            assertEquals("P0001", t.getProjectId());
+            assertEquals("In Progress", t.getTaskStatus());
+            assertNotNull(t.getAssignedUserId());
+        }
+    }
+
+    /**
+     * Test: Descending order with limit returns the highest task IDs first
+     */
+    @Test
+    void testFindTasks_OrderAndLimit() {
+        Task[] result = taskService.findTasks(new TaskQuery()
+                .projectIs("P0002").orderBy(TaskQuery.Order.TASK_ID_DESC).limit(3));
+
+        assertEquals(3, result.length);
+        assertTrue(result[0].getTaskId().compareTo(result[1].getTaskId()) > 0);
+        assertTrue(result[1].getTaskId().compareTo(result[2].getTaskId()) > 0);
+    }
+
+    /**
+     * Test: Explain shows the most selective index as the access path
+     */
+    @Test
+    void testExplainQuery_UsesMostSelectiveIndex() {
+        // status = Completed has 8 postings, project = P0001 has 13
+        String plan = taskService.explainQuery(new TaskQuery().projectIs("P0001").statusIs("Completed"));
+
+        assertTrue(plan.contains("Access  : INDEX STATUS"), plan);
+        assertTrue(plan.contains("Filter  : INDEX PROBE PROJECT"), plan);
+        assertTrue(plan.contains("examined 8"), plan);
+    }
+
+    /**
+     * Test: Index follows status updates and deletes
+     */
+    @Test
+    void testFindTasks_IndexMaintainedOnUpdateAndDelete() {
+        // Given: One pending task moved to Completed and another deleted
+        Task[] pending = taskService.findTasks(new TaskQuery().statusIs("Pending"));
+        taskService.updateTaskStatus(pending[0].getTaskId(), "Completed");
+        taskService.deleteTask(pending[1].getTaskId());
+
+        // When: Querying pending tasks again
+        Task[] after = taskService.findTasks(new TaskQuery().statusIs("pending"));
+
+        // Then: Both tasks are gone from the status index
+        assertEquals(pending.length - 2, after.length);
+    }
+}
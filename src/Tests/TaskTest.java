@@ -61,10 +61,10 @@ class TaskTest {
         Task task3 = new Task("Task 3", "In Progress", projectId);
         Task task4 = new Task("Task 4", "Pending", projectId);
 
-        taskService.addTask(task1);
-        taskService.addTask(task2);
-        taskService.addTask(task3);
-        taskService.addTask(task4);
+        task1 = taskService.addTask(task1);
+        task2 = taskService.addTask(task2);
+        task3 = taskService.addTask(task3);
+        task4 = taskService.addTask(task4);
 
         // When: Calculating completion rate
         double completionRate = taskService.calculateCompletionRate(projectId);
@@ -86,9 +86,9 @@ class TaskTest {
         Task task2 = new Task("Task 2", "Completed", projectId);
         Task task3 = new Task("Task 3", "Completed", projectId);
 
-        taskService.addTask(task1);
-        taskService.addTask(task2);
-        taskService.addTask(task3);
+        task1 = taskService.addTask(task1);
+        task2 = taskService.addTask(task2);
+        task3 = taskService.addTask(task3);
 
         // When: Calculating completion rate
         double completionRate = taskService.calculateCompletionRate(projectId);
@@ -106,7 +106,7 @@ class TaskTest {
         // Given: A task with status "Pending"
         String projectId = "P0001";
         Task task = new Task("Test Task", "Pending", projectId);
-        taskService.addTask(task);
+        task = taskService.addTask(task);
         String taskId = task.getTaskId();
 
         // When: Updating task status to "Completed"
@@ -156,11 +156,12 @@ class TaskTest {
 
         // When: Adding task
         // Then: Should not throw exception
-        assertDoesNotThrow(() -> taskService.addTask(task),
+        Task added = assertDoesNotThrow(() -> taskService.addTask(task),
                 "Adding a valid task should not throw exception");
 
         // Verify task was added
-        Task retrievedTask = taskService.getTaskById(task.getTaskId());
+        assertNull(task.getTaskId(), "The argument is immutable, the ID is on the returned task");
+        Task retrievedTask = taskService.getTaskById(added.getTaskId());
         assertNotNull(retrievedTask, "Task should be retrievable after adding");
         assertEquals("Test Task", retrievedTask.getTaskName(),
                 "Task name should match");
@@ -185,7 +186,7 @@ class TaskTest {
     void testGetTaskById_ExistingTask() {
         // Given: A task added to service
         Task task = new Task("Test Task", "Pending", "P0001");
-        taskService.addTask(task);
+        task = taskService.addTask(task);
         String taskId = task.getTaskId();
 
         // When: Getting task by ID
@@ -225,9 +226,9 @@ class TaskTest {
         Task task2 = new Task("Task 2", "In Progress", projectId);
         Task task3 = new Task("Task 3", "Completed", projectId);
 
-        taskService.addTask(task1);
-        taskService.addTask(task2);
-        taskService.addTask(task3);
+        task1 = taskService.addTask(task1);
+        task2 = taskService.addTask(task2);
+        task3 = taskService.addTask(task3);
 
         // When: Getting tasks by project ID
         Task[] tasks = taskService.getTasksByProjectId(projectId);
@@ -260,7 +261,7 @@ class TaskTest {
     void testDeleteTask_ExistingTask() {
         // Given: A task added to service
         Task task = new Task("Test Task", "Pending", "P0001");
-        taskService.addTask(task);
+        task = taskService.addTask(task);
         String taskId = task.getTaskId();
 
         // When: Deleting task
@@ -295,9 +296,9 @@ class TaskTest {
         Task task2 = new Task("Task 2", "COMPLETED", projectId); // uppercase
         Task task3 = new Task("Task 3", "Pending", projectId);
 
-        taskService.addTask(task1);
-        taskService.addTask(task2);
-        taskService.addTask(task3);
+        task1 = taskService.addTask(task1);
+        task2 = taskService.addTask(task2);
+        task3 = taskService.addTask(task3);
 
         // When: Calculating completion rate
         double completionRate = taskService.calculateCompletionRate(projectId);
@@ -320,11 +321,11 @@ class TaskTest {
         Task task4 = new Task("Task 4", "Completed", projectId);
         Task task5 = new Task("Task 5", "Pending", projectId);
 
-        taskService.addTask(task1);
-        taskService.addTask(task2);
-        taskService.addTask(task3);
-        taskService.addTask(task4);
-        taskService.addTask(task5);
+        task1 = taskService.addTask(task1);
+        task2 = taskService.addTask(task2);
+        task3 = taskService.addTask(task3);
+        task4 = taskService.addTask(task4);
+        task5 = taskService.addTask(task5);
 
         // When: Calculating completion rate
         double completionRate = taskService.calculateCompletionRate(projectId);
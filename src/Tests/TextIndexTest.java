@@ -0,0 +1,157 @@
+package Tests;
+
+import Repository.TextIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit 5 tests for the inverted text index behind task and project search
+ * Tests cover:
+ * - Tokenizing on non letters/digits, lower-cased
+ * - Prefix matching, exact matches ranked above prefix matches
+ * - idf ranking (rare terms weigh more) and the top-k bound
+ * - Re-indexing a slot after an update, single and bulk removal
+ * - Terms whose documents were all removed can be indexed again after a sweep
+ */
+class TextIndexTest {
+
+    private TextIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TextIndex(2);
+    }
+
+    /**
+     * Test: Tokens are lower-cased words, punctuation and blanks split them
+     */
+    @Test
+    void testTokenize() {
+        assertArrayEquals(new String[]{"fix", "login", "bug", "42"}, TextIndex.tokenize("Fix LOGIN-bug, #42!"));
+        assertEquals(0, TextIndex.tokenize("  --  ").length, "Only separators give no tokens");
+        assertEquals(0, TextIndex.tokenize(null).length);
+    }
+
+    /**
+     * Test: A query term finds longer words it is a prefix of, exact words rank first
+     */
+    @Test
+    void testPrefixMatchRanksBelowExact() {
+        // Given
+        index.index(0, "deployment pipeline");
+        index.index(1, "deploy pipeline");
+        index.index(2, "write docs");
+
+        // When
+        TextIndex.Hit[] hits = index.search("deploy", 10);
+
+        // Then
+        assertEquals(2, hits.length, "Only documents containing deploy* match");
+        assertEquals(1, hits[0].slot(), "Exact match should rank first");
+        assertEquals(0, hits[1].slot());
+        assertTrue(hits[0].score() > hits[1].score());
+    }
+
+    /**
+     * Test: The rarer matched term outweighs a common one
+     */
+    @Test
+    void testIdfRanking() {
+        // Given: "task" is in every document, "database" in one
+        index.index(0, "task alpha");
+        index.index(1, "task database");
+        index.index(2, "task gamma");
+        index.index(3, "task delta");
+
+        // When
+        TextIndex.Hit[] hits = index.search("task database", 10);
+
+        // Then
+        assertEquals(4, hits.length);
+        assertEquals(1, hits[0].slot(), "Document with the rare term should rank first");
+    }
+
+    /**
+     * Test: Only the k best hits are returned, best first
+     */
+    @Test
+    void testTopKBound() {
+        // Given: shorter documents score higher for the same term
+        index.index(0, "report");
+        index.index(1, "report one two three");
+        index.index(2, "report one");
+        index.index(3, "report one two three four five six");
+
+        // When
+        TextIndex.Hit[] hits = index.search("report", 2);
+
+        // Then
+        assertEquals(2, hits.length);
+        assertEquals(0, hits[0].slot());
+        assertEquals(2, hits[1].slot());
+    }
+
+    /**
+     * Test: Re-indexing a slot replaces its old terms
+     */
+    @Test
+    void testReindexAfterUpdate() {
+        // Given
+        index.index(5, "old name");
+
+        // When
+        index.index(5, "new title");
+
+        // Then
+        assertEquals(0, index.search("old", 10).length, "Old terms should be gone");
+        assertEquals(5, index.search("title", 10)[0].slot());
+        assertEquals(1, index.documentCount(), "Re-indexing must not count the slot twice");
+    }
+
+    /**
+     * Test: Removing one or many slots drops them from results and counts
+     */
+    @Test
+    void testRemoveAndRemoveAll() {
+        // Given
+        for (int i = 0; i < 6; i++) index.index(i, "shared word" + i);
+
+        // When
+        index.remove(0);
+        index.removeAll(new int[]{1, 3, 99});
+
+        // Then
+        assertEquals(3, index.documentCount());
+        TextIndex.Hit[] hits = index.search("shared", 10);
+        assertEquals(3, hits.length);
+        for (TextIndex.Hit hit : hits) {
+            assertTrue(hit.slot() == 2 || hit.slot() == 4 || hit.slot() == 5, "Removed slot returned: " + hit.slot());
+        }
+        assertEquals(0, index.search("word1", 10).length);
+    }
+
+    /**
+     * Test: Terms emptied by removals, swept or not, are not found and can come back
+     */
+    @Test
+    void testEmptiedTermsComeBack() {
+        // Given: more unique terms than one sweep batch
+        int count = 5_000;
+        for (int i = 0; i < count; i++) index.index(i, "unique" + i + " common");
+
+        // When
+        for (int i = 0; i < count; i++) index.remove(i);
+        index.index(7, "unique7 again");
+        index.index(4_999, "unique4999");
+
+        // Then
+        assertEquals(2, index.documentCount());
+        assertEquals(0, index.search("common", 10).length, "Emptied terms give no hits");
+        assertEquals(0, index.search("unique1", 10).length, "unique1 and its prefix matches are gone");
+        assertEquals(7, index.search("unique7", 10)[0].slot());
+        assertEquals(4_999, index.search("unique4999", 10)[0].slot());
+        assertEquals(2, index.search("unique", 10).length);
+    }
+}
@@ -0,0 +1,211 @@
+package Tests;
+
+import Repository.ProjectRepository;
+import Repository.SegmentLog;
+import Repository.TaskRepository;
+import models.SoftwareProject;
+import models.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import services.GenerateProjectId;
+import services.GenerateTaskId;
+import services.ProjectService;
+import services.ProjectUserAssignmentOperations;
+import services.TaskService;
+import services.TransactionManager;
+import services.UnitOfWork;
+import services.cdc.ChangeEventCodec;
+import services.cdc.ChangeFeed;
+import services.cdc.ChangeRecord;
+import services.events.DomainEvent;
+import services.events.EventBus;
+import utils.exceptions.TransactionAbortedException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit 5 tests for units of work
+ * Tests cover:
+ * - A committed unit of work is applied, logged as one record and published once
+ * - Validation problems abort the whole unit of work before anything is applied
+ * - Malformed staged IDs are reported as problems, not thrown from validation
+ * - A failure while applying rolls back the steps already applied
+ * - A unit of work cannot be committed twice
+ * - The transaction log cannot be shared with a change feed
+ */
+class TransactionTest {
+
+    private Path directory;
+    private SegmentLog log;
+    private ProjectService projectService;
+    private TaskService taskService;
+    private ProjectUserAssignmentOperations assignments;
+    private TransactionManager transactions;
+    private List<DomainEvent> published;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("transactions");
+        log = new SegmentLog(directory, 1 << 20, 4, true);
+        EventBus bus = new EventBus();
+        published = new ArrayList<>();
+        bus.subscribe(published::add);
+        projectService = new ProjectService(new ProjectRepository(10), new GenerateProjectId(), bus);
+        taskService = new TaskService(new TaskRepository(10), new GenerateTaskId(), bus);
+        assignments = new ProjectUserAssignmentOperations(projectService, null, 10, bus);
+        transactions = new TransactionManager(projectService, taskService, assignments, log, Clock.systemUTC());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        log.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    /**
+     * Test: Project, team and tasks are created together with a single log record
+     */
+    @Test
+    void testCommitAppliesAndLogsOnce() {
+        // Given
+        UnitOfWork work = transactions.begin();
+        String projectId = work.createProject(new SoftwareProject("Alpha", "Desc", "Software", 20, "Java", 1000.0));
+        String[] users = new String[20];
+        for (int i = 0; i < users.length; i++) users[i] = String.format("U%04d", i);
+        work.assignUsers(projectId, users);
+        for (int i = 0; i < 200; i++) work.addTask(new Task("Task " + i, "Pending", projectId));
+
+        // When
+        long offset = transactions.commit(work);
+
+        // Then
+        assertEquals("Alpha", projectService.getProjectById(projectId).getName());
+        assertEquals(20, assignments.getAssignedUsers(projectId).length);
+        assertEquals(200, taskService.getTasksByProjectId(projectId).length);
+        assertEquals(1, log.endOffset() - log.startOffset(), "The whole unit of work should be one log record");
+        ChangeRecord[] logged = ChangeEventCodec.decodeAll(offset, log.read(offset, 1).get(0).payload());
+        assertEquals(221, logged.length);
+        assertInstanceOf(DomainEvent.ProjectAdded.class, logged[0].event());
+        assertEquals(221, published.size(), "Every change should be published exactly once");
+    }
+
+    /**
+     * Test: Every validation problem is reported and nothing is applied
+     */
+    @Test
+    void testValidationAbortsEverything() {
+        // Given
+        UnitOfWork work = transactions.begin();
+        String projectId = work.createProject(new SoftwareProject("Beta", "Desc", "Software", 2, "Java", 1000.0));
+        work.assignUsers(projectId, "U0001", "U0001");
+        String taskId = work.addTask(new Task("Orphan", "Pending", "P9999"));
+
+        // When
+        TransactionAbortedException e = assertThrows(TransactionAbortedException.class, () -> transactions.commit(work));
+
+        // Then
+        assertEquals(2, e.getProblems().size(), "Duplicate user and unknown project should both be reported");
+        assertThrows(RuntimeException.class, () -> projectService.getProjectById(projectId));
+        assertNull(taskService.getTaskById(taskId));
+        assertEquals(0, assignments.countProjectsForUser("U0001"));
+        assertEquals(0, log.endOffset(), "An aborted unit of work must not be logged");
+        assertTrue(published.isEmpty(), "An aborted unit of work must not be published");
+    }
+
+    /**
+     * Test: IDs the stores would refuse are validation problems like any other
+     */
+    @Test
+    void testMalformedIdsAreReported() {
+        // Given
+        UnitOfWork work = transactions.begin();
+        SoftwareProject project = new SoftwareProject("Zeta", "Desc", "Software", 2, "Java", 1000.0);
+        project.setId("P-7");
+        work.createProject(project);
+        work.addTask(new Task("Loose", "Pending", "P0001").withTaskId("bogus"));
+
+        // When
+        TransactionAbortedException e = assertThrows(TransactionAbortedException.class, () -> transactions.commit(work));
+
+        // Then
+        assertTrue(e.getProblems().contains("P-7: Invalid ID"), "Problems: " + e.getProblems());
+        assertTrue(e.getProblems().contains("bogus: Invalid ID"), "Problems: " + e.getProblems());
+        assertNull(e.getCause(), "Refused in validation, before anything was applied");
+        assertEquals(0, log.endOffset());
+        assertTrue(published.isEmpty());
+    }
+
+    /**
+     * Test: A team that fills up before commit makes the whole unit of work roll back
+     */
+    @Test
+    void testApplyFailureRollsBack() {
+        // Given
+        SoftwareProject existing = new SoftwareProject("Gamma", "Desc", "Software", 1, "Java", 1000.0);
+        projectService.addProject(existing);
+        UnitOfWork work = transactions.begin();
+        String projectId = work.createProject(new SoftwareProject("Delta", "Desc", "Software", 3, "Java", 1000.0));
+        work.assignUsers(existing.getId(), "U0002");
+        String taskId = work.addTask(new Task("Seed", "Pending", projectId));
+        assertTrue(assignments.assignUser(existing.getId(), "U0001"), "Fill the team before commit");
+        published.clear();
+
+        // When
+        assertThrows(TransactionAbortedException.class, () -> transactions.commit(work));
+
+        // Then
+        assertThrows(RuntimeException.class, () -> projectService.getProjectById(projectId));
+        assertNull(taskService.getTaskById(taskId));
+        assertArrayEquals(new String[]{"U0001"}, assignments.getAssignedUsers(existing.getId()));
+        assertEquals(0, log.endOffset());
+        assertTrue(published.isEmpty());
+    }
+
+    /**
+     * Test: A unit of work is single use
+     */
+    @Test
+    void testCommitTwiceIsRejected() {
+        UnitOfWork work = transactions.begin();
+        work.createProject(new SoftwareProject("Epsilon", "Desc", "Software", 3, "Java", 1000.0));
+        transactions.commit(work);
+
+        assertThrows(IllegalStateException.class, () -> transactions.commit(work));
+        assertThrows(IllegalStateException.class, () -> work.addTask(new Task("Late", "Pending", "P0001")));
+    }
+
+    /**
+     * Test: Batch records would break ChangeFeed.read, so the two writers cannot share a log
+     */
+    @Test
+    void testLogSharedWithChangeFeedIsRejected() {
+        // Given: the log already belongs to this transaction manager
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> new ChangeFeed(log),
+                "A change feed must not read the transaction log");
+        assertDoesNotThrow(() -> new TransactionManager(projectService, taskService, assignments, log, Clock.systemUTC()),
+                "Another transaction manager writes the same format");
+
+        // Given: a log that belongs to a change feed
+        try (SegmentLog feedLog = new SegmentLog(directory.resolve("feed"), 1 << 20, 4, false)) {
+            new ChangeFeed(feedLog);
+
+            // When / Then
+            assertThrows(IllegalArgumentException.class,
+                    () -> new TransactionManager(projectService, taskService, assignments, feedLog, Clock.systemUTC()));
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package Tests;
+
+import models.Task;
+import models.UserWorkloadDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import services.WorkloadReport;
+import services.events.DomainEvent;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit 5 tests for the per-user workload report
+ * Tests cover:
+ * - topLoaded returns the same users as a full sort, heaviest first
+ * - HEAVIEST_FIRST ties: more completed first, then user ID
+ * - Counters following task created, status changed, deleted and archived events
+ * - The ranking kept up to date by events matches a full sort after every change
+ */
+class WorkloadReportTest {
+
+    private WorkloadReport report;
+
+    @BeforeEach
+    void setUp() {
+        report = new WorkloadReport(null);
+    }
+
+    /**
+     * Test: The ranking picks the same top n as sorting every user
+     */
+    @Test
+    void testTopLoadedMatchesFullSort() {
+        // Given: 300 users with random, often tied, loads
+        Random random = new Random(42);
+        Task[] tasks = new Task[5_000];
+        for (int i = 0; i < tasks.length; i++) {
+            String status = random.nextInt(3) == 0 ? "Completed" : "Pending";
+            tasks[i] = Task.restore(String.format("T%04d", i), "Task", status, "P0001",
+                    String.format("U%04d", random.nextInt(300)), 0, 0);
+        }
+        report.load(tasks);
+
+        // When
+        UserWorkloadDto[] top = report.topLoaded(10);
+
+        // Then
+        UserWorkloadDto[] all = new UserWorkloadDto[300];
+        for (int u = 0; u < all.length; u++) all[u] = report.workloadOf(String.format("U%04d", u));
+        Arrays.sort(all, WorkloadReport.HEAVIEST_FIRST);
+        assertEquals(10, top.length);
+        for (int i = 0; i < top.length; i++) assertEquals(all[i], top[i], "Rank " + i);
+    }
+
+    /**
+     * Test: Equal open counts are ordered by completed (more first), then by user ID
+     */
+    @Test
+    void testTieBreaking() {
+        // Given: U0003 and U0001 tie on everything, U0002 has more completed
+        created("U0003", "Pending");
+        created("U0001", "Pending");
+        created("U0002", "Pending");
+        created("U0002", "Completed");
+
+        // When
+        UserWorkloadDto[] top = report.topLoaded(2);
+
+        // Then
+        assertEquals("U0002", top[0].userId(), "More completed ranks first on equal open");
+        assertEquals("U0001", top[1].userId(), "Full tie falls back to user ID");
+        assertEquals(0, report.topLoaded(0).length);
+    }
+
+    /**
+     * Test: Each task event moves the counters of its assignee
+     */
+    @Test
+    void testIncrementalEvents() {
+        // Given
+        created("U0001", "Pending");
+        created("U0001", "Pending");
+        created(null, "Pending");
+
+        // When
+        report.onEvent(new DomainEvent.TaskStatusChanged("T0001", "P0001", "U0001", "Pending", "Completed"));
+        report.onEvent(new DomainEvent.TaskDeleted("T0002", "P0001", "U0001", "Pending"));
+
+        // Then
+        UserWorkloadDto workload = report.workloadOf("U0001");
+        assertEquals(0, workload.openTasks());
+        assertEquals(1, workload.completedTasks());
+
+        // When: the completed task is archived
+        report.onEvent(new DomainEvent.TaskArchived("T0001", "P0001", "U0001", "Completed"));
+
+        // Then: a user without tasks leaves the ranking
+        assertEquals(0, report.workloadOf("U0001").completedTasks());
+        assertEquals(0, report.topLoaded(5).length, "Unassigned tasks are not counted");
+    }
+
+    /**
+     * Test: Users moving up and down the ranking through events stay in full-sort order
+     */
+    @Test
+    void testRankingFollowsEvents() {
+        // Given: 20 users, 2,000 random creations, completions and deletions
+        Random random = new Random(7);
+        for (int i = 0; i < 2_000; i++) {
+            String userId = String.format("U%04d", random.nextInt(20));
+            UserWorkloadDto before = report.workloadOf(userId);
+            int action = random.nextInt(3);
+
+            // When
+            if (action == 0 || before.openTasks() == 0) {
+                created(userId, "Pending");
+            } else if (action == 1) {
+                report.onEvent(new DomainEvent.TaskStatusChanged("T0000", "P0001", userId, "Pending", "Completed"));
+            } else {
+                report.onEvent(new DomainEvent.TaskDeleted("T0000", "P0001", userId, "Pending"));
+            }
+
+            // Then
+            UserWorkloadDto[] all = new UserWorkloadDto[20];
+            for (int u = 0; u < all.length; u++) all[u] = report.workloadOf(String.format("U%04d", u));
+            Arrays.sort(all, WorkloadReport.HEAVIEST_FIRST);
+            UserWorkloadDto[] top = report.topLoaded(5);
+            for (int r = 0; r < top.length; r++) assertEquals(all[r], top[r], "Rank " + r + " after event " + i);
+        }
+    }
+
+    private void created(String userId, String status) {
+        report.onEvent(new DomainEvent.TaskCreated("T0000", "P0001", userId, status));
+    }
+}
@@ -0,0 +1,60 @@
+package benchmarks;
+
+/**
+ * Minimal micro-benchmark harness used by the classes in this package.
+ * - Runs warmup rounds so the JIT compiles the measured code first
+ * - Reports the best and average time of the measured rounds
+ *
+ * Run a benchmark with: java -cp out benchmarks.&lt;Name&gt;Benchmark
+ */
+public final class BenchmarkRunner {
+
+    private static volatile long blackhole;
+
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * A measured action returning how many operations it performed.
+     */
+    @FunctionalInterface
+    public interface Action {
+        long run();
+    }
+
+    /**
+     * Measure an action and print nanoseconds per operation.
+     *
+     * @return average nanoseconds per operation over the measured rounds
+     */
+    public static double measure(String name, int warmupRounds, int rounds, Action action) {
+        for (int i = 0; i < warmupRounds; i++) consume(action.run());
+
+        long best = Long.MAX_VALUE;
+        long totalNanos = 0;
+        long totalOps = 0;
+        for (int i = 0; i < rounds; i++) {
+            long start = System.nanoTime();
+            long ops = action.run();
+            long elapsed = System.nanoTime() - start;
+            totalNanos += elapsed;
+            totalOps += ops;
+            best = Math.min(best, ops == 0 ? elapsed : elapsed / ops);
+        }
+
+        double avg = totalOps == 0 ? totalNanos : (double) totalNanos / totalOps;
+        System.out.printf("%-45s avg %12.2f ns/op   best %10d ns/op%n", name, avg, best);
+        return avg;
+    }
+
+    /**
+     * Keep a computed value alive so the JIT cannot remove the work producing it.
+     */
+    public static void consume(long value) {
+        blackhole += value;
+    }
+
+    public static void consume(Object value) {
+        if (value != null) blackhole += value.hashCode();
+    }
+}
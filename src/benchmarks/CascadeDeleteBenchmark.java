@@ -0,0 +1,59 @@
+package benchmarks;
+
+import Repository.TaskRepository;
+import models.Task;
+import utils.IdCodec;
+
+/**
+ * Cost of removing one project of fixed size (PROJECT_TASKS tasks) with
+ * TaskRepository.removeByProjectId while the rest of the repository grows.
+ * The project's slots are the lowest ones, which used to be the worst case for
+ * the shared status and assignee lists when they were compacted on every removal.
+ * The project is added back and removed again in every round, so the repository
+ * is built once per size and only the removal is timed.
+ *
+ * Expect the time to stay roughly flat as the repository grows (a tombstone per
+ * removed slot and shared list, found by binary search), not to grow with it.
+ */
+public class CascadeDeleteBenchmark {
+
+    private static final int PROJECT_TASKS = 100;
+    private static final int ROUNDS = 2_000;
+    private static final String[] STATUSES = {"Pending", "In Progress", "Completed"};
+
+    public static void main(String[] args) {
+        for (int total : new int[]{10_000, 100_000, 1_000_000}) {
+            TaskRepository repository = build(total);
+            long best = Long.MAX_VALUE;
+            for (int round = 0; round < ROUNDS; round++) {
+                addProject(repository);
+                long start = System.nanoTime();
+                Task[] removed = repository.removeByProjectId("P0000");
+                long elapsed = System.nanoTime() - start;
+                BenchmarkRunner.consume(removed);
+                best = Math.min(best, elapsed);
+            }
+            System.out.printf("%-45s best %10.1f us%n",
+                    "remove " + PROJECT_TASKS + " of " + total + " tasks", best / 1_000.0);
+        }
+    }
+
+    // Every slot but the first PROJECT_TASKS, spread over 50 other projects
+    private static TaskRepository build(int total) {
+        TaskRepository repository = new TaskRepository(total);
+        for (int i = PROJECT_TASKS; i < total; i++) {
+            repository.add(task(i, IdCodec.format('P', 1 + i % 50)), i);
+        }
+        return repository;
+    }
+
+    // P0000 takes the first PROJECT_TASKS slots
+    private static void addProject(TaskRepository repository) {
+        for (int i = 0; i < PROJECT_TASKS; i++) repository.add(task(i, "P0000"), i);
+    }
+
+    private static Task task(int i, String projectId) {
+        return Task.restore(IdCodec.format('T', i), "Task " + i, STATUSES[i % STATUSES.length],
+                projectId, IdCodec.format('U', i % 20), 0, 0);
+    }
+}
@@ -0,0 +1,86 @@
+package benchmarks;
+
+import utils.IdCodec;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Cost of turning IDs into storage indexes and back, before and after IdCodec:
+ * String.format vs IdCodec.format, substring + Integer.parseInt vs IdCodec.parse,
+ * and rejecting a malformed ID with a caught NumberFormatException vs INVALID.
+ * Bytes allocated per operation are printed after the timings.
+ */
+public class IdCodecBenchmark {
+
+    private static final int IDS = 10_000;
+    private static final int MALFORMED = 1_000;
+
+    public static void main(String[] args) {
+        String[] ids = new String[IDS];
+        for (int i = 0; i < IDS; i++) ids[i] = IdCodec.format('T', i);
+        String[] malformed = new String[MALFORMED];
+        for (int i = 0; i < MALFORMED; i++) malformed[i] = "T00" + (char) ('a' + i % 26) + i;
+
+        BenchmarkRunner.Action formatOld = () -> {
+            for (int i = 0; i < IDS; i++) BenchmarkRunner.consume("T" + String.format("%04d", i));
+            return IDS;
+        };
+        BenchmarkRunner.Action formatNew = () -> {
+            for (int i = 0; i < IDS; i++) BenchmarkRunner.consume(IdCodec.format('T', i));
+            return IDS;
+        };
+        BenchmarkRunner.Action parseOld = () -> {
+            long sum = 0;
+            for (String id : ids) sum += Integer.parseInt(id.substring(1));
+            BenchmarkRunner.consume(sum);
+            return IDS;
+        };
+        BenchmarkRunner.Action parseNew = () -> {
+            long sum = 0;
+            for (String id : ids) sum += IdCodec.parse(id, 'T');
+            BenchmarkRunner.consume(sum);
+            return IDS;
+        };
+        BenchmarkRunner.Action rejectOld = () -> {
+            long misses = 0;
+            for (String id : malformed) {
+                try {
+                    BenchmarkRunner.consume(Integer.parseInt(id.substring(1)));
+                } catch (NumberFormatException e) {
+                    misses++;
+                }
+            }
+            BenchmarkRunner.consume(misses);
+            return MALFORMED;
+        };
+        BenchmarkRunner.Action rejectNew = () -> {
+            long misses = 0;
+            for (String id : malformed) if (IdCodec.parse(id, 'T') == IdCodec.INVALID) misses++;
+            BenchmarkRunner.consume(misses);
+            return MALFORMED;
+        };
+
+        BenchmarkRunner.measure("format, String.format", 20, 50, formatOld);
+        BenchmarkRunner.measure("format, IdCodec", 20, 50, formatNew);
+        BenchmarkRunner.measure("parse, substring + parseInt", 20, 50, parseOld);
+        BenchmarkRunner.measure("parse, IdCodec", 20, 50, parseNew);
+        BenchmarkRunner.measure("malformed, NumberFormatException", 20, 50, rejectOld);
+        BenchmarkRunner.measure("malformed, IdCodec.INVALID", 20, 50, rejectNew);
+
+        System.out.println();
+        printAllocation("format, String.format", formatOld);
+        printAllocation("format, IdCodec", formatNew);
+        printAllocation("parse, substring + parseInt", parseOld);
+        printAllocation("parse, IdCodec", parseNew);
+        printAllocation("malformed, NumberFormatException", rejectOld);
+        printAllocation("malformed, IdCodec.INVALID", rejectNew);
+    }
+
+    private static void printAllocation(String name, BenchmarkRunner.Action action) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        long ops = action.run();
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+        System.out.printf("%-45s %10.1f B/op%n", name, (double) allocated / ops);
+    }
+}
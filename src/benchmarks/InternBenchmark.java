@@ -0,0 +1,87 @@
+package benchmarks;
+
+import Repository.TaskRepository;
+import models.Task;
+import utils.StringInterner;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+
+/**
+ * Heap saved by interning the repeated fields of 1M tasks, and the equality
+ * fast path it gives to project lookups.
+ *
+ * Tasks are built the way an import or the console builds them: every field
+ * is its own String instance, even when the value repeats.
+ */
+public class InternBenchmark {
+
+    private static final int TASKS = 1_000_000;
+    private static final int PROJECTS = 100;
+    private static final int USERS = 1_000;
+    private static final String[] STATUSES = {"Pending", "In Progress", "Completed"};
+
+    public static void main(String[] args) {
+        // Heap: the same 1M tasks with private vs shared field strings
+        long before = usedHeap();
+        Task[] copies = buildTasks();
+        long copiedBytes = usedHeap() - before;
+
+        StringInterner interner = new StringInterner();
+        Task[] shared = new Task[TASKS];
+        for (int i = 0; i < TASKS; i++) shared[i] = copies[i].withSharedStrings(interner::intern);
+        copies = null;
+        long sharedBytes = usedHeap() - before;
+        Reference.reachabilityFence(shared);
+
+        System.out.printf("Heap for %d tasks: %d MB without interning, %d MB interned (%d B/task saved, %d distinct values)%n",
+                TASKS, copiedBytes >> 20, sharedBytes >> 20, (copiedBytes - sharedBytes) / TASKS, interner.size());
+
+        // Lookups: project IDs compared against canonical vs private copies
+        Task[] distinct = buildTasks();
+        String canonicalId = interner.intern(projectId(42));
+        String copiedId = new String(canonicalId);
+        // ns per task compared
+        BenchmarkRunner.measure("scan equals, private copies", 5, 20, () -> countProject(distinct, copiedId));
+        BenchmarkRunner.measure("scan equals, interned", 5, 20, () -> countProject(shared, canonicalId));
+
+        TaskRepository repository = new TaskRepository(TASKS, interner);
+        for (int i = 0; i < TASKS; i++) repository.add(shared[i], i);
+        // ns per call (10k tasks returned each)
+        BenchmarkRunner.measure("findByProjectId, private query copy", 20, 50, () -> {
+            BenchmarkRunner.consume(repository.findByProjectId(new String(copiedId)));
+            return 1;
+        });
+        BenchmarkRunner.measure("findByProjectId, interned query", 20, 50, () -> {
+            BenchmarkRunner.consume(repository.findByProjectId(canonicalId));
+            return 1;
+        });
+    }
+
+    private static Task[] buildTasks() {
+        Task[] tasks = new Task[TASKS];
+        for (int i = 0; i < TASKS; i++) {
+            tasks[i] = Task.restore("T" + i, "Task " + i, new String(STATUSES[i % STATUSES.length]),
+                    projectId(i % PROJECTS), String.format("U%04d", i % USERS), 0, 0);
+        }
+        return tasks;
+    }
+
+    private static String projectId(int n) {
+        return String.format("P%04d", n);
+    }
+
+    private static long countProject(Task[] tasks, String projectId) {
+        long count = 0;
+        for (Task task : tasks) {
+            if (task.getProjectId().equals(projectId)) count++;
+        }
+        BenchmarkRunner.consume(count);
+        return tasks.length;
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
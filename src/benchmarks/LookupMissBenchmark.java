@@ -0,0 +1,122 @@
+package benchmarks;
+
+import Repository.ProjectRepository;
+import Repository.TaskRepository;
+import models.Project;
+import models.Task;
+import services.GenerateProjectId;
+import services.GenerateTaskId;
+import services.ProjectService;
+import utils.IdCodec;
+
+/**
+ * Cost of looking up IDs that do not exist, the way callers handled a miss
+ * before (call the throwing lookup and catch) and after (find / Optional).
+ * Every lookup in the measured loops is a miss.
+ */
+public class LookupMissBenchmark {
+
+    private static final int SLOTS = 10_000;
+
+    public static void main(String[] args) {
+        ProjectRepository projects = new ProjectRepository(SLOTS);
+        TaskRepository tasks = new TaskRepository(SLOTS);
+        ProjectService projectService = new ProjectService(projects, new GenerateProjectId());
+        GenerateTaskId taskIds = new GenerateTaskId();
+
+        String[] missingProjects = new String[SLOTS];
+        String[] missingTasks = new String[SLOTS];
+        for (int i = 0; i < SLOTS; i++) {
+            missingProjects[i] = IdCodec.format('P', i);
+            missingTasks[i] = IdCodec.format('T', i);
+        }
+        String[] malformed = {"", "P", "PX001", "project-1", "P12a4"};
+
+        // Repository: empty slots
+        BenchmarkRunner.measure("ProjectRepository.getById + catch", 5, 20, () -> {
+            long misses = 0;
+            for (int i = 0; i < SLOTS; i++) {
+                try {
+                    BenchmarkRunner.consume(projects.getById(i));
+                } catch (RuntimeException e) {
+                    misses++;
+                }
+            }
+            return misses;
+        });
+        BenchmarkRunner.measure("ProjectRepository.find", 5, 20, () -> {
+            long misses = 0;
+            for (int i = 0; i < SLOTS; i++) if (projects.find(i) == null) misses++;
+            return misses;
+        });
+        BenchmarkRunner.measure("TaskRepository.getById + catch", 5, 20, () -> {
+            long misses = 0;
+            for (int i = 0; i < SLOTS; i++) {
+                try {
+                    BenchmarkRunner.consume(tasks.getById(i));
+                } catch (RuntimeException e) {
+                    misses++;
+                }
+            }
+            return misses;
+        });
+        BenchmarkRunner.measure("TaskRepository.find", 5, 20, () -> {
+            long misses = 0;
+            for (int i = 0; i < SLOTS; i++) if (tasks.find(i) == null) misses++;
+            return misses;
+        });
+
+        // Service: unknown IDs
+        BenchmarkRunner.measure("ProjectService.getProjectById + catch", 5, 20, () -> {
+            long misses = 0;
+            for (String id : missingProjects) {
+                try {
+                    BenchmarkRunner.consume(projectService.getProjectById(id));
+                } catch (RuntimeException e) {
+                    misses++;
+                }
+            }
+            return misses;
+        });
+        BenchmarkRunner.measure("ProjectService.findProjectById", 5, 20, () -> {
+            long misses = 0;
+            for (String id : missingProjects) {
+                Project project = projectService.findProjectById(id).orElse(null);
+                if (project == null) misses++;
+            }
+            return misses;
+        });
+
+        // ID to slot: malformed IDs
+        BenchmarkRunner.measure("elementIndex (malformed) + catch", 5, 20, () -> {
+            long misses = 0;
+            for (int r = 0; r < SLOTS / malformed.length; r++) {
+                for (String id : malformed) {
+                    try {
+                        BenchmarkRunner.consume(taskIds.elementIndex(id));
+                    } catch (NumberFormatException e) {
+                        misses++;
+                    }
+                }
+            }
+            return misses;
+        });
+        BenchmarkRunner.measure("indexOf (malformed)", 5, 20, () -> {
+            long misses = 0;
+            for (int r = 0; r < SLOTS / malformed.length; r++) {
+                for (String id : malformed) if (taskIds.indexOf(id) == IdCodec.INVALID) misses++;
+            }
+            return misses;
+        });
+
+        // Unknown task IDs already go through a null returning path
+        BenchmarkRunner.measure("TaskRepository.findByTaskId", 5, 20, () -> {
+            long misses = 0;
+            for (String id : missingTasks) {
+                Task task = tasks.findByTaskId(id);
+                if (task == null) misses++;
+            }
+            return misses;
+        });
+    }
+}
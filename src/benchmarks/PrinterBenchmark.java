@@ -0,0 +1,72 @@
+package benchmarks;
+
+import Repository.TaskRepository;
+import models.Task;
+import utils.Printer;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/**
+ * Compares the old per-row System.out.printf table output with the
+ * buffered TableRenderer used by Printer, for 100k tasks.
+ * Output goes to an autoflushing PrintStream (like a console) that discards bytes.
+ */
+public class PrinterBenchmark {
+
+    private static final int TASKS = 100_000;
+
+    public static void main(String[] args) {
+        TaskRepository repository = new TaskRepository(TASKS);
+        String[] statuses = {"Pending", "In Progress", "Completed"};
+        for (int i = 0; i < TASKS; i++) {
+            Task task = new Task("Task number " + i, statuses[i % 3], "P" + String.format("%04d", i % 50))
+                    .withTaskId("T" + String.format("%04d", i));
+            repository.add(task, i);
+        }
+        Task[] tasks = repository.getAll();
+        Printer printer = new Printer();
+
+        PrintStream console = System.out;
+        PrintStream sink = new PrintStream(OutputStream.nullOutputStream(), true);
+
+        console.printf("Rendering %d task rows per op%n", TASKS);
+        long printf = time(sink, () -> legacyPrintTasksTable(tasks));
+        long buffered = time(sink, () -> printer.printTasksTable(tasks, null, 0.0));
+        long streamed = time(sink, () -> printer.printTasksTable(repository.iterator(), null, 0.0));
+
+        console.printf("%-30s %8d ms%n", "printf per row", printf);
+        console.printf("%-30s %8d ms%n", "TableRenderer (Task[])", buffered);
+        console.printf("%-30s %8d ms%n", "TableRenderer (iterator)", streamed);
+    }
+
+    private static long time(PrintStream sink, Runnable action) {
+        PrintStream console = System.out;
+        System.setOut(sink);
+        try {
+            for (int i = 0; i < 3; i++) action.run();
+            long best = Long.MAX_VALUE;
+            for (int i = 0; i < 5; i++) {
+                long start = System.nanoTime();
+                action.run();
+                best = Math.min(best, System.nanoTime() - start);
+            }
+            return best / 1_000_000;
+        } finally {
+            System.setOut(console);
+        }
+    }
+
+    /**
+     * Copy of the printf loop Printer used before TableRenderer.
+     */
+    private static void legacyPrintTasksTable(Task[] tasks) {
+        System.out.printf("%-5s %-20s %-30s %-15s %-30s%n", "ID", "TASK NAME", "STATUS", "ASSIGNED USER", "USER EMAIL");
+        for (Task t : tasks) {
+            if (t == null)
+                continue;
+            System.out.printf("%-5s %-20s %-30s %-15s %-30s%n",
+                    t.getTaskId(), t.getTaskName(), t.getTaskStatus(), "Unassigned", "-");
+        }
+    }
+}
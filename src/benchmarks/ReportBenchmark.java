@@ -0,0 +1,67 @@
+package benchmarks;
+
+import models.Project;
+import models.SoftwareProject;
+import models.Task;
+import services.ParallelReportEngine;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Project status report over 1M tasks and 200 projects, nanoseconds per full report:
+ * the old per-project scan against ParallelReportEngine on 1 thread and on all cores.
+ */
+public class ReportBenchmark {
+
+    private static final int TASKS = 1_000_000;
+    private static final int PROJECTS = 200;
+
+    public static void main(String[] args) {
+        Project[] projects = new Project[PROJECTS];
+        for (int p = 0; p < PROJECTS; p++) {
+            projects[p] = new SoftwareProject("Project " + p, "Desc", "Software", 5, "Java", 1000);
+            projects[p].setId("P" + p);
+        }
+        String[] statuses = {"Pending", "In Progress", "Completed"};
+        Task[] tasks = new Task[TASKS];
+        for (int i = 0; i < TASKS; i++) {
+            tasks[i] = new Task("Task " + i, statuses[i % 3], projects[i % PROJECTS].getId());
+        }
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        ParallelReportEngine single = new ParallelReportEngine(new ForkJoinPool(1));
+        ParallelReportEngine parallel = new ParallelReportEngine();
+
+        System.out.printf("%d tasks, %d projects, %d cores%n", TASKS, PROJECTS, cores);
+        BenchmarkRunner.measure("per-project scan (old buildReport)", 2, 5,
+                () -> {
+                    BenchmarkRunner.consume(legacyReport(projects, tasks));
+                    return 1;
+                });
+        double one = BenchmarkRunner.measure("engine, 1 thread", 5, 10,
+                () -> {
+                    BenchmarkRunner.consume(single.build(projects, tasks));
+                    return 1;
+                });
+        double all = BenchmarkRunner.measure("engine, common pool", 5, 10,
+                () -> {
+                    BenchmarkRunner.consume(parallel.build(projects, tasks));
+                    return 1;
+                });
+        System.out.printf("speedup over 1 thread: %.2fx%n", one / all);
+    }
+
+    /**
+     * The old buildReport shape: one full filter over all tasks per project.
+     */
+    private static long legacyReport(Project[] projects, Task[] tasks) {
+        long completed = 0;
+        for (Project p : projects) {
+            for (Task t : tasks) {
+                if (t != null && p.getId().equals(t.getProjectId())
+                        && "Completed".equalsIgnoreCase(t.getTaskStatus())) completed++;
+            }
+        }
+        return completed;
+    }
+}
@@ -0,0 +1,33 @@
+package benchmarks;
+
+import Repository.TaskRepository;
+import models.Task;
+
+/**
+ * Full-text search latency over 1M task names.
+ */
+public class SearchBenchmark {
+
+    private static final int TASKS = 1_000_000;
+
+    public static void main(String[] args) {
+        String[] verbs = {"Deploy", "Review", "Design", "Test", "Document", "Refactor", "Migrate", "Benchmark"};
+        String[] nouns = {"database", "login page", "payment api", "report module", "search index",
+                "cache layer", "deployment pipeline", "user settings"};
+
+        TaskRepository repository = new TaskRepository(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            String name = verbs[i % verbs.length] + " " + nouns[(i / verbs.length) % nouns.length] + " " + i;
+            Task task = new Task(name, "Pending", "P0001").withTaskId("T" + i);
+            repository.add(task, i);
+        }
+
+        System.out.printf("Indexed %d task names%n", TASKS);
+        BenchmarkRunner.measure("exact, rare term (\"123456\")", 20, 50,
+                () -> repository.searchByName("123456", 10).length);
+        BenchmarkRunner.measure("two terms (\"search index\")", 5, 20,
+                () -> repository.searchByName("search index", 10).length);
+        BenchmarkRunner.measure("prefix (\"deplo\")", 5, 20,
+                () -> repository.searchByName("deplo", 10).length);
+    }
+}
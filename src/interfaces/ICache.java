@@ -0,0 +1,34 @@
+package interfaces;
+
+import models.CacheStats;
+
+import java.util.function.Function;
+
+/**
+ * Size-bounded key/value cache used by the caching service decorators.
+ * Implementations decide what to evict (LRU, LFU) and must be thread-safe.
+ */
+public interface ICache<K, V> {
+
+    /**
+     * Cached value or null; counts a hit or a miss.
+     */
+    V get(K key);
+
+    /**
+     * Read-through: return the cached value, or load, cache and return it.
+     * A null loaded value is returned but not cached, nor is a value whose
+     * load overlapped an invalidate or clear (it may be stale).
+     */
+    V getOrLoad(K key, Function<? super K, ? extends V> loader);
+
+    void put(K key, V value);
+
+    void invalidate(K key);
+
+    void clear();
+
+    int size();
+
+    CacheStats stats();
+}
@@ -1,16 +1,27 @@
 package interfaces;
 
+import models.Page;
 import models.Project;
 
+import java.util.Optional;
+
 /**
  * ProjectService interface following Dependency Inversion Principle (DIP)
  */
 public interface IProjectService {
     void addProject(Project project);
     Project getProjectById(String id);
+
+    /**
+     * Lookup that reports a missing or malformed ID as empty instead of throwing
+     */
+    Optional<Project> findProjectById(String id);
     Project[] getAllProjects();
+    Page<Project> getProjectsPage(String afterProjectId, int pageSize);
+    Project updateProject(Project replacement, long expectedVersion);
     void deleteProjectById(String id);
     Project[] filterByType(String type);
     Project[] findByBudgetRange(double min, double max);
+    Project[] searchProjects(String text, int limit);
 }
 
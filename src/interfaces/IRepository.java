@@ -8,6 +8,24 @@ public interface IRepository<T> {
     void add(T item, int index);
     T[] getAll();
     T getById(int id);
-    void removeById(int id);
+
+    /**
+     * Item stored at the index, or null when the index is out of range or the slot
+     * is empty. Never throws, for lookups where a miss is an expected outcome.
+     */
+    T find(int index);
+
+    /**
+     * Clear the slot and return the item that was in it, as it was at the moment
+     * it was removed, so callers can describe exactly what they deleted.
+     */
+    T removeById(int id);
     void update(int id, T item);
+
+    /**
+     * Keyset page: up to limit items stored after the given index (-1 = from the start).
+     * Only the returned slots are read, nothing is copied up front. Ask for one row
+     * more than the page size to learn whether a next page exists.
+     */
+    T[] getPage(int afterIndex, int limit);
 }
@@ -1,18 +1,37 @@
 package interfaces;
 
+import models.Page;
 import models.Task;
+import models.TaskQuery;
+
+import java.util.Optional;
 
 /**
  * TaskService interface following Dependency Inversion Principle (DIP)
  * High-level modules should depend on abstractions, not concretions
  */
 public interface ITaskService {
-    void addTask(Task task);
+    /**
+     * Store a new task, generating its ID when it has none.
+     *
+     * @return the stored task, carrying its ID (tasks are immutable, the argument is not changed)
+     */
+    Task addTask(Task task);
     Task[] getAllTasks();
+    Page<Task> getTasksPage(String afterTaskId, int pageSize);
     Task getTaskById(String taskId);
+
+    /**
+     * Lookup that reports a missing or malformed ID as empty instead of throwing
+     */
+    Optional<Task> findTaskById(String taskId);
     Task updateTaskStatus(String taskId, String taskStatus);
+    Task updateTaskStatus(String taskId, String taskStatus, long expectedVersion);
     void deleteTask(String taskId);
     Task[] getTasksByProjectId(String projectId);
     double calculateCompletionRate(String projectId);
+    Task[] findTasks(TaskQuery query);
+    String explainQuery(TaskQuery query);
+    Task[] searchTasks(String text, int limit);
 }
 
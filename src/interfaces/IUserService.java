@@ -1,7 +1,10 @@
 package interfaces;
 
+import models.Page;
 import models.User;
 
+import java.util.Optional;
+
 /**
  * UserService interface following Dependency Inversion Principle (DIP)
  * High-level modules should depend on abstractions, not concretions
@@ -13,7 +16,13 @@ public interface IUserService {
     void logout();
     User getCurrentUser();
     User[] getAllUsers();
+    Page<User> getUsersPage(String afterUserId, int pageSize);
     User getUserById(String userId);
+
+    /**
+     * Lookup that reports a missing or malformed ID as empty instead of throwing
+     */
+    Optional<User> findUserById(String userId);
     User[] getUsersByRole(String role);
     void displayCurrentUser();
 }
@@ -1,9 +1,48 @@
 package interfaces;
 
+import utils.IdCodec;
+
 public interface IdGenerator {
 
     String generate();
-    int elementIndex(String id);
-}
 
+    /**
+     * Letter every generated ID starts with
+     */
+    char prefix();
+
+    /**
+     * Storage index of an ID.
+     *
+     * @throws NumberFormatException when the ID is malformed; use indexOf on paths
+     *                               where malformed input is expected
+     */
+    default int elementIndex(String id) {
+        int index = indexOf(id);
+        if (index == IdCodec.INVALID) throw new NumberFormatException("Invalid ID: " + id);
+        return index;
+    }
 
+    /**
+     * Storage index of an ID, or IdCodec.INVALID when it is malformed. Never throws.
+     */
+    default int indexOf(String id) {
+        return IdCodec.parse(id, prefix());
+    }
+
+    /**
+     * Primitive key of an ID in its generated form, or -1 when it is not one.
+     * Never throws and does not allocate, so it can be used to key int maps:
+     * keyOf(idOf(k)) == k and idOf(keyOf(id)).equals(id).
+     */
+    default int keyOf(String id) {
+        return IdCodec.parseCanonical(id, prefix());
+    }
+
+    /**
+     * ID for a primitive key, the inverse of keyOf
+     */
+    default String idOf(int key) {
+        return IdCodec.format(prefix(), key);
+    }
+}
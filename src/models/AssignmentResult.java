@@ -0,0 +1,21 @@
+package models;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a batch assignment.
+ * - assigned: IDs that were assigned, in request order
+ * - failures: ID -> reason for every ID that was not assigned
+ */
+public record AssignmentResult(List<String> assigned, Map<String, String> failures) {
+
+    public AssignmentResult {
+        assigned = List.copyOf(assigned);
+        failures = Map.copyOf(failures);
+    }
+
+    public boolean isComplete() {
+        return failures.isEmpty();
+    }
+}
@@ -0,0 +1,18 @@
+package models;
+
+/**
+ * Point-in-time cache counters.
+ */
+public record CacheStats(long hits, long misses, long evictions, int size, int capacity) {
+
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("hits=%d misses=%d hitRate=%.1f%% evictions=%d size=%d/%d",
+                hits, misses, hitRate() * 100, evictions, size, capacity);
+    }
+}
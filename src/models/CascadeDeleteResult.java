@@ -0,0 +1,9 @@
+package models;
+
+/**
+ * Outcome of deleting a project together with everything that belongs to it.
+ * - tasksRemoved: tasks of the project that were deleted
+ * - assignmentsRemoved: users that were unassigned from the project
+ */
+public record CascadeDeleteResult(String projectId, int tasksRemoved, int assignmentsRemoved) {
+}
@@ -17,4 +17,12 @@ public class HardwareProject extends Project {
     public void displayProjects() {
         // Optional: leave empty or call ConsoleMenu.displayProjects(this)
     }
+
+    @Override
+    public HardwareProject withVersion(long version) {
+        HardwareProject copy = new HardwareProject(getName(), getDescription(), getType(), getTeamSize(), hardwareType, getBudget());
+        copy.setId(getId());
+        copy.setVersion(version);
+        return copy;
+    }
 }
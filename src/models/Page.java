@@ -0,0 +1,53 @@
+package models;
+
+import interfaces.IdGenerator;
+import utils.exceptions.InvalidInputException;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset (cursor) listing.
+ * - items: the rows of this page, in ID order
+ * - nextCursor: ID of the last row, pass it back to get the next page (null when there is no next page)
+ */
+public record Page<T>(T[] items, String nextCursor) {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Clamp a requested page size to the allowed range.
+     * Non-positive sizes fall back to the default page size.
+     */
+    public static int normalizePageSize(int pageSize) {
+        if (pageSize <= 0) return DEFAULT_PAGE_SIZE;
+        return Math.min(pageSize, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Build a page from up to limit + 1 rows read after the cursor: the extra row
+     * only tells that another page exists, so no second scan is needed for it.
+     */
+    public static <T> Page<T> of(T[] fetched, int limit, Function<? super T, String> idOf) {
+        if (fetched.length <= limit) return new Page<>(fetched, null);
+        T[] items = Arrays.copyOf(fetched, limit);
+        return new Page<>(items, idOf.apply(items[limit - 1]));
+    }
+
+    /**
+     * Decode a cursor into the storage index to continue after (-1 = first page).
+     */
+    public static int cursorIndex(String cursor, IdGenerator idGenerator) {
+        if (cursor == null || cursor.isEmpty()) return -1;
+        try {
+            return idGenerator.elementIndex(cursor);
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            throw new InvalidInputException("Invalid page cursor: " + cursor, e);
+        }
+    }
+}
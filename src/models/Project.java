@@ -7,6 +7,7 @@ public abstract class Project {
     private final String type;
     private final int teamSize;
     private final double budget;
+    private long version;
 
     public Project(String id, String name, String description, String type, int teamSize, double budget) {
         this.id = id;
@@ -20,6 +21,9 @@ public abstract class Project {
 //This are my setters
     public void setId(String id) {  this.id = id; }
 
+    // Set by ProjectService when this instance replaces an older version of the project
+    public void setVersion(long version) { this.version = version; }
+
 
     //These are my Gettere methods
     public String getId() { return id; }
@@ -28,8 +32,16 @@ public abstract class Project {
     public String getType() { return type; }
     public int getTeamSize() { return teamSize; }
     public double getBudget() { return budget; }
+    public long getVersion() { return version; }
 
     public abstract void displayProjects();
 
+    /**
+     * Copy of this project (same ID and fields) at the given version; this
+     * instance is left as it is, so a caller's object is never changed by a
+     * versioned update that stores the copy.
+     */
+    public abstract Project withVersion(long version);
+
 
 }
@@ -0,0 +1,19 @@
+package models;
+
+import java.util.List;
+
+/**
+ * Immutable point-in-time copy of the project status report.
+ * - version increases with every change applied to the materialized view
+ */
+public record ReportSnapshot(long version, List<ProjectStatusReportDto> rows, int totalTasks, int totalCompleted) {
+
+    public ReportSnapshot {
+        rows = List.copyOf(rows);
+    }
+
+    public double averageCompletion() {
+        if (totalTasks == 0) return 0.0;
+        return (totalCompleted * 100.0) / totalTasks;
+    }
+}
@@ -17,4 +17,12 @@ public class SoftwareProject extends Project {
     public void displayProjects() {
         // Optional: leave empty or call ConsoleMenu.displayProjects(this)
     }
+
+    @Override
+    public SoftwareProject withVersion(long version) {
+        SoftwareProject copy = new SoftwareProject(getName(), getDescription(), getType(), getTeamSize(), programmingLanguage, getBudget());
+        copy.setId(getId());
+        copy.setVersion(version);
+        return copy;
+    }
 }
@@ -1,34 +1,68 @@
 package models;
 
+import java.util.function.UnaryOperator;
+
+/**
+ * Immutable task.
+ * - Every change produces a new Task with the same ID and version + 1
+ *   (withStatus, withAssignedUserId); the repository swaps it into the slot
+ * - Readers holding a Task never see it change, so reports and listings can
+ *   run without locks while writes continue
+ *
+ * A new task has no ID; the service layer gives it one with withTaskId, which
+ * returns a copy like every other change.
+ *
+ * completedAt is the epoch millisecond a task last became "Completed"
+ * (0 while it is not completed); the archive tier uses it to age tasks out.
+ */
 public class Task {
-    private String taskName;
-    private String taskId;
-    private String taskStatus;
-    private String projectId;
-    private String assignedUserId;
+    private final String taskName;
+    private final String taskId;
+    private final String taskStatus;
+    private final String projectId;
+    private final String assignedUserId;
+    private final long version;
+    private final long completedAt;
 
     /**
      * Constructor - ID should be set by service layer using IdGenerator
      * Following Dependency Inversion Principle
      */
     public Task(String taskName, String taskStatus, String projectId) {
-        this.taskName = taskName;
-        this.taskStatus = taskStatus;
-        this.projectId = projectId;
-        this.assignedUserId = null;
+        this(taskName, taskStatus, projectId, null);
         // ID will be set by service layer
     }
 
     public Task(String taskName, String taskStatus, String projectId, String assignedUserId) {
+        this(null, taskName, taskStatus, projectId, assignedUserId, 0,
+                isCompleted(taskStatus) ? System.currentTimeMillis() : 0);
+        // ID will be set by service layer
+    }
+
+    private Task(String taskId, String taskName, String taskStatus, String projectId, String assignedUserId,
+                 long version, long completedAt) {
+        this.taskId = taskId;
         this.taskName = taskName;
         this.taskStatus = taskStatus;
         this.projectId = projectId;
         this.assignedUserId = assignedUserId;
-        // ID will be set by service layer
+        this.version = version;
+        this.completedAt = completedAt;
     }
-    public void setTaskStatus (String status){
-        taskStatus=status;
+
+    /**
+     * Rebuild a stored task exactly as it was (ID, version and completion time included),
+     * e.g. when it is read back from the archive.
+     */
+    public static Task restore(String taskId, String taskName, String taskStatus, String projectId,
+                               String assignedUserId, long version, long completedAt) {
+        return new Task(taskId, taskName, taskStatus, projectId, assignedUserId, version, completedAt);
+    }
+
+    public static boolean isCompleted(String status) {
+        return "Completed".equalsIgnoreCase(status);
     }
+
     public String getTaskName() {
         return taskName;
     }
@@ -36,9 +70,6 @@ public class Task {
         return taskId;
     }
 
-    public void setTaskId(String taskId) {
-        this.taskId = taskId;
-    }
     public String getTaskStatus() {
         return taskStatus;
     }
@@ -50,8 +81,49 @@ public class Task {
         return assignedUserId;
     }
 
-    public void setAssignedUserId(String assignedUserId) {
-        this.assignedUserId = assignedUserId;
+    /**
+     * Version of this task; starts at 0 and grows by one per change.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Epoch millis when the task became completed, 0 if it is not completed.
+     */
+    public long getCompletedAt() {
+        return completedAt;
+    }
+
+    /**
+     * This task with its repeated fields (status, project and assignee IDs)
+     * replaced by canonical instances; returns this when they already are.
+     */
+    public Task withSharedStrings(UnaryOperator<String> canonical) {
+        String status = canonical.apply(taskStatus);
+        String project = canonical.apply(projectId);
+        String assignee = canonical.apply(assignedUserId);
+        if (status == taskStatus && project == projectId && assignee == assignedUserId) return this;
+        return new Task(taskId, taskName, status, project, assignee, version, completedAt);
+    }
+
+    /**
+     * This new task with the given ID, same version. An ID is given only once.
+     */
+    public Task withTaskId(String newTaskId) {
+        if (taskId != null && !taskId.equals(newTaskId))
+            throw new IllegalStateException("Task " + taskId + " already has an ID");
+        return new Task(newTaskId, taskName, taskStatus, projectId, assignedUserId, version, completedAt);
+    }
+
+    public Task withStatus(String newStatus) {
+        long completed = !isCompleted(newStatus) ? 0
+                : completedAt != 0 ? completedAt : System.currentTimeMillis();
+        return new Task(taskId, taskName, newStatus, projectId, assignedUserId, version + 1, completed);
+    }
+
+    public Task withAssignedUserId(String newAssignedUserId) {
+        return new Task(taskId, taskName, taskStatus, projectId, newAssignedUserId, version + 1, completedAt);
     }
 
 }
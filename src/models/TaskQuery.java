@@ -0,0 +1,110 @@
+package models;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Composable task query: AND of field predicates, each an equality or IN list.
+ * Example:
+ * new TaskQuery().projectIs("P0001").statusIs("In Progress").assigneeIn("U0001", "U0002")
+ *         .orderBy(TaskQuery.Order.TASK_ID_DESC).limit(10)
+ */
+public final class TaskQuery {
+
+    public enum Field { PROJECT, STATUS, ASSIGNEE }
+
+    public enum Order { TASK_ID_ASC, TASK_ID_DESC, NAME_ASC }
+
+    private final Map<Field, Set<String>> predicates = new EnumMap<>(Field.class);
+    private Order order = Order.TASK_ID_ASC;
+    private int limit = Integer.MAX_VALUE;
+
+    public TaskQuery projectIs(String projectId) {
+        return where(Field.PROJECT, projectId);
+    }
+
+    public TaskQuery projectIn(String... projectIds) {
+        return where(Field.PROJECT, projectIds);
+    }
+
+    public TaskQuery statusIs(String status) {
+        return where(Field.STATUS, status);
+    }
+
+    public TaskQuery statusIn(String... statuses) {
+        return where(Field.STATUS, statuses);
+    }
+
+    public TaskQuery assigneeIs(String userId) {
+        return where(Field.ASSIGNEE, userId);
+    }
+
+    public TaskQuery assigneeIn(String... userIds) {
+        return where(Field.ASSIGNEE, userIds);
+    }
+
+    public TaskQuery orderBy(Order order) {
+        if (order == null) throw new IllegalArgumentException("Order cannot be null");
+        this.order = order;
+        return this;
+    }
+
+    public TaskQuery limit(int limit) {
+        if (limit <= 0) throw new IllegalArgumentException("Limit must be positive");
+        this.limit = limit;
+        return this;
+    }
+
+    /**
+     * Values accepted for a field, or null if the field is not constrained.
+     */
+    public Set<String> valuesOf(Field field) {
+        return predicates.get(field);
+    }
+
+    public Set<Field> fields() {
+        return predicates.keySet();
+    }
+
+    public Order order() {
+        return order;
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    /**
+     * Adding a second predicate on the same field keeps only the common values (AND).
+     */
+    private TaskQuery where(Field field, String... values) {
+        if (values == null || values.length == 0)
+            throw new IllegalArgumentException(field + " needs at least one value");
+        Set<String> accepted = new LinkedHashSet<>();
+        for (String value : values) {
+            if (value == null) throw new IllegalArgumentException(field + " value cannot be null");
+            accepted.add(value);
+        }
+        Set<String> existing = predicates.get(field);
+        if (existing != null) accepted.retainAll(existing);
+        predicates.put(field, accepted);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<Field, Set<String>> e : predicates.entrySet()) {
+            if (sb.length() > 0) sb.append(" AND ");
+            Set<String> values = e.getValue();
+            if (values.size() == 1) sb.append(e.getKey()).append(" = ").append(values.iterator().next());
+            else sb.append(e.getKey()).append(" IN ").append(Arrays.toString(values.toArray()));
+        }
+        if (sb.length() == 0) sb.append("ALL");
+        return sb.append(" ORDER BY ").append(order)
+                .append(limit == Integer.MAX_VALUE ? "" : " LIMIT " + limit).toString();
+    }
+}
@@ -0,0 +1,12 @@
+package models;
+
+/**
+ * Per-project task counters at the end of one time bucket.
+ */
+public record TrendPoint(long bucketStartMillis, int total, int completed, int inProgress) {
+
+    public double completionRate() {
+        if (total == 0) return 0.0;
+        return (completed * 100.0) / total;
+    }
+}
@@ -1,5 +1,7 @@
 package models;
 
+import java.util.function.UnaryOperator;
+
 public abstract class User {
     protected String id;
     protected String name;
@@ -37,6 +39,15 @@ public abstract class User {
         return role;
     }
 
+    /**
+     * Replace the ID and role by canonical instances, so they are shared with
+     * every other place holding the same value (e.g. task assignee IDs).
+     */
+    public void shareStrings(UnaryOperator<String> canonical) {
+        id = canonical.apply(id);
+        role = canonical.apply(role);
+    }
+
     public abstract void displayRole();
 
     @Override
@@ -0,0 +1,7 @@
+package models;
+
+/**
+ * Open and completed task counts of one user, plus how many projects the user is assigned to.
+ */
+public record UserWorkloadDto(String userId, int openTasks, int completedTasks, int assignedProjects) {
+}
@@ -0,0 +1,98 @@
+package services;
+
+import interfaces.ICache;
+import interfaces.IProjectService;
+import models.CacheStats;
+import models.Page;
+import models.Project;
+import services.events.DomainEvent;
+import services.events.EventSubscriber;
+
+import java.util.Optional;
+
+/**
+ * CachingProjectService following SOLID principles:
+ * - Single Responsibility: Only adds read-through caching of project lookups by ID
+ * - Open/Closed: Wraps any IProjectService without modifying it (decorator)
+ * - Liskov Substitution: Usable wherever an IProjectService is expected
+ *
+ * Writes go to the delegate first, then the cached entry is invalidated.
+ * Subscribed to the project service's bus, it also drops projects updated or
+ * removed elsewhere (cascade deletes, transactions).
+ */
+public class CachingProjectService implements IProjectService, EventSubscriber {
+    private final IProjectService delegate;
+    private final ICache<String, Project> cache;
+
+    public CachingProjectService(IProjectService delegate, ICache<String, Project> cache) {
+        if (delegate == null) throw new IllegalArgumentException("ProjectService cannot be null");
+        if (cache == null) throw new IllegalArgumentException("Cache cannot be null");
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public void onEvent(DomainEvent event) {
+        switch (event) {
+            case DomainEvent.ProjectUpdated e -> cache.invalidate(e.projectId());
+            case DomainEvent.ProjectRemoved e -> cache.invalidate(e.projectId());
+            default -> {
+            }
+        }
+    }
+
+    public CacheStats getCacheStats() {
+        return cache.stats();
+    }
+
+    public void addProject(Project project) {
+        delegate.addProject(project);
+        if (project != null && project.getId() != null) cache.invalidate(project.getId());
+    }
+
+    public Project getProjectById(String id) {
+        if (id == null) return delegate.getProjectById(null);
+        return cache.getOrLoad(id, delegate::getProjectById);
+    }
+
+    public Optional<Project> findProjectById(String id) {
+        if (id == null) return delegate.findProjectById(null);
+        return Optional.ofNullable(cache.getOrLoad(id, key -> delegate.findProjectById(key).orElse(null)));
+    }
+
+    public Project[] getAllProjects() {
+        return delegate.getAllProjects();
+    }
+
+    public Page<Project> getProjectsPage(String afterProjectId, int pageSize) {
+        return delegate.getProjectsPage(afterProjectId, pageSize);
+    }
+
+    public Project updateProject(Project replacement, long expectedVersion) {
+        try {
+            return delegate.updateProject(replacement, expectedVersion);
+        } finally {
+            if (replacement != null && replacement.getId() != null) cache.invalidate(replacement.getId());
+        }
+    }
+
+    public void deleteProjectById(String id) {
+        try {
+            delegate.deleteProjectById(id);
+        } finally {
+            if (id != null) cache.invalidate(id);
+        }
+    }
+
+    public Project[] filterByType(String type) {
+        return delegate.filterByType(type);
+    }
+
+    public Project[] findByBudgetRange(double min, double max) {
+        return delegate.findByBudgetRange(min, max);
+    }
+
+    public Project[] searchProjects(String text, int limit) {
+        return delegate.searchProjects(text, limit);
+    }
+}
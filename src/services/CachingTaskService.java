@@ -0,0 +1,120 @@
+package services;
+
+import interfaces.ICache;
+import interfaces.ITaskService;
+import models.CacheStats;
+import models.Page;
+import models.Task;
+import models.TaskQuery;
+import services.events.DomainEvent;
+import services.events.EventSubscriber;
+
+import java.util.Optional;
+
+/**
+ * CachingTaskService following SOLID principles:
+ * - Single Responsibility: Only adds read-through caching of single-task lookups
+ * - Open/Closed: Wraps any ITaskService without modifying it (decorator)
+ * - Liskov Substitution: Usable wherever an ITaskService is expected
+ *
+ * Mutations go to the delegate first and then invalidate the cached entry,
+ * so a failed write never leaves a stale value behind. Bulk reads, paging
+ * and queries are passed through untouched.
+ *
+ * Tasks also change without passing through this decorator (cascade deletes,
+ * transactions, the archiver); subscribe it to the task service's bus so
+ * those changes invalidate too.
+ */
+public class CachingTaskService implements ITaskService, EventSubscriber {
+    private final ITaskService delegate;
+    private final ICache<String, Task> cache;
+
+    public CachingTaskService(ITaskService delegate, ICache<String, Task> cache) {
+        if (delegate == null) throw new IllegalArgumentException("TaskService cannot be null");
+        if (cache == null) throw new IllegalArgumentException("Cache cannot be null");
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public void onEvent(DomainEvent event) {
+        switch (event) {
+            case DomainEvent.TaskStatusChanged e -> cache.invalidate(e.taskId());
+            case DomainEvent.TaskDeleted e -> cache.invalidate(e.taskId());
+            case DomainEvent.TaskArchived e -> cache.invalidate(e.taskId());
+            default -> {
+            }
+        }
+    }
+
+    public CacheStats getCacheStats() {
+        return cache.stats();
+    }
+
+    public Task addTask(Task task) {
+        Task added = delegate.addTask(task);
+        if (added != null && added.getTaskId() != null) cache.invalidate(added.getTaskId());
+        return added;
+    }
+
+    public Task[] getAllTasks() {
+        return delegate.getAllTasks();
+    }
+
+    public Page<Task> getTasksPage(String afterTaskId, int pageSize) {
+        return delegate.getTasksPage(afterTaskId, pageSize);
+    }
+
+    public Task getTaskById(String taskId) {
+        if (taskId == null) return delegate.getTaskById(null);
+        return cache.getOrLoad(taskId, delegate::getTaskById);
+    }
+
+    public Optional<Task> findTaskById(String taskId) {
+        return Optional.ofNullable(getTaskById(taskId));
+    }
+
+    public Task updateTaskStatus(String taskId, String taskStatus) {
+        try {
+            return delegate.updateTaskStatus(taskId, taskStatus);
+        } finally {
+            if (taskId != null) cache.invalidate(taskId);
+        }
+    }
+
+    public Task updateTaskStatus(String taskId, String taskStatus, long expectedVersion) {
+        try {
+            return delegate.updateTaskStatus(taskId, taskStatus, expectedVersion);
+        } finally {
+            if (taskId != null) cache.invalidate(taskId);
+        }
+    }
+
+    public void deleteTask(String taskId) {
+        try {
+            delegate.deleteTask(taskId);
+        } finally {
+            if (taskId != null) cache.invalidate(taskId);
+        }
+    }
+
+    public Task[] getTasksByProjectId(String projectId) {
+        return delegate.getTasksByProjectId(projectId);
+    }
+
+    public double calculateCompletionRate(String projectId) {
+        return delegate.calculateCompletionRate(projectId);
+    }
+
+    public Task[] findTasks(TaskQuery query) {
+        return delegate.findTasks(query);
+    }
+
+    public String explainQuery(TaskQuery query) {
+        return delegate.explainQuery(query);
+    }
+
+    public Task[] searchTasks(String text, int limit) {
+        return delegate.searchTasks(text, limit);
+    }
+}
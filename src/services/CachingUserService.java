@@ -0,0 +1,84 @@
+package services;
+
+import interfaces.ICache;
+import interfaces.IUserService;
+import models.CacheStats;
+import models.Page;
+import models.User;
+
+import java.util.Optional;
+
+/**
+ * CachingUserService following SOLID principles:
+ * - Single Responsibility: Only adds read-through caching of user lookups by ID
+ * - Open/Closed: Wraps any IUserService without modifying it (decorator)
+ * - Liskov Substitution: Usable wherever an IUserService is expected
+ *
+ * Session state (login, logout, current user) stays in the delegate.
+ * Users are never modified after creation, so new users are simply cached.
+ */
+public class CachingUserService implements IUserService {
+    private final IUserService delegate;
+    private final ICache<String, User> cache;
+
+    public CachingUserService(IUserService delegate, ICache<String, User> cache) {
+        if (delegate == null) throw new IllegalArgumentException("UserService cannot be null");
+        if (cache == null) throw new IllegalArgumentException("Cache cannot be null");
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    public CacheStats getCacheStats() {
+        return cache.stats();
+    }
+
+    public User createRegularUser(String name, String email) {
+        return remember(delegate.createRegularUser(name, email));
+    }
+
+    public User createAdminUser(String name, String email) {
+        return remember(delegate.createAdminUser(name, email));
+    }
+
+    public User login(String userId) {
+        return delegate.login(userId);
+    }
+
+    public void logout() {
+        delegate.logout();
+    }
+
+    public User getCurrentUser() {
+        return delegate.getCurrentUser();
+    }
+
+    public User[] getAllUsers() {
+        return delegate.getAllUsers();
+    }
+
+    public Page<User> getUsersPage(String afterUserId, int pageSize) {
+        return delegate.getUsersPage(afterUserId, pageSize);
+    }
+
+    public User getUserById(String userId) {
+        if (userId == null) return null;
+        return cache.getOrLoad(userId, delegate::getUserById);
+    }
+
+    public Optional<User> findUserById(String userId) {
+        return Optional.ofNullable(getUserById(userId));
+    }
+
+    public User[] getUsersByRole(String role) {
+        return delegate.getUsersByRole(role);
+    }
+
+    public void displayCurrentUser() {
+        delegate.displayCurrentUser();
+    }
+
+    private User remember(User user) {
+        if (user != null && user.getId() != null) cache.put(user.getId(), user);
+        return user;
+    }
+}
@@ -0,0 +1,77 @@
+package services;
+
+import models.CascadeDeleteResult;
+import models.Task;
+import services.events.DomainEvent;
+import utils.exceptions.EmptyProjectException;
+import utils.metrics.LatencyHistogram;
+import utils.metrics.MetricsRegistry;
+
+/**
+ * CascadeDeleteService following Single Responsibility Principle (SRP)
+ * - Only responsible for deleting a project together with its tasks and
+ *   its user assignments, so no orphaned rows are left behind
+ * - Tasks are found through the project index and removed in one bulk pass,
+ *   the team is dropped in one step
+ * - Events (TaskDeleted, UserUnassigned, ProjectRemoved) are published once
+ *   everything is removed, each batch on the bus of the store it came from;
+ *   caches and views drop their entries from those events
+ * - Callers that must not leave orphans call deleteProject instead of
+ *   ProjectService.deleteProjectById, which only removes the project
+ *
+ * Cost: O(k log n) for a project with k tasks in a repository of n. The project's
+ * postings name its slots, and every index list they appear in, including the
+ * dataset-wide status and assignee lists, drops them as tombstones found by
+ * binary search; those lists are only compacted once half of them is tombstones
+ * (see PostingList and CascadeDeleteBenchmark).
+ */
+public class CascadeDeleteService {
+    private static final MetricsRegistry METRICS = MetricsRegistry.global();
+    private static final LatencyHistogram DELETE_PROJECT_TIME = METRICS.histogram("CascadeDeleteService.deleteProject");
+
+    private final ProjectService projectService;
+    private final TaskService taskService;
+    private final ProjectUserAssignmentOperations assignments;
+
+    public CascadeDeleteService(ProjectService projectService, TaskService taskService,
+                                ProjectUserAssignmentOperations assignments) {
+        if (projectService == null) throw new IllegalArgumentException("ProjectService cannot be null");
+        if (taskService == null) throw new IllegalArgumentException("TaskService cannot be null");
+        if (assignments == null) throw new IllegalArgumentException("Assignments cannot be null");
+        this.projectService = projectService;
+        this.taskService = taskService;
+        this.assignments = assignments;
+    }
+
+    /**
+     * Delete a project, its tasks and its assignments.
+     *
+     * @throws EmptyProjectException when the project does not exist
+     */
+    public CascadeDeleteResult deleteProject(String projectId) {
+        long startNanos = DELETE_PROJECT_TIME.start();
+        try {
+            Task[] tasks;
+            String[] users;
+            synchronized (this) {
+                if (projectService.findProjectById(projectId).isEmpty())
+                    throw new EmptyProjectException("No Project Found for this Id: " + projectId);
+                tasks = taskService.discardByProject(projectId);
+                users = assignments.removeProject(projectId);
+                projectService.discard(projectId);
+            }
+
+            DomainEvent[] deleted = new DomainEvent[tasks.length];
+            for (int i = 0; i < tasks.length; i++) deleted[i] = DomainEvent.TaskDeleted.of(tasks[i]);
+            taskService.getEventBus().publishAll(deleted);
+            DomainEvent[] unassigned = new DomainEvent[users.length];
+            for (int i = 0; i < users.length; i++) unassigned[i] = new DomainEvent.UserUnassigned(projectId, users[i]);
+            assignments.getEventBus().publishAll(unassigned);
+            projectService.getEventBus().publish(new DomainEvent.ProjectRemoved(projectId));
+
+            return new CascadeDeleteResult(projectId, tasks.length, users.length);
+        } finally {
+            DELETE_PROJECT_TIME.recordSince(startNanos);
+        }
+    }
+}
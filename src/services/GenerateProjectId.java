@@ -1,19 +1,21 @@
 package services;
 
 import interfaces.IdGenerator;
+import utils.jfr.IdGenerationEvent;
 
 public class GenerateProjectId implements IdGenerator {
     private static int counter = 0;
 
     @Override
     public String generate() {
-
-
-            return "P" + String.format("%04d", counter++);
-
+        IdGenerationEvent event = new IdGenerationEvent();
+        event.begin();
+        String id = idOf(counter++);
+        event.finish("GenerateProjectId", id);
+        return id;
     }
     @Override
-    public int elementIndex(String id) {
-        return Integer.parseInt(id.substring(1));
+    public char prefix() {
+        return 'P';
     }
 }
@@ -1,6 +1,7 @@
 package services;
 
 import interfaces.IdGenerator;
+import utils.jfr.IdGenerationEvent;
 
 public class GenerateTaskId implements IdGenerator {
 
@@ -8,12 +9,16 @@ public class GenerateTaskId implements IdGenerator {
 
     @Override
     public String generate() {
-        return "T" + String.format("%04d", counter++);
+        IdGenerationEvent event = new IdGenerationEvent();
+        event.begin();
+        String id = idOf(counter++);
+        event.finish("GenerateTaskId", id);
+        return id;
     }
 
     @Override
-    public int elementIndex(String id) {
-        return Integer.parseInt(id.substring(1));
+    public char prefix() {
+        return 'T';
     }
 
 }
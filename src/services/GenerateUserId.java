@@ -1,6 +1,7 @@
 package services;
 
 import interfaces.IdGenerator;
+import utils.jfr.IdGenerationEvent;
 
 public class GenerateUserId  implements IdGenerator{
 
@@ -8,12 +9,16 @@ public class GenerateUserId  implements IdGenerator{
 
     @Override
     public String generate() {
-        return "U" + String.format("%04d", counter++);
+        IdGenerationEvent event = new IdGenerationEvent();
+        event.begin();
+        String id = idOf(counter++);
+        event.finish("GenerateUserId", id);
+        return id;
     }
 
 
     @Override
-    public int elementIndex(String id) {
-        return Integer.parseInt(id.substring(1));
+    public char prefix() {
+        return 'U';
     }
 }
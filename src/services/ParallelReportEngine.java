@@ -0,0 +1,131 @@
+package services;
+
+import Repository.TaskRepository;
+import models.Project;
+import models.ProjectStatusReportDto;
+import models.Task;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * ParallelReportEngine following Single Responsibility Principle (SRP)
+ * - Only responsible for aggregating tasks into per-project status counts
+ * - The task slots are split into ranges on the common fork/join pool, read in
+ *   place (no copy of the repository), each range counts into its own map and
+ *   partial maps are merged pairwise
+ * - One pass over the tasks, whatever the number of projects
+ */
+public class ParallelReportEngine {
+
+    /** Below this many tasks a slice is counted on the current thread. */
+    private static final int MIN_SLICE = 8_192;
+
+    private final ForkJoinPool pool;
+
+    public ParallelReportEngine() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public ParallelReportEngine(ForkJoinPool pool) {
+        if (pool == null) throw new IllegalArgumentException("ForkJoinPool cannot be null");
+        this.pool = pool;
+    }
+
+    /**
+     * Build one DTO per project (in the given project order) from a single pass over the tasks.
+     */
+    public ProjectStatusReportDto[] build(Project[] projects, Task[] tasks) {
+        return build(projects, TaskRepository.Slots.of(tasks));
+    }
+
+    /**
+     * Same as build(projects, tasks), reading the tasks straight from repository slots.
+     */
+    public ProjectStatusReportDto[] build(Project[] projects, TaskRepository.Slots tasks) {
+        if (projects == null || projects.length == 0) return new ProjectStatusReportDto[0];
+
+        Map<String, int[]> counts = aggregate(tasks);
+
+        ProjectStatusReportDto[] report = new ProjectStatusReportDto[projects.length];
+        int count = 0;
+        for (Project p : projects) {
+            if (p == null) continue;
+            int[] c = counts.get(p.getId());
+            report[count++] = new ProjectStatusReportDto(p.getId(), p.getName(),
+                    c == null ? 0 : c[0], c == null ? 0 : c[1]);
+        }
+        return count == report.length ? report : Arrays.copyOf(report, count);
+    }
+
+    /**
+     * Per-project {total, completed} counts.
+     */
+    public Map<String, int[]> aggregate(Task[] tasks) {
+        return aggregate(TaskRepository.Slots.of(tasks));
+    }
+
+    public Map<String, int[]> aggregate(TaskRepository.Slots tasks) {
+        int length = tasks == null ? 0 : tasks.length();
+        if (length == 0) return new HashMap<>();
+        int slice = Math.max(MIN_SLICE, length / (pool.getParallelism() * 4));
+        if (length <= slice) return count(tasks, 0, length);
+        return pool.invoke(new Slice(tasks, 0, length, slice));
+    }
+
+    private static Map<String, int[]> count(TaskRepository.Slots tasks, int from, int to) {
+        Map<String, int[]> counts = new HashMap<>();
+        for (int i = from; i < to; i++) {
+            Task t = tasks.get(i);
+            if (t == null || t.getProjectId() == null) continue;
+            int[] c = counts.computeIfAbsent(t.getProjectId(), k -> new int[2]);
+            c[0]++;
+            if ("Completed".equalsIgnoreCase(t.getTaskStatus())) c[1]++;
+        }
+        return counts;
+    }
+
+    private static Map<String, int[]> merge(Map<String, int[]> left, Map<String, int[]> right) {
+        Map<String, int[]> into = left.size() >= right.size() ? left : right;
+        Map<String, int[]> from = into == left ? right : left;
+        for (Map.Entry<String, int[]> e : from.entrySet()) {
+            int[] c = into.get(e.getKey());
+            if (c == null) {
+                into.put(e.getKey(), e.getValue());
+            } else {
+                c[0] += e.getValue()[0];
+                c[1] += e.getValue()[1];
+            }
+        }
+        return into;
+    }
+
+    // Fork/join tasks are never serialized, RecursiveTask is Serializable only by inheritance
+    @SuppressWarnings("serial")
+    private static final class Slice extends RecursiveTask<Map<String, int[]>> {
+        private final TaskRepository.Slots tasks;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        Slice(TaskRepository.Slots tasks, int from, int to, int threshold) {
+            this.tasks = tasks;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Map<String, int[]> compute() {
+            if (to - from <= threshold) return count(tasks, from, to);
+            int mid = (from + to) >>> 1;
+            Slice left = new Slice(tasks, from, mid, threshold);
+            left.fork();
+            Map<String, int[]> right = new Slice(tasks, mid, to, threshold).compute();
+            return merge(left.join(), right);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package services;
+
+import models.Project;
+import models.ProjectStatusReportDto;
+import models.ReportSnapshot;
+import models.Task;
+import services.events.DomainEvent;
+import services.events.EventSubscriber;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Materialized project status report, maintained incrementally.
+ * - Task add / status change / delete and project add / removal adjust per-project counters
+ * - Readers get an immutable ReportSnapshot; while nothing changed the cached snapshot
+ *   is returned without locking, otherwise it is rebuilt from the counters
+ *   (cost proportional to the number of projects, never to the number of tasks)
+ * - Task and update events for a removed project are ignored, e.g. the TaskDeleted
+ *   events of a cascade delete that arrive after its ProjectRemoved
+ */
+public class ProjectReportView implements EventSubscriber {
+
+    private static final class Counts {
+        String projectName;
+        boolean projectExists;
+        int total;
+        int completed;
+    }
+
+    private final Map<String, Counts> counts = new LinkedHashMap<>();
+    private final Set<String> removedProjects = new HashSet<>();
+    private volatile long version;
+    private volatile ReportSnapshot snapshot = new ReportSnapshot(0, List.of(), 0, 0);
+
+    /**
+     * Replace the whole view with a freshly built report.
+     */
+    public synchronized void load(Project[] projects, Task[] tasks) {
+        counts.clear();
+        removedProjects.clear();
+        if (projects != null) {
+            for (Project p : projects) if (p != null) projectAdded(p.getId(), p.getName());
+        }
+        if (tasks != null) {
+            for (Task t : tasks) if (t != null) taskAdded(t.getProjectId(), t.getTaskStatus());
+        }
+        version++;
+    }
+
+    public ReportSnapshot snapshot() {
+        ReportSnapshot current = snapshot;
+        if (current.version() == version) return current;
+        return rebuildSnapshot();
+    }
+
+    @Override
+    public synchronized void onEvent(DomainEvent event) {
+        apply(event);
+    }
+
+    @Override
+    public synchronized void onBatch(DomainEvent[] events, int count) {
+        EventSubscriber.applyEach(events, count, this::apply);
+    }
+
+    private void apply(DomainEvent event) {
+        switch (event) {
+            case DomainEvent.TaskCreated e -> taskAdded(e.projectId(), e.status());
+            case DomainEvent.TaskStatusChanged e -> taskStatusChanged(e.projectId(), e.oldStatus(), e.newStatus());
+            case DomainEvent.TaskDeleted e -> taskDeleted(e.projectId(), e.status());
+            case DomainEvent.TaskArchived e -> taskDeleted(e.projectId(), e.status());
+            case DomainEvent.ProjectAdded e -> projectAdded(e.projectId(), e.projectName());
+            case DomainEvent.ProjectUpdated e -> projectUpdated(e.projectId(), e.projectName());
+            case DomainEvent.ProjectRemoved e -> projectRemoved(e.projectId());
+            default -> {
+            }
+        }
+    }
+
+    private void taskAdded(String projectId, String status) {
+        Counts c = countsFor(projectId);
+        if (c == null) return;
+        c.total++;
+        if (isCompleted(status)) c.completed++;
+        version++;
+    }
+
+    private void taskStatusChanged(String projectId, String oldStatus, String newStatus) {
+        boolean was = isCompleted(oldStatus);
+        boolean now = isCompleted(newStatus);
+        if (was == now) return;
+        Counts c = countsFor(projectId);
+        if (c == null) return;
+        c.completed += now ? 1 : -1;
+        version++;
+    }
+
+    private void taskDeleted(String projectId, String status) {
+        Counts c = countsFor(projectId);
+        if (c == null) return;
+        c.total--;
+        if (isCompleted(status)) c.completed--;
+        version++;
+    }
+
+    private void projectAdded(String projectId, String projectName) {
+        if (projectId != null) removedProjects.remove(projectId);
+        Counts c = countsFor(projectId);
+        if (c == null) return;
+        c.projectName = projectName;
+        c.projectExists = true;
+        version++;
+    }
+
+    private void projectUpdated(String projectId, String projectName) {
+        if (projectId == null || removedProjects.contains(projectId)) return;
+        projectAdded(projectId, projectName);
+    }
+
+    private void projectRemoved(String projectId) {
+        if (projectId == null) return;
+        removedProjects.add(projectId);
+        if (counts.remove(projectId) != null) version++;
+    }
+
+    /**
+     * Compare the view against a report rebuilt from scratch.
+     *
+     * @return one line per difference, empty when the view is consistent
+     */
+    public List<String> diff(ProjectStatusReportDto[] rebuilt) {
+        List<ProjectStatusReportDto> rows = snapshot().rows();
+        Map<String, ProjectStatusReportDto> expected = new LinkedHashMap<>();
+        for (ProjectStatusReportDto dto : rebuilt) if (dto != null) expected.put(dto.projectId(), dto);
+
+        List<String> differences = new ArrayList<>();
+        for (ProjectStatusReportDto actual : rows) {
+            ProjectStatusReportDto e = expected.remove(actual.projectId());
+            if (e == null) {
+                differences.add("Project " + actual.projectId() + " is in the view but not in the rebuilt report");
+            } else if (!e.equals(actual)) {
+                differences.add("Project " + actual.projectId() + ": view " + actual + " != rebuilt " + e);
+            }
+        }
+        for (ProjectStatusReportDto missing : expected.values()) {
+            differences.add("Project " + missing.projectId() + " is missing from the view");
+        }
+        return differences;
+    }
+
+    private synchronized ReportSnapshot rebuildSnapshot() {
+        List<ProjectStatusReportDto> rows = new ArrayList<>(counts.size());
+        int totalTasks = 0;
+        int totalCompleted = 0;
+        for (Map.Entry<String, Counts> e : counts.entrySet()) {
+            Counts c = e.getValue();
+            if (!c.projectExists) continue;
+            rows.add(new ProjectStatusReportDto(e.getKey(), c.projectName, c.total, c.completed));
+            totalTasks += c.total;
+            totalCompleted += c.completed;
+        }
+        ReportSnapshot rebuilt = new ReportSnapshot(version, rows, totalTasks, totalCompleted);
+        snapshot = rebuilt;
+        return rebuilt;
+    }
+
+    // Counters of a project, created on first use; null for removed projects
+    private Counts countsFor(String projectId) {
+        if (projectId == null || removedProjects.contains(projectId)) return null;
+        return counts.computeIfAbsent(projectId, id -> new Counts());
+    }
+
+    private static boolean isCompleted(String status) {
+        return "Completed".equalsIgnoreCase(status);
+    }
+}
@@ -3,7 +3,16 @@ package services;
 
 import Repository.ProjectRepository;
 import interfaces.IProjectService;
+import models.Page;
 import models.Project;
+import services.events.DomainEvent;
+import services.events.EventBus;
+import utils.exceptions.EmptyProjectException;
+import utils.exceptions.VersionConflictException;
+import utils.metrics.LatencyHistogram;
+import utils.metrics.MetricsRegistry;
+
+import java.util.Optional;
 
 /**
  * ProjectService following SOLID principles:
@@ -11,59 +20,209 @@ import models.Project;
  * - Dependency Inversion: Depends on ProjectRepository abstraction
  */
 public class ProjectService implements IProjectService {
+    private static final MetricsRegistry METRICS = MetricsRegistry.global();
+    private static final LatencyHistogram ADD_PROJECT_TIME = METRICS.sampledHistogram("ProjectService.addProject");
+    private static final LatencyHistogram GET_PROJECT_BY_ID_TIME = METRICS.sampledHistogram("ProjectService.getProjectById");
+    private static final LatencyHistogram FIND_PROJECT_BY_ID_TIME = METRICS.sampledHistogram("ProjectService.findProjectById");
+    private static final LatencyHistogram GET_ALL_PROJECTS_TIME = METRICS.sampledHistogram("ProjectService.getAllProjects");
+    private static final LatencyHistogram GET_PROJECTS_PAGE_TIME = METRICS.sampledHistogram("ProjectService.getProjectsPage");
+    private static final LatencyHistogram UPDATE_PROJECT_TIME = METRICS.sampledHistogram("ProjectService.updateProject");
+    private static final LatencyHistogram DELETE_PROJECT_BY_ID_TIME = METRICS.sampledHistogram("ProjectService.deleteProjectById");
+    private static final LatencyHistogram FILTER_BY_TYPE_TIME = METRICS.sampledHistogram("ProjectService.filterByType");
+    private static final LatencyHistogram FIND_BY_BUDGET_RANGE_TIME = METRICS.sampledHistogram("ProjectService.findByBudgetRange");
+    private static final LatencyHistogram SEARCH_PROJECTS_TIME = METRICS.sampledHistogram("ProjectService.searchProjects");
 
     private final ProjectRepository projectRepository;
     private final  GenerateProjectId projectIdGenerator;
+    private final EventBus eventBus;
 
 
 
     public ProjectService( ProjectRepository projectRepository, GenerateProjectId projectIdGenerator) {
+        this(projectRepository, projectIdGenerator, new EventBus());
+    }
 
+    public ProjectService(ProjectRepository projectRepository, GenerateProjectId projectIdGenerator, EventBus eventBus) {
+        if (eventBus == null) throw new IllegalArgumentException("EventBus cannot be null");
         this.projectRepository = projectRepository;
         this.projectIdGenerator = projectIdGenerator;
-
+        this.eventBus = eventBus;
     }
 
 
 
 
+    // Bus on which projects being added or removed are published
+    public EventBus getEventBus() {
+        return eventBus;
+    }
+
     // Add a project (store in array slot based on ID number)
     public void addProject(Project project) {
+        long startNanos = ADD_PROJECT_TIME.start();
+        try {
 
-        // Generate ID if not set
-        if (project.getId() == null || project.getId().isEmpty()) {
-            String generatedId = projectIdGenerator.generate();
-            project.setId(generatedId);
+            // Generate ID if not set
+            if (project.getId() == null || project.getId().isEmpty()) {
+                String generatedId = projectIdGenerator.generate();
+                project.setId(generatedId);
+            }
+            int index = projectIdGenerator.elementIndex(project.getId());
+            projectRepository.add(project,index);
+            eventBus.publish(DomainEvent.ProjectAdded.of(project));
+        } finally {
+            ADD_PROJECT_TIME.recordSince(startNanos);
         }
-        int index = projectIdGenerator.elementIndex(project.getId());
-        projectRepository.add(project,index);
     }
 
     // Get project by id
     public Project getProjectById(String id) {
-      int index =   projectIdGenerator.elementIndex(id);
-        return (Project) projectRepository.getById(index);
+        long startNanos = GET_PROJECT_BY_ID_TIME.start();
+        try {
+            Project project = lookup(id);
+            if (project == null) throw new EmptyProjectException("No Project Found for this Id: " + id);
+            return project;
+        } finally {
+            GET_PROJECT_BY_ID_TIME.recordSince(startNanos);
+        }
+    }
+
+    public Optional<Project> findProjectById(String id) {
+        long startNanos = FIND_PROJECT_BY_ID_TIME.start();
+        try {
+            return Optional.ofNullable(lookup(id));
+        } finally {
+            FIND_PROJECT_BY_ID_TIME.recordSince(startNanos);
+        }
+    }
+
+    // Project with this ID, or null; a miss costs no exception
+    private Project lookup(String id) {
+        return projectRepository.find(projectIdGenerator.indexOf(id));
     }
 
     public Project [] getAllProjects(){
+        long startNanos = GET_ALL_PROJECTS_TIME.start();
+        try {
 
-        return projectRepository.getAll();
+            return projectRepository.getAll();
+        } finally {
+            GET_ALL_PROJECTS_TIME.recordSince(startNanos);
+        }
     }
-    //Delete A project by id
-    public void deleteProjectById(String id) {
+    /**
+     * Keyset page of projects ordered by ID, starting after the given cursor
+     * (null for the first page). Page size is clamped to Page.MAX_PAGE_SIZE.
+     */
+    public Page<Project> getProjectsPage(String afterProjectId, int pageSize) {
+        long startNanos = GET_PROJECTS_PAGE_TIME.start();
+        try {
+            int limit = Page.normalizePageSize(pageSize);
+            Project[] fetched = projectRepository.getPage(Page.cursorIndex(afterProjectId, projectIdGenerator), limit + 1);
+            return Page.of(fetched, limit, Project::getId);
+        } finally {
+            GET_PROJECTS_PAGE_TIME.recordSince(startNanos);
+        }
+    }
+
+    /**
+     * Replace a project with a new version of it (same ID), only if the stored
+     * project is still at expectedVersion. The slot is swapped with a CAS and only
+     * the text index update after it locks the slot's stripe, so updates of
+     * different projects take no shared lock.
+     *
+     * @return the stored copy of replacement at expectedVersion + 1; replacement itself is not changed
+     * @throws VersionConflictException when the project changed since expectedVersion was read
+     */
+    public Project updateProject(Project replacement, long expectedVersion) {
+        long startNanos = UPDATE_PROJECT_TIME.start();
+        try {
+            if (replacement == null || replacement.getId() == null)
+                throw new EmptyProjectException("Project and its ID cannot be null");
+            String id = replacement.getId();
+            int index = projectIdGenerator.elementIndex(id);
+            Project current = projectRepository.getById(index);
+            if (current.getVersion() != expectedVersion)
+                throw new VersionConflictException(id, expectedVersion, current.getVersion());
+
+            // The stored version is a stamped copy: the caller's object is not touched, even on a lost race
+            Project stamped = replacement.withVersion(expectedVersion + 1);
+            if (!projectRepository.compareAndSet(index, current, stamped)) {
+                Project winner = projectRepository.getById(index);
+                throw new VersionConflictException(id, expectedVersion, winner.getVersion());
+            }
+            eventBus.publish(new DomainEvent.ProjectUpdated(id, stamped.getName()));
+            return stamped;
+        } finally {
+            UPDATE_PROJECT_TIME.recordSince(startNanos);
+        }
+    }
+
+    // Transaction support (TransactionManager): reserve IDs and change the store without publishing,
+    // the transaction publishes all its events once it has committed
 
+    String reserveId() {
+        return projectIdGenerator.generate();
+    }
+
+    /**
+     * @throws NumberFormatException when the ID is malformed, one store would refuse
+     */
+    boolean exists(String id) {
+        return projectRepository.find(projectIdGenerator.elementIndex(id)) != null;
+    }
+
+    void store(Project project) {
+        projectRepository.add(project, projectIdGenerator.elementIndex(project.getId()));
+    }
+
+    void discard(String id) {
         projectRepository.removeById(projectIdGenerator.elementIndex(id));
     }
 
+    //Delete A project by id; only the project itself, use CascadeDeleteService.deleteProject
+    //to remove its tasks and assignments with it
+    public void deleteProjectById(String id) {
+        long startNanos = DELETE_PROJECT_BY_ID_TIME.start();
+        try {
+            projectRepository.removeById(projectIdGenerator.elementIndex(id));
+            eventBus.publish(new DomainEvent.ProjectRemoved(id));
+        } finally {
+            DELETE_PROJECT_BY_ID_TIME.recordSince(startNanos);
+        }
+    }
+
     @Override
     public Project[] filterByType(String type) {
-       return projectRepository.findByType(type);
+        long startNanos = FILTER_BY_TYPE_TIME.start();
+        try {
+           return projectRepository.findByType(type);
+        } finally {
+            FILTER_BY_TYPE_TIME.recordSince(startNanos);
+        }
     }
 
     @Override
     public Project[] findByBudgetRange(double min, double max) {
+        long startNanos = FIND_BY_BUDGET_RANGE_TIME.start();
+        try {
 
-        return projectRepository.findByBudgetRange(min,max);
+            return projectRepository.findByBudgetRange(min,max);
+        } finally {
+            FIND_BY_BUDGET_RANGE_TIME.recordSince(startNanos);
+        }
+    }
+
+    // Full-text search over project names and descriptions
+    @Override
+    public Project[] searchProjects(String text, int limit) {
+        long startNanos = SEARCH_PROJECTS_TIME.start();
+        try {
+            if (text == null || limit <= 0) return new Project[0];
+            return projectRepository.search(text, limit);
+        } finally {
+            SEARCH_PROJECTS_TIME.recordSince(startNanos);
+        }
     }
 
 
@@ -1,86 +1,344 @@
 package services;
 
 import interfaces.IProjectService;
+import interfaces.IUserService;
+import models.AssignmentResult;
 import models.Project;
+import services.events.DomainEvent;
+import services.events.EventBus;
+import utils.IdCodec;
+import utils.collections.IntIntMap;
+import utils.collections.IntObjectMap;
+import utils.collections.LinkedIntSet;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
+/**
+ * Project <-> user membership.
+ * - Two indexes (project -> users, user -> projects) kept in sync, stored under the
+ *   numeric part of the IDs in primitive int maps: no boxing and no string hashing
+ * - IDs are converted to keys once on the way in (IdCodec.parseCanonical) and back
+ *   to strings only for results
+ * - Each side of a membership is a LinkedIntSet: O(1) membership checks and
+ *   removals however large a team grows, users keep their assignment order
+ * - A project accepts at most getTeamSize() users and each user only once
+ * - Batch methods look each project up once and apply all memberships under one lock
+ * - Successful assignments and removals are published as UserAssigned / UserUnassigned
+ *   events after the lock is released
+ */
 public class ProjectUserAssignmentOperations {
 
+    private static final String[] NONE = new String[0];
+    private static final char PROJECT_PREFIX = 'P';
+    private static final char USER_PREFIX = 'U';
+
     private final IProjectService projectService;
-    private String[][] assignments;
-    private  GenerateProjectId projectIdGenerator ;
+    private final IUserService userService; // optional, validates user IDs in batches
+
+    private final IntObjectMap<LinkedIntSet> usersByProject;
+    private final IntObjectMap<LinkedIntSet> projectsByUser;
+    private final EventBus eventBus;
 
     public ProjectUserAssignmentOperations(IProjectService projectService, int initialCapacity) {
-        this.projectService = projectService;
-        this.assignments = new String[initialCapacity][];
-        this.projectIdGenerator = new GenerateProjectId();
+        this(projectService, null, initialCapacity);
     }
 
-    private void ensureCapacity(int projectIndex, int teamSize) {
-        if (projectIndex >= assignments.length) {
-            int newCap = Math.max(assignments.length * 2, 1);
-            while (newCap <= projectIndex) newCap *= 2;
-            assignments = Arrays.copyOf(assignments, newCap);
-        }
-        if (assignments[projectIndex] == null) {
-            assignments[projectIndex] = new String[teamSize];
-        }
+    public ProjectUserAssignmentOperations(IProjectService projectService, IUserService userService, int initialCapacity) {
+        this(projectService, userService, initialCapacity, new EventBus());
+    }
+
+    public ProjectUserAssignmentOperations(IProjectService projectService, IUserService userService, int initialCapacity,
+                                           EventBus eventBus) {
+        if (eventBus == null) throw new IllegalArgumentException("EventBus cannot be null");
+        this.projectService = projectService;
+        this.userService = userService;
+        this.usersByProject = new IntObjectMap<>(Math.max(16, initialCapacity));
+        this.projectsByUser = new IntObjectMap<>();
+        this.eventBus = eventBus;
     }
 
     public boolean assignUser(String projectId, String userId) {
         if (projectId == null || userId == null) return false;
 
-        Project project = projectService.getProjectById(projectId);
+        int userKey = userKeyOf(userId);
+        if (userKey < 0) return false;
+        Project project = findProject(projectId);
         if (project == null) return false;
+        int projectKey = projectKeyOf(project.getId());
+        if (projectKey < 0) return false;
+
+        boolean assigned;
+        synchronized (this) {
+            assigned = addMember(projectKey, Math.max(1, project.getTeamSize()), userKey) == null;
+        }
+        if (assigned) eventBus.publish(new DomainEvent.UserAssigned(projectId, userId));
+        return assigned;
+    }
+
+    /**
+     * Assign many users to one project.
+     * The project is looked up once and the remaining team capacity is reserved
+     * in one step, so concurrent batches cannot overfill the team.
+     * Users that cannot be assigned are reported with a reason, the others are kept.
+     * A user listed more than once is handled once.
+     */
+    public AssignmentResult assignUsers(String projectId, String... userIds) {
+        List<String> assigned = new ArrayList<>();
+        Map<String, String> failures = new LinkedHashMap<>();
+        if (userIds == null || userIds.length == 0) return new AssignmentResult(assigned, failures);
+
+        Project project = findProject(projectId);
+        int projectKey = project == null ? -1 : projectKeyOf(project.getId());
+        if (projectKey < 0) {
+            for (String userId : userIds) failures.put(String.valueOf(userId), "Project not found: " + projectId);
+            return new AssignmentResult(assigned, failures);
+        }
+
+        // Validate users outside the lock, only membership changes need it
+        String[] candidates = new String[userIds.length];
+        int[] candidateKeys = new int[userIds.length];
+        IntIntMap listed = new IntIntMap(userIds.length);
+        int count = 0;
+        for (String userId : userIds) {
+            String problem = checkUser(userId);
+            if (problem != null) {
+                failures.put(String.valueOf(userId), problem);
+                continue;
+            }
+            int userKey = userKeyOf(userId);
+            if (listed.containsKey(userKey)) continue;
+            listed.put(userKey, count);
+            candidates[count] = userId;
+            candidateKeys[count++] = userKey;
+        }
 
         int teamSize = Math.max(1, project.getTeamSize());
-        ensureCapacity(projectIdGenerator.elementIndex(projectId), teamSize);
+        synchronized (this) {
+            for (int i = 0; i < count; i++) {
+                String problem = addMember(projectKey, teamSize, candidateKeys[i]);
+                if (problem == null) assigned.add(candidates[i]);
+                else failures.put(candidates[i], problem);
+            }
+        }
+        DomainEvent[] events = new DomainEvent[assigned.size()];
+        for (int i = 0; i < events.length; i++) events[i] = new DomainEvent.UserAssigned(projectId, assigned.get(i));
+        eventBus.publishAll(events);
+        return new AssignmentResult(assigned, failures);
+    }
+
+    /**
+     * Assign one user to many projects; each project is looked up once.
+     * Failures are reported per project ID.
+     */
+    public AssignmentResult assignUserToProjects(String userId, String... projectIds) {
+        List<String> assigned = new ArrayList<>();
+        Map<String, String> failures = new LinkedHashMap<>();
+        if (projectIds == null || projectIds.length == 0) return new AssignmentResult(assigned, failures);
+
+        String userProblem = checkUser(userId);
+        if (userProblem != null) {
+            for (String projectId : projectIds) failures.put(String.valueOf(projectId), userProblem);
+            return new AssignmentResult(assigned, failures);
+        }
+
+        int userKey = userKeyOf(userId);
+        int[] projectKeys = new int[projectIds.length];
+        IntIntMap teamSizes = new IntIntMap(projectIds.length);
+        for (int i = 0; i < projectIds.length; i++) {
+            Project project = findProject(projectIds[i]);
+            projectKeys[i] = project == null ? -1 : projectKeyOf(project.getId());
+            if (projectKeys[i] < 0) failures.put(String.valueOf(projectIds[i]), "Project not found: " + projectIds[i]);
+            else teamSizes.put(projectKeys[i], Math.max(1, project.getTeamSize()));
+        }
 
-        String[] row = assignments[projectIdGenerator.elementIndex(projectId)];
-        int size = 0;
-        while (size < row.length && row[size] != null) size++;
+        synchronized (this) {
+            for (int i = 0; i < projectIds.length; i++) {
+                // A project listed twice is only applied once
+                int teamSize = teamSizes.get(projectKeys[i], 0);
+                if (teamSize == 0 || !teamSizes.remove(projectKeys[i])) continue;
+                String problem = addMember(projectKeys[i], teamSize, userKey);
+                if (problem == null) assigned.add(projectIds[i]);
+                else failures.put(projectIds[i], problem);
+            }
+        }
+        DomainEvent[] events = new DomainEvent[assigned.size()];
+        for (int i = 0; i < events.length; i++) events[i] = new DomainEvent.UserAssigned(assigned.get(i), userId);
+        eventBus.publishAll(events);
+        return new AssignmentResult(assigned, failures);
+    }
+
+    /**
+     * Bus on which assignments and removals are published
+     */
+    public EventBus getEventBus() {
+        return eventBus;
+    }
+
+    /**
+     * Transaction support: add all users to a project or none of them, without publishing.
+     *
+     * @return null on success, otherwise the reason the first user was refused
+     */
+    synchronized String addAllMembers(String projectId, int teamSize, List<String> userIds) {
+        int projectKey = projectKeyOf(projectId);
+        if (projectKey < 0) return projectId + ": Invalid project ID";
+        LinkedIntSet team = usersByProject.get(projectKey);
+        int size = team == null ? 0 : team.size();
+        int[] userKeys = new int[userIds.size()];
+        for (int i = 0; i < userKeys.length; i++) {
+            String userId = userIds.get(i);
+            userKeys[i] = userKeyOf(userId);
+            if (userKeys[i] < 0) return userId + ": Invalid user ID";
+            if (team != null && team.contains(userKeys[i])) return userId + ": Already assigned";
+        }
+        if (size + userKeys.length > teamSize)
+            return projectId + ": Team is full (" + teamSize + "), cannot add " + userKeys.length + " more";
 
-        if (size >= row.length) return false; // team full
-        row[size] = userId;
+        for (int userKey : userKeys) addMember(projectKey, teamSize, userKey);
+        return null;
+    }
+
+    /**
+     * Transaction support: undo addAllMembers, without publishing.
+     */
+    synchronized void removeAllMembers(String projectId, List<String> userIds) {
+        int projectKey = projectKeyOf(projectId);
+        if (projectKey < 0) return;
+        for (String userId : userIds) {
+            int userKey = userKeyOf(userId);
+            if (userKey >= 0) removeMember(projectKey, userKey);
+        }
+    }
+
+    /**
+     * Cascade support: drop a project's whole team, without publishing.
+     * Costs O(team size): each member's reverse entry is removed directly.
+     *
+     * @return the users that were assigned, in assignment order
+     */
+    synchronized String[] removeProject(String projectId) {
+        int projectKey = projectKeyOf(projectId);
+        LinkedIntSet team = projectKey < 0 ? null : usersByProject.remove(projectKey);
+        if (team == null) return NONE;
+        int[] members = team.toArray();
+        for (int userKey : members) {
+            LinkedIntSet projects = projectsByUser.get(userKey);
+            if (projects == null) continue;
+            projects.remove(projectKey);
+            if (projects.isEmpty()) projectsByUser.remove(userKey);
+        }
+        return toIds(members, USER_PREFIX);
+    }
+
+    /**
+     * Add one membership in both indexes; caller holds the lock.
+     *
+     * @return null on success, otherwise the reason it was refused
+     */
+    private String addMember(int projectKey, int teamSize, int userKey) {
+        LinkedIntSet team = usersByProject.computeIfAbsent(projectKey, key -> new LinkedIntSet());
+        if (team.contains(userKey)) return "Already assigned";
+        if (team.size() >= teamSize) return "Team is full (" + teamSize + ")";
+
+        team.add(userKey);
+        projectsByUser.computeIfAbsent(userKey, key -> new LinkedIntSet()).add(projectKey);
+        return null;
+    }
+
+    // Remove one membership from both indexes; caller holds the lock
+    private boolean removeMember(int projectKey, int userKey) {
+        LinkedIntSet team = usersByProject.get(projectKey);
+        if (team == null || !team.remove(userKey)) return false;
+
+        if (team.isEmpty()) usersByProject.remove(projectKey);
+        LinkedIntSet projects = projectsByUser.get(userKey);
+        if (projects != null) {
+            projects.remove(projectKey);
+            if (projects.isEmpty()) projectsByUser.remove(userKey);
+        }
         return true;
     }
 
-    public boolean removeUser(String projectId, String userId) {
-        if (projectId == null || userId == null) return false;
+    // Back to the string form, only when handing results out
+    private static String[] toIds(LinkedIntSet keys, char prefix) {
+        return keys == null ? new String[0] : toIds(keys.toArray(), prefix);
+    }
+
+    private static String[] toIds(int[] keys, char prefix) {
+        String[] result = new String[keys.length];
+        for (int i = 0; i < result.length; i++) result[i] = IdCodec.format(prefix, keys[i]);
+        return result;
+    }
+
+    // Map keys of IDs in their generated form, or IdCodec.INVALID; never throws
+    private static int projectKeyOf(String projectId) {
+        return IdCodec.parseCanonical(projectId, PROJECT_PREFIX);
+    }
 
-        int projectIdIndex = projectIdGenerator.elementIndex(projectId);
+    private static int userKeyOf(String userId) {
+        return IdCodec.parseCanonical(userId, USER_PREFIX);
+    }
 
-        Project project = projectService.getProjectById(projectId);
-        if (project == null || projectIdIndex >= assignments.length || assignments[projectIdIndex] == null) return false;
+    String checkUser(String userId) {
+        if (userId == null || userId.isEmpty()) return "User ID cannot be empty";
+        if (userKeyOf(userId) < 0) return "Invalid user ID: " + userId;
+        if (userService != null && userService.getUserById(userId) == null) return "User not found: " + userId;
+        return null;
+    }
 
-        String[] row = assignments[projectIdIndex];
-        int size = 0;
-        while (size < row.length && row[size] != null) size++;
+    private Project findProject(String projectId) {
+        return projectId == null ? null : projectService.findProjectById(projectId).orElse(null);
+    }
 
-        for (int i = 0; i < size; i++) {
-            if (row[i].equals(userId)) {
-                System.arraycopy(row, i + 1, row, i, size - i - 1);
-                row[size - 1] = null;
-                return true;
-            }
+    public boolean removeUser(String projectId, String userId) {
+        if (projectId == null || userId == null) return false;
+
+        Project project = findProject(projectId);
+        if (project == null) return false;
+        int projectKey = projectKeyOf(project.getId());
+        int userKey = userKeyOf(userId);
+        if (projectKey < 0 || userKey < 0) return false;
+        synchronized (this) {
+            if (!removeMember(projectKey, userKey)) return false;
         }
-        return false;
+        eventBus.publish(new DomainEvent.UserUnassigned(projectId, userId));
+        return true;
     }
 
-    public String[] getAssignedUsers(String projectId) {
+    public synchronized String[] getAssignedUsers(String projectId) {
 
-        int index = projectIdGenerator.elementIndex(projectId);
+        if (projectId == null || projectId.isEmpty()) return new String[0];
 
-        if (projectId.isEmpty()) return new String[0];
+        Project project = findProject(projectId);
+        int projectKey = projectKeyOf(projectId);
+        if (project == null || projectKey < 0) return new String[0];
 
-        Project project = projectService.getProjectById(projectId);
-        if (project == null || index >= assignments.length || assignments[index] == null) return new String[0];
+        return toIds(usersByProject.get(projectKey), USER_PREFIX);
+    }
+
+    /**
+     * Reverse lookup: projects a user is assigned to, in assignment order.
+     */
+    public synchronized String[] getProjectsForUser(String userId) {
+        int userKey = userKeyOf(userId);
+        return userKey < 0 ? new String[0] : toIds(projectsByUser.get(userKey), PROJECT_PREFIX);
+    }
 
-        String[] row = assignments[index];
-        int size = 0;
-        while (size < row.length && row[size] != null) size++;
+    public synchronized boolean isAssigned(String projectId, String userId) {
+        int projectKey = projectKeyOf(projectId);
+        LinkedIntSet team = projectKey < 0 ? null : usersByProject.get(projectKey);
+        return team != null && team.contains(userKeyOf(userId));
+    }
 
-        return Arrays.copyOf(row, size);
+    /**
+     * Number of projects a user is assigned to.
+     */
+    public synchronized int countProjectsForUser(String userId) {
+        int userKey = userKeyOf(userId);
+        LinkedIntSet projects = userKey < 0 ? null : projectsByUser.get(userKey);
+        return projects == null ? 0 : projects.size();
     }
 }
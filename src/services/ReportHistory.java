@@ -0,0 +1,268 @@
+package services;
+
+import models.Project;
+import models.Task;
+import models.TrendPoint;
+import services.events.DomainEvent;
+import services.events.EventSubscriber;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Time-bucketed history of per-project task counters (total, completed, in progress).
+ * - Every change writes the project's current counters into the current minute,
+ *   hour and day bucket, so coarser buckets hold the last value of their period
+ * - Each resolution is a fixed ring of buckets; old buckets are overwritten,
+ *   which bounds memory per project whatever the uptime
+ * - Range queries read buckets only, no task history is replayed
+ * - Task events of projects it does not know are ignored, so a removed project's
+ *   history is not recreated by the trailing events of its cascade delete
+ */
+public class ReportHistory implements EventSubscriber {
+
+    public enum Resolution {
+        MINUTE(60_000L, 120),
+        HOUR(3_600_000L, 72),
+        DAY(86_400_000L, 400);
+
+        private final long widthMillis;
+        private final int buckets;
+
+        Resolution(long widthMillis, int buckets) {
+            this.widthMillis = widthMillis;
+            this.buckets = buckets;
+        }
+
+        public long widthMillis() {
+            return widthMillis;
+        }
+
+        /** How far back this resolution still has data. */
+        public long retentionMillis() {
+            return widthMillis * buckets;
+        }
+    }
+
+    /**
+     * Ring of buckets for one resolution. A bucket is valid when its stored
+     * period number matches the period being looked up.
+     */
+    private static final class Ring {
+        private final Resolution resolution;
+        private final long[] period;
+        private final int[] total;
+        private final int[] completed;
+        private final int[] inProgress;
+
+        Ring(Resolution resolution) {
+            this.resolution = resolution;
+            this.period = new long[resolution.buckets];
+            Arrays.fill(period, -1);
+            this.total = new int[resolution.buckets];
+            this.completed = new int[resolution.buckets];
+            this.inProgress = new int[resolution.buckets];
+        }
+
+        void write(long nowMillis, int[] counters) {
+            long p = nowMillis / resolution.widthMillis;
+            int i = (int) (p % resolution.buckets);
+            period[i] = p;
+            total[i] = counters[0];
+            completed[i] = counters[1];
+            inProgress[i] = counters[2];
+        }
+
+        int[] counters(int i) {
+            return new int[]{total[i], completed[i], inProgress[i]};
+        }
+
+        /**
+         * Bucket index for a period, or -1 when that period has no sample.
+         */
+        int find(long p) {
+            int i = (int) (p % resolution.buckets);
+            return period[i] == p ? i : -1;
+        }
+    }
+
+    private static final class ProjectHistory {
+        final int[] counters = new int[3];
+        final Ring[] rings;
+
+        ProjectHistory() {
+            Resolution[] resolutions = Resolution.values();
+            rings = new Ring[resolutions.length];
+            for (int i = 0; i < resolutions.length; i++) rings[i] = new Ring(resolutions[i]);
+        }
+
+        void record(long nowMillis) {
+            for (Ring ring : rings) ring.write(nowMillis, counters);
+        }
+    }
+
+    private final Clock clock;
+    private final Map<String, ProjectHistory> projects = new HashMap<>();
+
+    public ReportHistory() {
+        this(Clock.systemUTC());
+    }
+
+    public ReportHistory(Clock clock) {
+        if (clock == null) throw new IllegalArgumentException("Clock cannot be null");
+        this.clock = clock;
+    }
+
+    /**
+     * Reset the live counters from the current data and record them as "now".
+     */
+    public synchronized void load(Project[] projectList, Task[] tasks) {
+        projects.clear();
+        if (projectList != null) {
+            for (Project p : projectList) if (p != null) createHistory(p.getId());
+        }
+        if (tasks != null) {
+            for (Task t : tasks) {
+                ProjectHistory h = t == null ? null : createHistory(t.getProjectId());
+                if (h != null) adjust(h, t.getTaskStatus(), 1);
+            }
+        }
+        long now = clock.millis();
+        for (ProjectHistory h : projects.values()) h.record(now);
+    }
+
+    @Override
+    public synchronized void onEvent(DomainEvent event) {
+        apply(event, clock.millis());
+    }
+
+    /**
+     * A batch is stamped with one clock read.
+     */
+    @Override
+    public synchronized void onBatch(DomainEvent[] events, int count) {
+        long now = clock.millis();
+        EventSubscriber.applyEach(events, count, event -> apply(event, now));
+    }
+
+    private void apply(DomainEvent event, long now) {
+        switch (event) {
+            case DomainEvent.TaskCreated e -> change(e.projectId(), null, e.status(), now);
+            case DomainEvent.TaskStatusChanged e -> change(e.projectId(), e.oldStatus(), e.newStatus(), now);
+            case DomainEvent.TaskDeleted e -> change(e.projectId(), e.status(), null, now);
+            case DomainEvent.TaskArchived e -> change(e.projectId(), e.status(), null, now);
+            case DomainEvent.ProjectAdded e -> {
+                ProjectHistory h = createHistory(e.projectId());
+                if (h != null) h.record(now);
+            }
+            case DomainEvent.ProjectRemoved e -> {
+                if (e.projectId() != null) projects.remove(e.projectId());
+            }
+            default -> {
+            }
+        }
+    }
+
+    // Move one task from oldStatus to newStatus (null = not counted) and record the counters.
+    // A project that is unknown or already removed is left alone: the task events of a
+    // cascade delete arrive after its ProjectRemoved and must not bring the history back
+    private void change(String projectId, String oldStatus, String newStatus, long now) {
+        ProjectHistory h = projectId == null ? null : projects.get(projectId);
+        if (h == null) return;
+        if (oldStatus != null) adjust(h, oldStatus, -1);
+        if (newStatus != null) adjust(h, newStatus, 1);
+        h.record(now);
+    }
+
+    /**
+     * Counters per bucket between two instants, using the finest resolution
+     * that still covers the start of the range.
+     */
+    public List<TrendPoint> trend(String projectId, long fromMillis, long toMillis) {
+        long age = clock.millis() - fromMillis;
+        Resolution chosen = Resolution.DAY;
+        for (Resolution r : Resolution.values()) {
+            if (age <= r.retentionMillis()) {
+                chosen = r;
+                break;
+            }
+        }
+        return trend(projectId, fromMillis, toMillis, chosen);
+    }
+
+    /**
+     * Counters per bucket of the given resolution between two instants.
+     * A bucket without changes carries the previous bucket's counters forward.
+     */
+    public synchronized List<TrendPoint> trend(String projectId, long fromMillis, long toMillis, Resolution resolution) {
+        List<TrendPoint> points = new ArrayList<>();
+        ProjectHistory h = projectId == null ? null : projects.get(projectId);
+        if (h == null || fromMillis > toMillis) return points;
+
+        Ring ring = h.rings[resolution.ordinal()];
+        long width = resolution.widthMillis;
+        long current = clock.millis() / width;
+        long oldest = current - resolution.buckets + 1;
+        long first = Math.max(fromMillis / width, oldest);
+        long last = Math.min(toMillis / width, current);
+
+        // Start from the latest sample at or before the range, if this ring retains one
+        int[] carried = null;
+        for (long p = first; p >= oldest && carried == null; p--) {
+            int i = ring.find(p);
+            if (i >= 0) carried = ring.counters(i);
+        }
+        if (carried == null) carried = carriedBefore(h, resolution, first, current);
+
+        for (long p = first; p <= last; p++) {
+            int i = ring.find(p);
+            if (i >= 0) carried = ring.counters(i);
+            if (carried == null) continue;
+            points.add(new TrendPoint(p * width, carried[0], carried[1], carried[2]));
+        }
+        return points;
+    }
+
+    /**
+     * Counters in force before period first of a ring that has no sample at or before it:
+     * the live counters when nothing changed since, otherwise the last coarser bucket
+     * that ended before the range (exact to that coarser resolution). Null when unknown.
+     */
+    private static int[] carriedBefore(ProjectHistory h, Resolution resolution, long first, long current) {
+        Ring ring = h.rings[resolution.ordinal()];
+        boolean changedSince = false;
+        for (long p = first + 1; p <= current && !changedSince; p++) changedSince = ring.find(p) >= 0;
+        if (!changedSince) return h.counters.clone();
+
+        long startMillis = first * resolution.widthMillis;
+        for (int r = resolution.ordinal() + 1; r < h.rings.length; r++) {
+            Ring coarser = h.rings[r];
+            long coarseCurrent = current * resolution.widthMillis / coarser.resolution.widthMillis;
+            long coarseOldest = coarseCurrent - coarser.resolution.buckets + 1;
+            for (long p = startMillis / coarser.resolution.widthMillis - 1; p >= coarseOldest; p--) {
+                int i = coarser.find(p);
+                if (i >= 0) return coarser.counters(i);
+            }
+        }
+        return null;
+    }
+
+    // Histories are only created from the snapshot and from ProjectAdded
+    private ProjectHistory createHistory(String projectId) {
+        if (projectId == null) return null;
+        return projects.computeIfAbsent(projectId, id -> new ProjectHistory());
+    }
+
+    /**
+     * Add delta to the total and to the counter matching the status.
+     */
+    private static void adjust(ProjectHistory h, String status, int delta) {
+        h.counters[0] += delta;
+        if ("Completed".equalsIgnoreCase(status)) h.counters[1] += delta;
+        else if ("In Progress".equalsIgnoreCase(status)) h.counters[2] += delta;
+    }
+}
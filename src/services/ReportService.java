@@ -1,21 +1,111 @@
 package services;
 
+import Repository.TaskRepository;
 import interfaces.IReporting;
 import models.Project;
 import models.ProjectStatusReportDto;
+import models.ReportSnapshot;
 import models.Task;
+import models.TrendPoint;
+import utils.exceptions.EmptyProjectException;
+import utils.jfr.ReportBuildEvent;
+import utils.metrics.LatencyHistogram;
+import utils.metrics.MetricsRegistry;
 
-import java.util.Arrays;
+import java.util.List;
 
 public class ReportService implements IReporting {
+    private static final MetricsRegistry METRICS = MetricsRegistry.global();
+    private static final LatencyHistogram GET_REPORT_SNAPSHOT_TIME = METRICS.histogram("ReportService.getReportSnapshot");
+    private static final LatencyHistogram GET_COMPLETION_TREND_TIME = METRICS.histogram("ReportService.getCompletionTrend");
+    private static final LatencyHistogram VERIFY_REPORT_VIEW_TIME = METRICS.histogram("ReportService.verifyReportView");
+    private static final LatencyHistogram GENERATE_REPORT_TIME = METRICS.histogram("ReportService.generateReport");
+    private static final LatencyHistogram CALCULATE_AVERAGE_PROJECT_STATUS_REPORT_TIME = METRICS.histogram("ReportService.calculateAverageProjectStatusReport");
 
     private final TaskService taskService;
     private final ProjectService projectService;
+    private final ParallelReportEngine reportEngine;
+    private final ProjectReportView reportView;
+    private final ReportHistory reportHistory;
+    private boolean verificationMode;
 
     // Constructor injection -> loose coupling
     public ReportService(TaskService taskService, ProjectService projectService) {
+        this(taskService, projectService, new ParallelReportEngine());
+    }
+
+    public ReportService(TaskService taskService, ProjectService projectService, ParallelReportEngine reportEngine) {
+        this(taskService, projectService, reportEngine, new ReportHistory());
+    }
+
+    public ReportService(TaskService taskService, ProjectService projectService, ParallelReportEngine reportEngine,
+                         ReportHistory reportHistory) {
         this.taskService = taskService;
         this.projectService = projectService;
+        this.reportEngine = reportEngine;
+
+        // Keep a materialized report, fed by task/project changes; load it after
+        // registering so no change between the two steps is lost
+        this.reportView = new ProjectReportView();
+        this.reportHistory = reportHistory;
+        // Subscribing is idempotent, so services sharing one bus are handled too
+        taskService.getEventBus().subscribe(reportView);
+        projectService.getEventBus().subscribe(reportView);
+        taskService.getEventBus().subscribe(reportHistory);
+        projectService.getEventBus().subscribe(reportHistory);
+        ReportBuildEvent event = new ReportBuildEvent();
+        event.begin();
+        Project[] projects = allProjects();
+        Task[] tasks = taskService.getAllTasks();
+        reportView.load(projects, tasks);
+        reportHistory.load(projects, tasks);
+        event.finish("load", projects.length, tasks.length, reportView.snapshot().rows().size());
+    }
+
+    /**
+     * When enabled, every generated report is also rebuilt from scratch
+     * and any difference with the materialized view is printed.
+     */
+    public void setVerificationMode(boolean enabled) {
+        this.verificationMode = enabled;
+    }
+
+    /**
+     * Current report as an immutable snapshot, no task is scanned
+     */
+    public ReportSnapshot getReportSnapshot() {
+        long startNanos = GET_REPORT_SNAPSHOT_TIME.start();
+        try {
+            return reportView.snapshot();
+        } finally {
+            GET_REPORT_SNAPSHOT_TIME.recordSince(startNanos);
+        }
+    }
+
+    /**
+     * Completion trend of one project, served from pre-aggregated time buckets
+     */
+    public List<TrendPoint> getCompletionTrend(String projectId, long fromMillis, long toMillis) {
+        long startNanos = GET_COMPLETION_TREND_TIME.start();
+        try {
+            return reportHistory.trend(projectId, fromMillis, toMillis);
+        } finally {
+            GET_COMPLETION_TREND_TIME.recordSince(startNanos);
+        }
+    }
+
+    /**
+     * Diff the materialized view against a full rebuild from raw tasks.
+     *
+     * @return one line per difference, empty when the view is consistent
+     */
+    public List<String> verifyReportView() {
+        long startNanos = VERIFY_REPORT_VIEW_TIME.start();
+        try {
+            return reportView.diff(buildReport());
+        } finally {
+            VERIFY_REPORT_VIEW_TIME.recordSince(startNanos);
+        }
     }
 
     /**
@@ -24,60 +114,63 @@ public class ReportService implements IReporting {
      * builds a ProjectStatusReportDto[] and displays it.
      */
 
-    // build the report and return it as an array (arrays-only)
+    // build the report in one parallel pass over all tasks (arrays-only)
     private ProjectStatusReportDto[] buildReport() {
-        Project[] projects = projectService.getAllProjects();
+        ReportBuildEvent event = new ReportBuildEvent();
+        event.begin();
+        Project[] projects = allProjects();
         if (projects == null || projects.length == 0) {
+            event.finish("rebuild", 0, 0, 0);
             return new ProjectStatusReportDto[0];
         }
+        TaskRepository.Slots tasks = taskService.taskSlots();
+        ProjectStatusReportDto[] rows = reportEngine.build(projects, tasks);
+        int counted = 0;
+        for (ProjectStatusReportDto row : rows) counted += row.tasks();
+        event.finish("rebuild", projects.length, counted, rows.length);
+        return rows;
+    }
 
-        ProjectStatusReportDto[] temp = new ProjectStatusReportDto[projects.length];
-        int count = 0;
-
-        for (Project p : projects) {
-            if (p == null) continue;
-            Task[] tasks = taskService.getTasksByProjectId(p.getId());
-            int total = (tasks == null) ? 0 : tasks.length;
-            int completed = 0;
-            if (tasks != null) {
-                for (Task t : tasks) {
-                    if (t != null && "Completed".equalsIgnoreCase(t.getTaskStatus())) {
-                        completed++;
-                    }
-                }
-            }
-            temp[count++] = new ProjectStatusReportDto(p.getId(), p.getName(), total, completed);
+    private Project[] allProjects() {
+        try {
+            return projectService.getAllProjects();
+        } catch (EmptyProjectException e) {
+            return new Project[0];
         }
-
-        return Arrays.copyOf(temp, count);
     }
 
     @Override
     public void generateReport() {
-        ProjectStatusReportDto[] report = buildReport();
-        displayReport(report);
-
-        // print overall average completion
-        double avg = calculateAverageProjectStatusReport();
-        System.out.printf("Overall completion: %.2f%%%n", avg);
+        long startNanos = GENERATE_REPORT_TIME.start();
+        try {
+            ReportSnapshot snapshot = reportView.snapshot();
+            displayReport(snapshot.rows().toArray(new ProjectStatusReportDto[0]));
+
+            // print overall average completion, computed from the same snapshot
+            System.out.printf("Overall completion: %.2f%%%n", snapshot.averageCompletion());
+
+            if (verificationMode) {
+                List<String> differences = verifyReportView();
+                if (differences.isEmpty()) {
+                    System.out.println("Verification: report view matches a full rebuild.");
+                } else {
+                    System.out.println("Verification: report view differs from a full rebuild:");
+                    for (String difference : differences) System.out.println("  " + difference);
+                }
+            }
+        } finally {
+            GENERATE_REPORT_TIME.recordSince(startNanos);
+        }
     }
 
-    // parameterless, uses injected taskService/projectService via buildReport()
+    // parameterless, read from the materialized report view
     public double calculateAverageProjectStatusReport() {
-        ProjectStatusReportDto[] report = buildReport();
-        if (report == null || report.length == 0) return 0.0;
-
-        int totalTasks = 0;
-        int totalCompleted = 0;
-
-        for (ProjectStatusReportDto dto : report) {
-            if (dto == null) continue;
-            totalTasks += dto.tasks();       // use accessor methods
-            totalCompleted += dto.completed();
+        long startNanos = CALCULATE_AVERAGE_PROJECT_STATUS_REPORT_TIME.start();
+        try {
+            return reportView.snapshot().averageCompletion();
+        } finally {
+            CALCULATE_AVERAGE_PROJECT_STATUS_REPORT_TIME.recordSince(startNanos);
         }
-
-        if (totalTasks == 0) return 0.0;
-        return (totalCompleted * 100.0) / totalTasks;
     }
 
 
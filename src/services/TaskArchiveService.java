@@ -0,0 +1,107 @@
+package services;
+
+import Repository.TaskArchive;
+import models.Task;
+import services.events.DomainEvent;
+import utils.metrics.Counter;
+import utils.metrics.LatencyHistogram;
+import utils.metrics.MetricsRegistry;
+
+import java.time.Clock;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TaskArchiveService following Single Responsibility Principle (SRP)
+ * - Only responsible for moving tasks completed more than N days ago from the
+ *   hot TaskRepository into the TaskArchive, and for on-demand archive lookups
+ * - Archived tasks leave every hot scan, getAll copy and report; subscribers
+ *   get a TaskArchived event for each so incremental views drop them too
+ * - Can run once (archiveCompletedOlderThan) or periodically (start)
+ * - Call it from the thread that owns the task writes: the repository removal
+ *   is locked, but events are published after the lock is released, so a
+ *   second writer thread can deliver its events to subscribers out of order
+ */
+public class TaskArchiveService implements AutoCloseable {
+    private static final MetricsRegistry METRICS = MetricsRegistry.global();
+    private static final LatencyHistogram ARCHIVE_TIME = METRICS.histogram("TaskArchiveService.archiveCompletedOlderThan");
+    private static final Counter ARCHIVED = METRICS.counter("TaskArchiveService.archivedTasks");
+    private static final long MILLIS_PER_DAY = TimeUnit.DAYS.toMillis(1);
+
+    private final TaskService taskService;
+    private final TaskArchive archive;
+    private final Clock clock;
+    private ScheduledExecutorService scheduler;
+
+    public TaskArchiveService(TaskService taskService, TaskArchive archive) {
+        this(taskService, archive, Clock.systemUTC());
+    }
+
+    public TaskArchiveService(TaskService taskService, TaskArchive archive, Clock clock) {
+        if (taskService == null) throw new IllegalArgumentException("TaskService cannot be null");
+        if (archive == null) throw new IllegalArgumentException("TaskArchive cannot be null");
+        if (clock == null) throw new IllegalArgumentException("Clock cannot be null");
+        this.taskService = taskService;
+        this.archive = archive;
+        this.clock = clock;
+    }
+
+    /**
+     * Move every task completed more than days ago to the archive.
+     *
+     * @return number of tasks archived
+     */
+    public int archiveCompletedOlderThan(int days) {
+        long startNanos = ARCHIVE_TIME.start();
+        try {
+            if (days < 0) throw new IllegalArgumentException("Days cannot be negative");
+            Task[] archived;
+            synchronized (this) {
+                archived = taskService.discardCompletedBefore(clock.millis() - days * MILLIS_PER_DAY);
+                archive.addAll(archived);
+            }
+            DomainEvent[] events = new DomainEvent[archived.length];
+            for (int i = 0; i < archived.length; i++) events[i] = DomainEvent.TaskArchived.of(archived[i]);
+            taskService.getEventBus().publishAll(events);
+            ARCHIVED.add(archived.length);
+            return archived.length;
+        } finally {
+            ARCHIVE_TIME.recordSince(startNanos);
+        }
+    }
+
+    /**
+     * Archive tasks completed more than days ago every period, on a daemon thread,
+     * until close(). Only for setups where no other thread writes tasks
+     * (see the class comment); interactive callers should archive on their own
+     * thread with archiveCompletedOlderThan instead.
+     */
+    public synchronized void start(int days, long period, TimeUnit unit) {
+        if (period <= 0) throw new IllegalArgumentException("Archiving period must be positive");
+        if (scheduler != null) throw new IllegalStateException("Archiving is already scheduled");
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "task-archiver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(() -> archiveCompletedOlderThan(days), period, period, unit);
+    }
+
+    public Task findArchivedTask(String taskId) {
+        return archive.findByTaskId(taskId);
+    }
+
+    public Task[] findArchivedTasksByProjectId(String projectId) {
+        return archive.findByProjectId(projectId);
+    }
+
+    public int getArchivedCount() {
+        return archive.size();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) scheduler.shutdown();
+    }
+}
@@ -3,9 +3,19 @@ package services;
 import Repository.TaskRepository;
 import interfaces.IdGenerator;
 import interfaces.ITaskService;
+import models.Page;
 import models.Task;
+import models.TaskQuery;
+import services.events.DomainEvent;
+import services.events.EventBus;
 import utils.exceptions.EmptyProjectException;
 import utils.exceptions.TaskNotFoundException;
+import utils.exceptions.VersionConflictException;
+import utils.metrics.LatencyHistogram;
+import utils.metrics.MetricsRegistry;
+
+import java.util.Iterator;
+import java.util.Optional;
 
 /**
  * TaskService following SOLID principles:
@@ -15,53 +25,92 @@ import utils.exceptions.TaskNotFoundException;
  * - Open/Closed: Can be extended without modification
  */
 public class TaskService implements ITaskService {
+    private static final MetricsRegistry METRICS = MetricsRegistry.global();
+    private static final LatencyHistogram ADD_TASK_TIME = METRICS.sampledHistogram("TaskService.addTask");
+    private static final LatencyHistogram GET_ALL_TASKS_TIME = METRICS.sampledHistogram("TaskService.getAllTasks");
+    private static final LatencyHistogram GET_TASKS_PAGE_TIME = METRICS.sampledHistogram("TaskService.getTasksPage");
+    private static final LatencyHistogram GET_TASK_BY_ID_TIME = METRICS.sampledHistogram("TaskService.getTaskById");
+    private static final LatencyHistogram UPDATE_TASK_STATUS_TIME = METRICS.sampledHistogram("TaskService.updateTaskStatus");
+    private static final LatencyHistogram DELETE_TASK_TIME = METRICS.sampledHistogram("TaskService.deleteTask");
+    private static final LatencyHistogram GET_TASKS_BY_PROJECT_ID_TIME = METRICS.sampledHistogram("TaskService.getTasksByProjectId");
+    private static final LatencyHistogram CALCULATE_COMPLETION_RATE_TIME = METRICS.sampledHistogram("TaskService.calculateCompletionRate");
+    private static final LatencyHistogram FIND_TASKS_TIME = METRICS.sampledHistogram("TaskService.findTasks");
+    private static final LatencyHistogram EXPLAIN_QUERY_TIME = METRICS.sampledHistogram("TaskService.explainQuery");
+    private static final LatencyHistogram SEARCH_TASKS_TIME = METRICS.sampledHistogram("TaskService.searchTasks");
+    private static final LatencyHistogram GET_TASKS_BY_ASSIGNED_USER_ID_TIME = METRICS.sampledHistogram("TaskService.getTasksByAssignedUserId");
+
+    private static final long ANY_VERSION = -1;
 
     private final TaskRepository taskRepository;
     private final IdGenerator taskIdGenerator;
+    private final EventBus eventBus;
 
     public TaskService(TaskRepository taskRepository, IdGenerator taskIdGenerator) {
+        this(taskRepository, taskIdGenerator, new EventBus());
+    }
+
+    public TaskService(TaskRepository taskRepository, IdGenerator taskIdGenerator, EventBus eventBus) {
         if (taskRepository == null)
             throw new IllegalArgumentException("TaskRepository cannot be null");
         if (taskIdGenerator == null)
             throw new IllegalArgumentException("TaskIdGenerator cannot be null");
+        if (eventBus == null)
+            throw new IllegalArgumentException("EventBus cannot be null");
         this.taskRepository = taskRepository;
         this.taskIdGenerator = taskIdGenerator;
+        this.eventBus = eventBus;
+    }
+
+    /**
+     * Bus on which every successful task mutation is published
+     */
+    public EventBus getEventBus() {
+        return eventBus;
     }
 
     /**
      * Add a new task with auto-generated ID
      * Enhanced with try-catch-finally for robust exception handling
+     *
+     * @return the stored task with its ID
      */
-    public void addTask(Task task) {
-        if (task == null) {
-            throw new IllegalArgumentException("Task cannot be null");
-        }
-
-        String generatedId = null;
+    public Task addTask(Task task) {
+        long startNanos = ADD_TASK_TIME.start();
         try {
-            // Generate ID if not set
-            if (task.getTaskId() == null || task.getTaskId().isEmpty()) {
-                generatedId = taskIdGenerator.generate();
-                task.setTaskId(generatedId);
+            if (task == null) {
+                throw new IllegalArgumentException("Task cannot be null");
             }
 
-            // Check for duplicate task ID
-            Task existing = taskRepository.findByTaskId(task.getTaskId());
-            if (existing != null) {
-                throw new IllegalStateException("Task with id " + task.getTaskId() + " already exists.");
-            }
+            String generatedId = null;
+            try {
+                // Generate ID if not set
+                if (task.getTaskId() == null || task.getTaskId().isEmpty()) {
+                    generatedId = taskIdGenerator.generate();
+                    task = task.withTaskId(generatedId);
+                }
+
+                // Check for duplicate task ID
+                Task existing = taskRepository.findByTaskId(task.getTaskId());
+                if (existing != null) {
+                    throw new IllegalStateException("Task with id " + task.getTaskId() + " already exists.");
+                }
 
-            int index = taskIdGenerator.elementIndex(task.getTaskId());
-            taskRepository.add(task, index);
-        } catch (TaskNotFoundException e) {
-            // Re-throw with more context
-            throw new IllegalStateException("Failed to add task: " + e.getMessage(), e);
-        } catch (Exception e) {
-            // Handle any unexpected exceptions
-            throw new IllegalStateException("Unexpected error while adding task: " + e.getMessage(), e);
+                int index = taskIdGenerator.elementIndex(task.getTaskId());
+                taskRepository.add(task, index);
+            } catch (TaskNotFoundException e) {
+                // Re-throw with more context
+                throw new IllegalStateException("Failed to add task: " + e.getMessage(), e);
+            } catch (Exception e) {
+                // Handle any unexpected exceptions
+                throw new IllegalStateException("Unexpected error while adding task: " + e.getMessage(), e);
+            } finally {
+                // Cleanup: Ensure task state is consistent
+                // In this case, no cleanup needed, but finally block ensures execution
+            }
+            eventBus.publish(DomainEvent.TaskCreated.of(task));
+            return task;
         } finally {
-            // Cleanup: Ensure task state is consistent
-            // In this case, no cleanup needed, but finally block ensures execution
+            ADD_TASK_TIME.recordSince(startNanos);
         }
     }
 
@@ -69,16 +118,59 @@ public class TaskService implements ITaskService {
      * Get all tasks
      */
     public Task[] getAllTasks() {
-        return taskRepository.getAll();
+        long startNanos = GET_ALL_TASKS_TIME.start();
+        try {
+            return taskRepository.getAll();
+        } finally {
+            GET_ALL_TASKS_TIME.recordSince(startNanos);
+        }
+    }
+
+    /**
+     * Indexable view of the task slots for parallel scans (no array copy)
+     */
+    public TaskRepository.Slots taskSlots() {
+        return taskRepository.slots();
+    }
+
+    /**
+     * Stream all tasks straight from the repository (no array copy)
+     */
+    public Iterator<Task> iterateTasks() {
+        return taskRepository.iterator();
+    }
+
+    /**
+     * Keyset page of tasks ordered by ID, starting after the given cursor
+     * (null for the first page). Page size is clamped to Page.MAX_PAGE_SIZE.
+     */
+    public Page<Task> getTasksPage(String afterTaskId, int pageSize) {
+        long startNanos = GET_TASKS_PAGE_TIME.start();
+        try {
+            int limit = Page.normalizePageSize(pageSize);
+            Task[] fetched = taskRepository.getPage(Page.cursorIndex(afterTaskId, taskIdGenerator), limit + 1);
+            return Page.of(fetched, limit, Task::getTaskId);
+        } finally {
+            GET_TASKS_PAGE_TIME.recordSince(startNanos);
+        }
     }
 
     /**
      * Get task by ID
      */
     public Task getTaskById(String taskId) {
-        if (taskId == null)
-            return null;
-        return taskRepository.findByTaskId(taskId);
+        long startNanos = GET_TASK_BY_ID_TIME.start();
+        try {
+            if (taskId == null)
+                return null;
+            return taskRepository.findByTaskId(taskId);
+        } finally {
+            GET_TASK_BY_ID_TIME.recordSince(startNanos);
+        }
+    }
+
+    public Optional<Task> findTaskById(String taskId) {
+        return Optional.ofNullable(getTaskById(taskId));
     }
 
     /**
@@ -86,34 +178,107 @@ public class TaskService implements ITaskService {
      * Enhanced with try-catch-finally for robust exception handling
      */
     public Task updateTaskStatus(String taskId, String taskStatus) {
-        if (taskId == null) {
-            return null;
+        long startNanos = UPDATE_TASK_STATUS_TIME.start();
+        try {
+            if (taskId == null) {
+                return null;
+            }
+
+            Task task = null;
+            try {
+                task = getTaskById(taskId);
+                if (task != null) {
+                    task = applyStatus(task, taskStatus, ANY_VERSION);
+                }
+            } catch (TaskNotFoundException e) {
+                // Task not found - return null gracefully
+                return null;
+            } catch (IllegalArgumentException e) {
+                // Invalid task ID format - return null gracefully
+                return null;
+            } catch (Exception e) {
+                // Handle any unexpected exceptions
+                throw new IllegalStateException("Unexpected error while updating task status: " + e.getMessage(), e);
+            } finally {
+                // Cleanup: Ensure state is consistent
+                // In this case, no cleanup needed
+            }
+            return task;
+        } finally {
+            UPDATE_TASK_STATUS_TIME.recordSince(startNanos);
         }
+    }
 
-        Task task = null;
+    /**
+     * Update task status only if the task is still at expectedVersion
+     * (optimistic concurrency). Writers of different tasks take no shared lock: the
+     * slot is swapped with a CAS and only the index update after it locks the slot's
+     * stripe and the posting lists it changes. Of two writers with the same expected
+     * version exactly one wins.
+     *
+     * @throws VersionConflictException when the task changed since expectedVersion was read
+     */
+    public Task updateTaskStatus(String taskId, String taskStatus, long expectedVersion) {
+        long startNanos = UPDATE_TASK_STATUS_TIME.start();
         try {
-            task = getTaskById(taskId);
-            if (task != null) {
-                if(taskStatus == "Completed")taskRepository.markAsComplete(task);
-               else task.setTaskStatus(taskStatus);
-                // Update in repository
-                int index = taskIdGenerator.elementIndex(taskId);
-                taskRepository.update(index, task);
-            }
-        } catch (TaskNotFoundException e) {
-            // Task not found - return null gracefully
-            return null;
-        } catch (IllegalArgumentException e) {
-            // Invalid task ID format - return null gracefully
-            return null;
-        } catch (Exception e) {
-            // Handle any unexpected exceptions
-            throw new IllegalStateException("Unexpected error while updating task status: " + e.getMessage(), e);
+            if (taskId == null) throw new TaskNotFoundException("Task ID cannot be null");
+            Task task = getTaskById(taskId);
+            if (task == null) throw new TaskNotFoundException("Task not found: " + taskId);
+
+            return applyStatus(task, taskStatus, expectedVersion);
         } finally {
-            // Cleanup: Ensure state is consistent
-            // In this case, no cleanup needed
+            UPDATE_TASK_STATUS_TIME.recordSince(startNanos);
+        }
+    }
+
+    // Swap a new version of the task into its slot with a CAS, retrying on lost races,
+    // and publish the change. Returns the version that was installed.
+    private Task applyStatus(Task task, String taskStatus, long expectedVersion) {
+        int index = taskIdGenerator.elementIndex(task.getTaskId());
+        Task current;
+        Task next;
+        while (true) {
+            current = taskRepository.find(index);
+            if (current == null) throw new TaskNotFoundException("Task not found: " + task.getTaskId());
+            if (expectedVersion != ANY_VERSION && current.getVersion() != expectedVersion)
+                throw new VersionConflictException(current.getTaskId(), expectedVersion, current.getVersion());
+            next = taskRepository.canonical(current.withStatus(taskStatus));
+            if (taskRepository.compareAndSet(index, current, next)) break;
         }
-        return task;
+
+        eventBus.publish(new DomainEvent.TaskStatusChanged(next.getTaskId(), next.getProjectId(),
+                current.getAssignedUserId(), current.getTaskStatus(), taskStatus));
+        return next;
+    }
+
+    // Transaction support (TransactionManager): reserve IDs and change the store without publishing,
+    // the transaction publishes all its events once it has committed
+
+    String reserveId() {
+        return taskIdGenerator.generate();
+    }
+
+    /**
+     * @throws NumberFormatException when the ID is malformed, one store would refuse
+     */
+    boolean exists(String taskId) {
+        return taskRepository.find(taskIdGenerator.elementIndex(taskId)) != null;
+    }
+
+    void store(Task task) {
+        taskRepository.add(task, taskIdGenerator.elementIndex(task.getTaskId()));
+    }
+
+    void discard(String taskId) {
+        taskRepository.removeById(taskIdGenerator.elementIndex(taskId));
+    }
+
+    Task[] discardByProject(String projectId) {
+        return taskRepository.removeByProjectId(projectId);
+    }
+
+    Task[] discardCompletedBefore(long cutoffMillis) {
+        return taskRepository.removeCompletedBefore(cutoffMillis);
     }
 
     /**
@@ -121,28 +286,37 @@ public class TaskService implements ITaskService {
      * Enhanced with try-catch-finally for robust exception handling
      */
     public void deleteTask(String taskId) {
-        if (taskId == null) {
-            return;
-        }
-
+        long startNanos = DELETE_TASK_TIME.start();
         try {
-            Task task = getTaskById(taskId);
-            if (task != null) {
-                int index = taskIdGenerator.elementIndex(taskId);
-                taskRepository.removeById(index);
+            if (taskId == null) {
+                return;
+            }
+
+            Task deleted = null;
+            try {
+                // getTaskById confirms the exact ID; the event describes the task the
+                // slot held when it was cleared, which a concurrent update may have replaced
+                if (getTaskById(taskId) != null) {
+                    deleted = taskRepository.removeById(taskIdGenerator.elementIndex(taskId));
+                }
+            } catch (TaskNotFoundException e) {
+                // Task not found - handle gracefully (no-op or log)
+                // In this case, we'll silently ignore as task doesn't exist
+            } catch (IllegalArgumentException e) {
+                // Invalid task ID format - handle gracefully
+                // In this case, we'll silently ignore
+            } catch (Exception e) {
+                // Handle any unexpected exceptions
+                throw new IllegalStateException("Unexpected error while deleting task: " + e.getMessage(), e);
+            } finally {
+                // Cleanup: Ensure state is consistent
+                // In this case, no cleanup needed
+            }
+            if (deleted != null) {
+                eventBus.publish(DomainEvent.TaskDeleted.of(deleted));
             }
-        } catch (TaskNotFoundException e) {
-            // Task not found - handle gracefully (no-op or log)
-            // In this case, we'll silently ignore as task doesn't exist
-        } catch (IllegalArgumentException e) {
-            // Invalid task ID format - handle gracefully
-            // In this case, we'll silently ignore
-        } catch (Exception e) {
-            // Handle any unexpected exceptions
-            throw new IllegalStateException("Unexpected error while deleting task: " + e.getMessage(), e);
         } finally {
-            // Cleanup: Ensure state is consistent
-            // In this case, no cleanup needed
+            DELETE_TASK_TIME.recordSince(startNanos);
         }
     }
 
@@ -151,19 +325,24 @@ public class TaskService implements ITaskService {
      * Enhanced with try-catch for robust exception handling
      */
     public Task[] getTasksByProjectId(String projectId) {
-        if (projectId == null) {
-            return new Task[0];
-        }
-
+        long startNanos = GET_TASKS_BY_PROJECT_ID_TIME.start();
         try {
-            return taskRepository.findByProjectId(projectId);
-        } catch (EmptyProjectException e) {
-            // Project ID is null or invalid - return empty array gracefully
-            return new Task[0];
-        } catch (Exception e) {
-            // Handle any unexpected exceptions
-            throw new IllegalStateException("Unexpected error while retrieving tasks by project ID: " + e.getMessage(),
-                    e);
+            if (projectId == null) {
+                return new Task[0];
+            }
+
+            try {
+                return taskRepository.findByProjectId(projectId);
+            } catch (EmptyProjectException e) {
+                // Project ID is null or invalid - return empty array gracefully
+                return new Task[0];
+            } catch (Exception e) {
+                // Handle any unexpected exceptions
+                throw new IllegalStateException("Unexpected error while retrieving tasks by project ID: " + e.getMessage(),
+                        e);
+            }
+        } finally {
+            GET_TASKS_BY_PROJECT_ID_TIME.recordSince(startNanos);
         }
     }
 
@@ -173,31 +352,78 @@ public class TaskService implements ITaskService {
      * protection
      */
     public double calculateCompletionRate(String projectId) {
+        long startNanos = CALCULATE_COMPLETION_RATE_TIME.start();
         try {
-            Task[] projectTasks = getTasksByProjectId(projectId);
-            if (projectTasks == null || projectTasks.length == 0) {
-                return 0.0;
-            }
+            try {
+                Task[] projectTasks = getTasksByProjectId(projectId);
+                if (projectTasks == null || projectTasks.length == 0) {
+                    return 0.0;
+                }
 
-            int completed = 0;
-            for (Task t : projectTasks) {
-                if (t != null && "Completed".equalsIgnoreCase(t.getTaskStatus())) {
-                    completed++;
+                int completed = 0;
+                for (Task t : projectTasks) {
+                    if (t != null && "Completed".equalsIgnoreCase(t.getTaskStatus())) {
+                        completed++;
+                    }
+                }
+
+                // Protection against division by zero (shouldn't happen, but safety first)
+                if (projectTasks.length == 0) {
+                    return 0.0;
                 }
-            }
 
-            // Protection against division by zero (shouldn't happen, but safety first)
-            if (projectTasks.length == 0) {
+                return (completed * 100.0) / projectTasks.length;
+            } catch (ArithmeticException e) {
+                // Division by zero protection
                 return 0.0;
+            } catch (Exception e) {
+                // Handle any unexpected exceptions gracefully
+                throw new IllegalStateException("Unexpected error while calculating completion rate: " + e.getMessage(), e);
             }
+        } finally {
+            CALCULATE_COMPLETION_RATE_TIME.recordSince(startNanos);
+        }
+    }
+
+    /**
+     * Find tasks matching a composable query (project, status, assignee, order, limit)
+     */
+    public Task[] findTasks(TaskQuery query) {
+        long startNanos = FIND_TASKS_TIME.start();
+        try {
+            if (query == null)
+                throw new IllegalArgumentException("Query cannot be null");
+            return taskRepository.query(query);
+        } finally {
+            FIND_TASKS_TIME.recordSince(startNanos);
+        }
+    }
 
-            return (completed * 100.0) / projectTasks.length;
-        } catch (ArithmeticException e) {
-            // Division by zero protection
-            return 0.0;
-        } catch (Exception e) {
-            // Handle any unexpected exceptions gracefully
-            throw new IllegalStateException("Unexpected error while calculating completion rate: " + e.getMessage(), e);
+    /**
+     * Explain which index answers a query and how many rows it examined
+     */
+    public String explainQuery(TaskQuery query) {
+        long startNanos = EXPLAIN_QUERY_TIME.start();
+        try {
+            if (query == null)
+                throw new IllegalArgumentException("Query cannot be null");
+            return taskRepository.explain(query);
+        } finally {
+            EXPLAIN_QUERY_TIME.recordSince(startNanos);
+        }
+    }
+
+    /**
+     * Full-text search over task names (prefix matching, best matches first)
+     */
+    public Task[] searchTasks(String text, int limit) {
+        long startNanos = SEARCH_TASKS_TIME.start();
+        try {
+            if (text == null || limit <= 0)
+                return new Task[0];
+            return taskRepository.searchByName(text, limit);
+        } finally {
+            SEARCH_TASKS_TIME.recordSince(startNanos);
         }
     }
 
@@ -205,8 +431,13 @@ public class TaskService implements ITaskService {
      * Get tasks assigned to a user
      */
     public Task[] getTasksByAssignedUserId(String userId) {
-        if (userId == null)
-            return new Task[0];
-        return taskRepository.findByAssignedUserId(userId);
+        long startNanos = GET_TASKS_BY_ASSIGNED_USER_ID_TIME.start();
+        try {
+            if (userId == null)
+                return new Task[0];
+            return taskRepository.findByAssignedUserId(userId);
+        } finally {
+            GET_TASKS_BY_ASSIGNED_USER_ID_TIME.recordSince(startNanos);
+        }
     }
 }
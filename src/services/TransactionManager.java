@@ -0,0 +1,214 @@
+package services;
+
+import Repository.SegmentLog;
+import models.Project;
+import models.Task;
+import services.cdc.ChangeEventCodec;
+import services.events.DomainEvent;
+import services.events.EventBus;
+import utils.exceptions.TransactionAbortedException;
+import utils.metrics.Counter;
+import utils.metrics.LatencyHistogram;
+import utils.metrics.MetricsRegistry;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * TransactionManager following Single Responsibility Principle (SRP)
+ * - Only responsible for committing a UnitOfWork across the project, task
+ *   and assignment stores as one all-or-nothing step
+ * - The whole batch is validated once up front: every problem is collected
+ *   and reported together, and each referenced project is looked up once
+ * - Changes are applied under one lock; if any step fails, the steps already
+ *   applied are undone in reverse order
+ * - The committed batch is appended to the transaction log as a single record
+ *   before any event is published, so subscribers (caches, reports, change feed)
+ *   only ever see committed transactions
+ *
+ * The log is optional; without it commits are atomic but not durable. It must be
+ * a log of its own: its records hold whole batches (ChangeEventCodec.encodeAll),
+ * which ChangeFeed.read cannot decode, and the same events also reach a change
+ * feed through the bus. The constructor rejects a log already used by a ChangeFeed.
+ *
+ * Isolation is limited to commits: the lock only orders commits among themselves.
+ * Ordinary service calls are not blocked, so a reader may see a batch half
+ * applied, and a plain service write that races a commit can still make its
+ * apply step fail (that commit is then rolled back and reported as aborted).
+ */
+public class TransactionManager {
+    private static final MetricsRegistry METRICS = MetricsRegistry.global();
+    private static final LatencyHistogram COMMIT_TIME = METRICS.histogram("TransactionManager.commit");
+    private static final Counter ABORTS = METRICS.counter("TransactionManager.aborts");
+
+    /** Offset returned by commit when no transaction log is configured. */
+    public static final long NOT_LOGGED = -1;
+
+    private final ProjectService projectService;
+    private final TaskService taskService;
+    private final ProjectUserAssignmentOperations assignments;
+    private final SegmentLog log;
+    private final Clock clock;
+
+    public TransactionManager(ProjectService projectService, TaskService taskService,
+                              ProjectUserAssignmentOperations assignments) {
+        this(projectService, taskService, assignments, null, Clock.systemUTC());
+    }
+
+    /**
+     * @param log transaction log, one record per committed unit of work (null to disable);
+     *            must not be shared with a ChangeFeed
+     */
+    public TransactionManager(ProjectService projectService, TaskService taskService,
+                              ProjectUserAssignmentOperations assignments, SegmentLog log, Clock clock) {
+        if (projectService == null) throw new IllegalArgumentException("ProjectService cannot be null");
+        if (taskService == null) throw new IllegalArgumentException("TaskService cannot be null");
+        if (assignments == null) throw new IllegalArgumentException("Assignments cannot be null");
+        if (clock == null) throw new IllegalArgumentException("Clock cannot be null");
+        this.projectService = projectService;
+        this.taskService = taskService;
+        this.assignments = assignments;
+        if (log != null) log.claim("TransactionManager");
+        this.log = log;
+        this.clock = clock;
+    }
+
+    public UnitOfWork begin() {
+        return new UnitOfWork(projectService, taskService);
+    }
+
+    /**
+     * Validate and apply every staged change, or none of them.
+     *
+     * @return log offset of the transaction record, or NOT_LOGGED without a log
+     * @throws TransactionAbortedException listing every problem when the unit of work was refused
+     */
+    public long commit(UnitOfWork work) {
+        long startNanos = COMMIT_TIME.start();
+        try {
+            if (work == null) throw new IllegalArgumentException("Unit of work cannot be null");
+            work.markCommitted();
+
+            DomainEvent[] events = new DomainEvent[work.size()];
+            long offset;
+            synchronized (this) {
+                List<String> problems = new ArrayList<>();
+                Map<String, Integer> teamSizes = validate(work, problems);
+                if (!problems.isEmpty()) {
+                    ABORTS.increment();
+                    throw new TransactionAbortedException(problems);
+                }
+                offset = apply(work, teamSizes, events);
+            }
+
+            publish(projectService.getEventBus(), events, 0, work.projects().size());
+            publish(assignments.getEventBus(), events, work.projects().size(), events.length - work.tasks().size());
+            publish(taskService.getEventBus(), events, events.length - work.tasks().size(), events.length);
+            return offset;
+        } finally {
+            COMMIT_TIME.recordSince(startNanos);
+        }
+    }
+
+    // Check the whole batch against the stores; returns the team size of every project with staged members
+    private Map<String, Integer> validate(UnitOfWork work, List<String> problems) {
+        Map<String, Project> staged = new HashMap<>();
+        for (Project project : work.projects()) {
+            if (project.getName() == null || project.getName().isEmpty())
+                problems.add(project.getId() + ": Project name cannot be empty");
+            if (staged.put(project.getId(), project) != null || exists(projectService::exists, project.getId(), problems))
+                problems.add(project.getId() + ": Project already exists");
+        }
+
+        Map<String, Integer> teamSizes = new HashMap<>();
+        for (Map.Entry<String, List<String>> team : work.memberships().entrySet()) {
+            String projectId = team.getKey();
+            Project project = staged.get(projectId);
+            if (project == null) project = projectService.findProjectById(projectId).orElse(null);
+            if (project == null) {
+                problems.add(projectId + ": Project not found");
+                continue;
+            }
+            teamSizes.put(projectId, Math.max(1, project.getTeamSize()));
+
+            Set<String> seen = new HashSet<>();
+            for (String userId : team.getValue()) {
+                String problem = assignments.checkUser(userId);
+                if (problem != null) problems.add(userId + ": " + problem);
+                else if (!seen.add(userId)) problems.add(userId + ": Assigned twice to " + projectId);
+            }
+        }
+
+        Set<String> taskIds = new HashSet<>();
+        for (Task task : work.tasks()) {
+            if (task.getTaskName() == null || task.getTaskName().isEmpty())
+                problems.add(task.getTaskId() + ": Task name cannot be empty");
+            String projectId = task.getProjectId();
+            if (!staged.containsKey(projectId) && !teamSizes.containsKey(projectId)
+                    && projectService.findProjectById(projectId).isEmpty())
+                problems.add(task.getTaskId() + ": Project not found: " + projectId);
+            if (!taskIds.add(task.getTaskId()) || exists(taskService::exists, task.getTaskId(), problems))
+                problems.add(task.getTaskId() + ": Task already exists");
+        }
+        return teamSizes;
+    }
+
+    // Whether a store has id; an ID the store refuses is recorded as a problem instead of thrown
+    private static boolean exists(Predicate<String> store, String id, List<String> problems) {
+        try {
+            return store.test(id);
+        } catch (RuntimeException e) {
+            problems.add(id + ": Invalid ID");
+            return false;
+        }
+    }
+
+    // Apply in order projects -> memberships -> tasks -> log record, undoing everything on failure
+    private long apply(UnitOfWork work, Map<String, Integer> teamSizes, DomainEvent[] events) {
+        int count = 0;
+        int storedProjects = 0;
+        List<String> assignedProjects = new ArrayList<>();
+        int storedTasks = 0;
+        try {
+            for (Project project : work.projects()) {
+                projectService.store(project);
+                storedProjects++;
+                events[count++] = DomainEvent.ProjectAdded.of(project);
+            }
+            for (Map.Entry<String, List<String>> team : work.memberships().entrySet()) {
+                String problem = assignments.addAllMembers(team.getKey(), teamSizes.get(team.getKey()), team.getValue());
+                if (problem != null) throw new IllegalStateException(problem);
+                assignedProjects.add(team.getKey());
+                for (String userId : team.getValue()) events[count++] = new DomainEvent.UserAssigned(team.getKey(), userId);
+            }
+            for (Task task : work.tasks()) {
+                taskService.store(task);
+                storedTasks++;
+                events[count++] = DomainEvent.TaskCreated.of(task);
+            }
+            return log == null ? NOT_LOGGED : log.append(ChangeEventCodec.encodeAll(events, count, clock.millis()));
+        } catch (RuntimeException e) {
+            for (int i = storedTasks - 1; i >= 0; i--) taskService.discard(work.tasks().get(i).getTaskId());
+            for (int i = assignedProjects.size() - 1; i >= 0; i--) {
+                String projectId = assignedProjects.get(i);
+                assignments.removeAllMembers(projectId, work.memberships().get(projectId));
+            }
+            for (int i = storedProjects - 1; i >= 0; i--) projectService.discard(work.projects().get(i).getId());
+            ABORTS.increment();
+            throw new TransactionAbortedException(List.of(String.valueOf(e.getMessage())), e);
+        }
+    }
+
+    private static void publish(EventBus bus, DomainEvent[] events, int from, int to) {
+        if (from == to) return;
+        DomainEvent[] slice = new DomainEvent[to - from];
+        System.arraycopy(events, from, slice, 0, slice.length);
+        bus.publishAll(slice);
+    }
+}
@@ -0,0 +1,105 @@
+package services;
+
+import models.Project;
+import models.Task;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * UnitOfWork following Single Responsibility Principle (SRP)
+ * - Only responsible for collecting the mutations of one transaction:
+ *   new projects, project memberships and new tasks
+ * - Nothing is applied until TransactionManager.commit, which validates and
+ *   applies the whole batch or none of it; a unit of work commits once
+ * - IDs are reserved while staging, so tasks and assignments can refer to a
+ *   project created in the same unit of work. An aborted unit of work leaves
+ *   a gap in the ID sequence, the same as a failed add.
+ *
+ * Not thread safe: one unit of work is built by one caller.
+ */
+public final class UnitOfWork {
+
+    private final ProjectService projectService;
+    private final TaskService taskService;
+    private final List<Project> projects = new ArrayList<>();
+    private final Map<String, List<String>> memberships = new LinkedHashMap<>();
+    private final List<Task> tasks = new ArrayList<>();
+    private int assignmentCount;
+    private boolean committed;
+
+    UnitOfWork(ProjectService projectService, TaskService taskService) {
+        this.projectService = projectService;
+        this.taskService = taskService;
+    }
+
+    /**
+     * Stage a new project.
+     *
+     * @return the project ID (generated when the project has none)
+     */
+    public String createProject(Project project) {
+        ensureOpen();
+        if (project == null) throw new IllegalArgumentException("Project cannot be null");
+        if (project.getId() == null || project.getId().isEmpty()) project.setId(projectService.reserveId());
+        projects.add(project);
+        return project.getId();
+    }
+
+    /**
+     * Stage assignments of users to an existing or staged project.
+     */
+    public UnitOfWork assignUsers(String projectId, String... userIds) {
+        ensureOpen();
+        if (projectId == null) throw new IllegalArgumentException("Project ID cannot be null");
+        if (userIds == null) throw new IllegalArgumentException("User IDs cannot be null");
+        List<String> team = memberships.computeIfAbsent(projectId, id -> new ArrayList<>());
+        Collections.addAll(team, userIds);
+        assignmentCount += userIds.length;
+        return this;
+    }
+
+    /**
+     * Stage a new task for an existing or staged project.
+     *
+     * @return the task ID (generated when the task has none)
+     */
+    public String addTask(Task task) {
+        ensureOpen();
+        if (task == null) throw new IllegalArgumentException("Task cannot be null");
+        if (task.getTaskId() == null || task.getTaskId().isEmpty()) task = task.withTaskId(taskService.reserveId());
+        tasks.add(task);
+        return task.getTaskId();
+    }
+
+    /**
+     * Number of staged operations (one per project, membership and task).
+     */
+    public int size() {
+        return projects.size() + assignmentCount + tasks.size();
+    }
+
+    List<Project> projects() {
+        return projects;
+    }
+
+    Map<String, List<String>> memberships() {
+        return memberships;
+    }
+
+    List<Task> tasks() {
+        return tasks;
+    }
+
+    void markCommitted() {
+        ensureOpen();
+        committed = true;
+    }
+
+    private void ensureOpen() {
+        if (committed) throw new IllegalStateException("Unit of work was already committed");
+    }
+}
@@ -3,9 +3,16 @@ package services;
 import Repository.UserRepository;
 import interfaces.IdGenerator;
 import interfaces.IUserService;
+import models.Page;
 import models.User;
 import models.RegularUser;
 import models.AdminUser;
+import services.events.DomainEvent;
+import services.events.EventBus;
+import utils.metrics.LatencyHistogram;
+import utils.metrics.MetricsRegistry;
+
+import java.util.Optional;
 
 /**
  * UserService following SOLID principles:
@@ -14,15 +21,34 @@ import models.AdminUser;
  * - Open/Closed: Can be extended without modification
  */
 public class UserService implements IUserService {
+    private static final MetricsRegistry METRICS = MetricsRegistry.global();
+    private static final LatencyHistogram CREATE_REGULAR_USER_TIME = METRICS.sampledHistogram("UserService.createRegularUser");
+    private static final LatencyHistogram CREATE_ADMIN_USER_TIME = METRICS.sampledHistogram("UserService.createAdminUser");
+    private static final LatencyHistogram LOGIN_TIME = METRICS.sampledHistogram("UserService.login");
+    private static final LatencyHistogram LOGOUT_TIME = METRICS.sampledHistogram("UserService.logout");
+    private static final LatencyHistogram GET_CURRENT_USER_TIME = METRICS.sampledHistogram("UserService.getCurrentUser");
+    private static final LatencyHistogram GET_ALL_USERS_TIME = METRICS.sampledHistogram("UserService.getAllUsers");
+    private static final LatencyHistogram GET_USERS_PAGE_TIME = METRICS.sampledHistogram("UserService.getUsersPage");
+    private static final LatencyHistogram GET_USER_BY_ID_TIME = METRICS.sampledHistogram("UserService.getUserById");
+    private static final LatencyHistogram GET_USERS_BY_ROLE_TIME = METRICS.sampledHistogram("UserService.getUsersByRole");
+    private static final LatencyHistogram DISPLAY_CURRENT_USER_TIME = METRICS.sampledHistogram("UserService.displayCurrentUser");
+
     private final UserRepository userRepository;
     private final IdGenerator userIdGenerator;
+    private final EventBus eventBus;
     private User currentUser;
 
     public UserService(UserRepository userRepository, IdGenerator userIdGenerator) {
+        this(userRepository, userIdGenerator, new EventBus());
+    }
+
+    public UserService(UserRepository userRepository, IdGenerator userIdGenerator, EventBus eventBus) {
         if (userRepository == null) throw new IllegalArgumentException("UserRepository cannot be null");
         if (userIdGenerator == null) throw new IllegalArgumentException("UserIdGenerator cannot be null");
+        if (eventBus == null) throw new IllegalArgumentException("EventBus cannot be null");
         this.userRepository = userRepository;
         this.userIdGenerator = userIdGenerator;
+        this.eventBus = eventBus;
         this.currentUser = null;
     }
 
@@ -30,96 +56,162 @@ public class UserService implements IUserService {
      * Create a regular user with auto-generated ID
      */
     public User createRegularUser(String name, String email) {
-        if (name == null || email == null) {
-            throw new IllegalArgumentException("Name and email cannot be null");
+        long startNanos = CREATE_REGULAR_USER_TIME.start();
+        try {
+            if (name == null || email == null) {
+                throw new IllegalArgumentException("Name and email cannot be null");
+            }
+
+            RegularUser user = new RegularUser(name, email);
+            // Set generated ID
+            String generatedId = userIdGenerator.generate();
+            user.setId(generatedId);
+
+            int index = userIdGenerator.elementIndex(generatedId);
+            userRepository.add(user, index);
+            eventBus.publish(DomainEvent.UserCreated.of(user));
+            return user;
+        } finally {
+            CREATE_REGULAR_USER_TIME.recordSince(startNanos);
         }
-
-        RegularUser user = new RegularUser(name, email);
-        // Set generated ID
-        String generatedId = userIdGenerator.generate();
-        user.setId(generatedId);
-
-        int index = userIdGenerator.elementIndex(generatedId);
-        userRepository.add(user, index);
-        return user;
     }
 
     /**
      * Create an admin user with auto-generated ID
      */
     public User createAdminUser(String name, String email) {
-        if (name == null || email == null) {
-            throw new IllegalArgumentException("Name and email cannot be null");
+        long startNanos = CREATE_ADMIN_USER_TIME.start();
+        try {
+            if (name == null || email == null) {
+                throw new IllegalArgumentException("Name and email cannot be null");
+            }
+
+            AdminUser user = new AdminUser(name, email);
+            // Set generated ID
+            String generatedId = userIdGenerator.generate();
+            user.setId(generatedId);
+
+            int index = userIdGenerator.elementIndex(generatedId);
+            userRepository.add(user, index);
+            eventBus.publish(DomainEvent.UserCreated.of(user));
+            return user;
+        } finally {
+            CREATE_ADMIN_USER_TIME.recordSince(startNanos);
         }
-
-        AdminUser user = new AdminUser(name, email);
-        // Set generated ID
-        String generatedId = userIdGenerator.generate();
-        user.setId(generatedId);
-
-        int index = userIdGenerator.elementIndex(generatedId);
-        userRepository.add(user, index);
-        return user;
     }
 
     /**
      * Login user by ID
      */
     public User login(String userId) {
-        if (userId == null) return null;
-
-        User user = getUserById(userId);
-        if (user != null) {
-            currentUser = user;
+        long startNanos = LOGIN_TIME.start();
+        try {
+            if (userId == null) return null;
+
+            User user = getUserById(userId);
+            if (user != null) {
+                currentUser = user;
+            }
+            return user;
+        } finally {
+            LOGIN_TIME.recordSince(startNanos);
         }
-        return user;
     }
 
     /**
      * Logout current user
      */
     public void logout() {
-        currentUser = null;
+        long startNanos = LOGOUT_TIME.start();
+        try {
+            currentUser = null;
+        } finally {
+            LOGOUT_TIME.recordSince(startNanos);
+        }
     }
 
     /**
      * Get current logged-in user
      */
     public User getCurrentUser() {
-        return currentUser;
+        long startNanos = GET_CURRENT_USER_TIME.start();
+        try {
+            return currentUser;
+        } finally {
+            GET_CURRENT_USER_TIME.recordSince(startNanos);
+        }
     }
 
     /**
      * Get all users
      */
     public User[] getAllUsers() {
-        return userRepository.getAll();
+        long startNanos = GET_ALL_USERS_TIME.start();
+        try {
+            return userRepository.getAll();
+        } finally {
+            GET_ALL_USERS_TIME.recordSince(startNanos);
+        }
+    }
+
+    /**
+     * Keyset page of users ordered by ID, starting after the given cursor
+     * (null for the first page). Page size is clamped to Page.MAX_PAGE_SIZE.
+     */
+    public Page<User> getUsersPage(String afterUserId, int pageSize) {
+        long startNanos = GET_USERS_PAGE_TIME.start();
+        try {
+            int limit = Page.normalizePageSize(pageSize);
+            User[] fetched = userRepository.getPage(Page.cursorIndex(afterUserId, userIdGenerator), limit + 1);
+            return Page.of(fetched, limit, User::getId);
+        } finally {
+            GET_USERS_PAGE_TIME.recordSince(startNanos);
+        }
     }
 
     /**
      * Get user by ID
      */
     public User getUserById(String userId) {
-        if (userId == null) return null;
-        return userRepository.findByUserId(userId);
+        long startNanos = GET_USER_BY_ID_TIME.start();
+        try {
+            if (userId == null) return null;
+            return userRepository.findByUserId(userId);
+        } finally {
+            GET_USER_BY_ID_TIME.recordSince(startNanos);
+        }
+    }
+
+    public Optional<User> findUserById(String userId) {
+        return Optional.ofNullable(getUserById(userId));
     }
 
     /**
      * Get users by role
      */
     public User[] getUsersByRole(String role) {
-        if (role == null) return new User[0];
-        return userRepository.findByRole(role);
+        long startNanos = GET_USERS_BY_ROLE_TIME.start();
+        try {
+            if (role == null) return new User[0];
+            return userRepository.findByRole(role);
+        } finally {
+            GET_USERS_BY_ROLE_TIME.recordSince(startNanos);
+        }
     }
 
     /**
      * Display current user information
      */
     public void displayCurrentUser() {
-        if (currentUser != null) {
-            currentUser.displayRole();
-        } else {
-            System.out.println("No user is currently logged in.");
+        long startNanos = DISPLAY_CURRENT_USER_TIME.start();
+        try {
+            if (currentUser != null) {
+                currentUser.displayRole();
+            } else {
+                System.out.println("No user is currently logged in.");
+            }
+        } finally {
+            DISPLAY_CURRENT_USER_TIME.recordSince(startNanos);
         }
     }
 }
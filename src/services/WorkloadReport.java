@@ -0,0 +1,117 @@
+package services;
+
+import models.Task;
+import models.UserWorkloadDto;
+import services.events.DomainEvent;
+import services.events.EventSubscriber;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Per-user workload counters, kept up to date from task changes.
+ * - open = assigned tasks not Completed, completed = assigned Completed tasks
+ * - users are kept ranked heaviest first as the counters change: each change
+ *   moves one user in the ranking, O(log users), and top-N reads the first N
+ *   entries, O(N) whatever the number of users
+ * - project membership counts come from ProjectUserAssignmentOperations
+ */
+public class WorkloadReport implements EventSubscriber {
+
+    /** Most loaded first: more open tasks, then more completed, then user ID. */
+    public static final Comparator<UserWorkloadDto> HEAVIEST_FIRST =
+            Comparator.comparingInt(UserWorkloadDto::openTasks).reversed()
+                    .thenComparing(Comparator.comparingInt(UserWorkloadDto::completedTasks).reversed())
+                    .thenComparing(UserWorkloadDto::userId);
+
+    private final ProjectUserAssignmentOperations assignments;
+    // Ranked entries carry no project count; it is looked up for the users returned
+    private final Map<String, UserWorkloadDto> counts = new HashMap<>();
+    private final TreeSet<UserWorkloadDto> ranking = new TreeSet<>(HEAVIEST_FIRST);
+
+    public WorkloadReport(ProjectUserAssignmentOperations assignments) {
+        this.assignments = assignments;
+    }
+
+    /**
+     * Reset the counters from the given tasks.
+     */
+    public synchronized void load(Task[] tasks) {
+        counts.clear();
+        ranking.clear();
+        if (tasks == null) return;
+        for (Task t : tasks) if (t != null) adjust(t.getAssignedUserId(), t.getTaskStatus(), 1);
+    }
+
+    @Override
+    public synchronized void onEvent(DomainEvent event) {
+        apply(event);
+    }
+
+    @Override
+    public synchronized void onBatch(DomainEvent[] events, int count) {
+        EventSubscriber.applyEach(events, count, this::apply);
+    }
+
+    private void apply(DomainEvent event) {
+        switch (event) {
+            case DomainEvent.TaskCreated e -> adjust(e.assignedUserId(), e.status(), 1);
+            case DomainEvent.TaskStatusChanged e -> {
+                adjust(e.assignedUserId(), e.oldStatus(), -1);
+                adjust(e.assignedUserId(), e.newStatus(), 1);
+            }
+            case DomainEvent.TaskDeleted e -> adjust(e.assignedUserId(), e.status(), -1);
+            case DomainEvent.TaskArchived e -> adjust(e.assignedUserId(), e.status(), -1);
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Workload of one user (zero counters for users without tasks).
+     */
+    public synchronized UserWorkloadDto workloadOf(String userId) {
+        UserWorkloadDto c = counts.get(userId);
+        return new UserWorkloadDto(userId, c == null ? 0 : c.openTasks(), c == null ? 0 : c.completedTasks(),
+                projectCount(userId));
+    }
+
+    /**
+     * The n users with the most open tasks, heaviest first.
+     */
+    public synchronized UserWorkloadDto[] topLoaded(int n) {
+        if (n <= 0) return new UserWorkloadDto[0];
+        UserWorkloadDto[] top = new UserWorkloadDto[Math.min(n, ranking.size())];
+        Iterator<UserWorkloadDto> it = ranking.iterator();
+        for (int i = 0; i < top.length; i++) {
+            UserWorkloadDto dto = it.next();
+            top[i] = new UserWorkloadDto(dto.userId(), dto.openTasks(), dto.completedTasks(), projectCount(dto.userId()));
+        }
+        return top;
+    }
+
+    private int projectCount(String userId) {
+        return assignments == null ? 0 : assignments.countProjectsForUser(userId);
+    }
+
+    // Re-rank the user: the old entry leaves the ranking before the new one goes in
+    private void adjust(String userId, String status, int delta) {
+        if (userId == null) return;
+        UserWorkloadDto old = counts.get(userId);
+        int open = old == null ? 0 : old.openTasks();
+        int completed = old == null ? 0 : old.completedTasks();
+        if ("Completed".equalsIgnoreCase(status)) completed += delta;
+        else open += delta;
+        if (old != null) ranking.remove(old);
+        if (open == 0 && completed == 0) {
+            counts.remove(userId);
+            return;
+        }
+        UserWorkloadDto updated = new UserWorkloadDto(userId, open, completed, 0);
+        counts.put(userId, updated);
+        ranking.add(updated);
+    }
+}
@@ -0,0 +1,159 @@
+package services.cdc;
+
+import services.events.DomainEvent;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Binary form of a domain event in the change log:
+ * [byte type][long timestampMillis][nullable UTF fields in record order].
+ * Type codes are part of the on-disk format and must never be reused.
+ * A batch (one committed transaction) is [int count] followed by count
+ * [int length][event] entries, so it is stored as a single log record.
+ */
+public final class ChangeEventCodec {
+
+    private static final byte TASK_CREATED = 1;
+    private static final byte TASK_STATUS_CHANGED = 2;
+    private static final byte TASK_DELETED = 3;
+    private static final byte PROJECT_ADDED = 4;
+    private static final byte PROJECT_REMOVED = 5;
+    private static final byte USER_CREATED = 6;
+    private static final byte USER_ASSIGNED = 7;
+    private static final byte USER_UNASSIGNED = 8;
+    private static final byte PROJECT_UPDATED = 9;
+    private static final byte TASK_ARCHIVED = 10;
+
+    private ChangeEventCodec() {
+    }
+
+    public static byte[] encode(DomainEvent event, long timestampMillis) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            switch (event) {
+                case DomainEvent.TaskCreated e -> {
+                    header(out, TASK_CREATED, timestampMillis);
+                    strings(out, e.taskId(), e.projectId(), e.assignedUserId(), e.status());
+                }
+                case DomainEvent.TaskStatusChanged e -> {
+                    header(out, TASK_STATUS_CHANGED, timestampMillis);
+                    strings(out, e.taskId(), e.projectId(), e.assignedUserId(), e.oldStatus(), e.newStatus());
+                }
+                case DomainEvent.TaskDeleted e -> {
+                    header(out, TASK_DELETED, timestampMillis);
+                    strings(out, e.taskId(), e.projectId(), e.assignedUserId(), e.status());
+                }
+                case DomainEvent.TaskArchived e -> {
+                    header(out, TASK_ARCHIVED, timestampMillis);
+                    strings(out, e.taskId(), e.projectId(), e.assignedUserId(), e.status());
+                }
+                case DomainEvent.ProjectAdded e -> {
+                    header(out, PROJECT_ADDED, timestampMillis);
+                    strings(out, e.projectId(), e.projectName());
+                }
+                case DomainEvent.ProjectUpdated e -> {
+                    header(out, PROJECT_UPDATED, timestampMillis);
+                    strings(out, e.projectId(), e.projectName());
+                }
+                case DomainEvent.ProjectRemoved e -> {
+                    header(out, PROJECT_REMOVED, timestampMillis);
+                    strings(out, e.projectId());
+                }
+                case DomainEvent.UserCreated e -> {
+                    header(out, USER_CREATED, timestampMillis);
+                    strings(out, e.userId(), e.role());
+                }
+                case DomainEvent.UserAssigned e -> {
+                    header(out, USER_ASSIGNED, timestampMillis);
+                    strings(out, e.projectId(), e.userId());
+                }
+                case DomainEvent.UserUnassigned e -> {
+                    header(out, USER_UNASSIGNED, timestampMillis);
+                    strings(out, e.projectId(), e.userId());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Encode the first count events as one payload, all with the same timestamp.
+     */
+    public static byte[] encodeAll(DomainEvent[] events, int count, long timestampMillis) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * count + 4);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(count);
+            for (int i = 0; i < count; i++) {
+                byte[] event = encode(events[i], timestampMillis);
+                out.writeInt(event.length);
+                out.write(event);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decode a payload written by encodeAll; every change gets the offset of the batch.
+     */
+    public static ChangeRecord[] decodeAll(long offset, byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            ChangeRecord[] changes = new ChangeRecord[in.readInt()];
+            for (int i = 0; i < changes.length; i++) {
+                byte[] event = new byte[in.readInt()];
+                in.readFully(event);
+                changes[i] = decode(offset, event);
+            }
+            return changes;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt change batch at offset " + offset, e);
+        }
+    }
+
+    public static ChangeRecord decode(long offset, byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            byte type = in.readByte();
+            long timestamp = in.readLong();
+            DomainEvent event = switch (type) {
+                case TASK_CREATED -> new DomainEvent.TaskCreated(str(in), str(in), str(in), str(in));
+                case TASK_STATUS_CHANGED -> new DomainEvent.TaskStatusChanged(str(in), str(in), str(in), str(in), str(in));
+                case TASK_DELETED -> new DomainEvent.TaskDeleted(str(in), str(in), str(in), str(in));
+                case TASK_ARCHIVED -> new DomainEvent.TaskArchived(str(in), str(in), str(in), str(in));
+                case PROJECT_ADDED -> new DomainEvent.ProjectAdded(str(in), str(in));
+                case PROJECT_UPDATED -> new DomainEvent.ProjectUpdated(str(in), str(in));
+                case PROJECT_REMOVED -> new DomainEvent.ProjectRemoved(str(in));
+                case USER_CREATED -> new DomainEvent.UserCreated(str(in), str(in));
+                case USER_ASSIGNED -> new DomainEvent.UserAssigned(str(in), str(in));
+                case USER_UNASSIGNED -> new DomainEvent.UserUnassigned(str(in), str(in));
+                default -> throw new IllegalStateException("Unknown change type " + type + " at offset " + offset);
+            };
+            return new ChangeRecord(offset, timestamp, event);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt change record at offset " + offset, e);
+        }
+    }
+
+    private static void header(DataOutputStream out, byte type, long timestampMillis) throws IOException {
+        out.writeByte(type);
+        out.writeLong(timestampMillis);
+    }
+
+    private static void strings(DataOutputStream out, String... values) throws IOException {
+        for (String value : values) {
+            out.writeBoolean(value != null);
+            if (value != null) out.writeUTF(value);
+        }
+    }
+
+    private static String str(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
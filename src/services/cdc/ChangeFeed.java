@@ -0,0 +1,88 @@
+package services.cdc;
+
+import Repository.SegmentLog;
+import services.events.DomainEvent;
+import services.events.EventSubscriber;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ChangeFeed following Single Responsibility Principle (SRP)
+ * - Only responsible for turning published domain events into an ordered,
+ *   replayable feed with offsets
+ * - Subscribes to the EventBus and appends every event to a SegmentLog;
+ *   a batch from the bus is written with one append
+ * - Consumers remember the offset after the last record they processed and
+ *   resume from it, so each poll costs O(changes) instead of copying the
+ *   whole repository with getAllTasks()
+ *
+ * Offsets start at 0 and never go back, also across restarts of the same log.
+ */
+public class ChangeFeed implements EventSubscriber, AutoCloseable {
+
+    private final SegmentLog log;
+    private final Clock clock;
+    private byte[][] encoded = new byte[16][];
+
+    public ChangeFeed(SegmentLog log) {
+        this(log, Clock.systemUTC());
+    }
+
+    public ChangeFeed(SegmentLog log, Clock clock) {
+        if (log == null) throw new IllegalArgumentException("SegmentLog cannot be null");
+        if (clock == null) throw new IllegalArgumentException("Clock cannot be null");
+        log.claim("ChangeFeed");
+        this.log = log;
+        this.clock = clock;
+    }
+
+    @Override
+    public void onEvent(DomainEvent event) {
+        log.append(ChangeEventCodec.encode(event, clock.millis()));
+    }
+
+    @Override
+    public synchronized void onBatch(DomainEvent[] events, int count) {
+        if (encoded.length < count) encoded = new byte[count][];
+        long now = clock.millis();
+        for (int i = 0; i < count; i++) encoded[i] = ChangeEventCodec.encode(events[i], now);
+        log.appendAll(encoded, count);
+        Arrays.fill(encoded, 0, count, null);
+    }
+
+    /**
+     * Up to maxRecords changes starting at fromOffset, oldest first.
+     * The next poll should start at the last returned offset + 1,
+     * or at fromOffset again when the list is empty.
+     *
+     * @throws utils.exceptions.OffsetOutOfRangeException when fromOffset is no longer retained
+     */
+    public List<ChangeRecord> read(long fromOffset, int maxRecords) {
+        List<SegmentLog.LogRecord> raw = log.read(fromOffset, maxRecords);
+        List<ChangeRecord> changes = new ArrayList<>(raw.size());
+        for (SegmentLog.LogRecord record : raw) changes.add(ChangeEventCodec.decode(record.offset(), record.payload()));
+        return changes;
+    }
+
+    /**
+     * Oldest offset still available to consumers.
+     */
+    public long startOffset() {
+        return log.startOffset();
+    }
+
+    /**
+     * Offset the next change will get; a consumer at this offset is up to date.
+     */
+    public long endOffset() {
+        return log.endOffset();
+    }
+
+    @Override
+    public void close() {
+        log.close();
+    }
+}
@@ -0,0 +1,9 @@
+package services.cdc;
+
+import services.events.DomainEvent;
+
+/**
+ * One entry of the change feed: the event, its position and when it was logged.
+ */
+public record ChangeRecord(long offset, long timestampMillis, DomainEvent event) {
+}
@@ -0,0 +1,95 @@
+package services.cdc;
+
+import utils.exceptions.OffsetOutOfRangeException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Example change-feed consumer that keeps its position in a local file.
+ * - poll() reads from the stored offset, hands each change to the handler and
+ *   then stores the next offset (write to a temp file + atomic rename)
+ * - Delivery is at-least-once: if the process dies after handling but before
+ *   the offset is stored, the same changes are handled again on restart
+ * - If retention deleted the stored offset, the consumer skips to the oldest
+ *   retained change and reports how many were lost
+ */
+public class FileOffsetConsumer {
+
+    private final ChangeFeed feed;
+    private final Path offsetFile;
+    private long offset;
+    private long skipped;
+
+    public FileOffsetConsumer(ChangeFeed feed, Path offsetFile) {
+        if (feed == null) throw new IllegalArgumentException("ChangeFeed cannot be null");
+        if (offsetFile == null) throw new IllegalArgumentException("Offset file cannot be null");
+        this.feed = feed;
+        this.offsetFile = offsetFile;
+        this.offset = readOffset();
+    }
+
+    /**
+     * Process up to maxRecords new changes.
+     *
+     * @return number of changes handled
+     */
+    public int poll(int maxRecords, Consumer<ChangeRecord> handler) {
+        List<ChangeRecord> changes;
+        try {
+            changes = feed.read(offset, maxRecords);
+        } catch (OffsetOutOfRangeException e) {
+            if (offset > e.getEndOffset()) throw e;   // offset file belongs to another log
+            skipped += e.getStartOffset() - offset;
+            offset = e.getStartOffset();
+            changes = feed.read(offset, maxRecords);
+        }
+        if (changes.isEmpty()) return 0;
+
+        for (ChangeRecord change : changes) handler.accept(change);
+        commit(changes.get(changes.size() - 1).offset() + 1);
+        return changes.size();
+    }
+
+    /**
+     * Offset of the next change this consumer will read.
+     */
+    public long position() {
+        return offset;
+    }
+
+    /**
+     * Changes lost because retention deleted them before they were read.
+     */
+    public long skippedChanges() {
+        return skipped;
+    }
+
+    private void commit(long nextOffset) {
+        Path temp = offsetFile.resolveSibling(offsetFile.getFileName() + ".tmp");
+        try {
+            Files.writeString(temp, Long.toString(nextOffset), StandardCharsets.UTF_8);
+            Files.move(temp, offsetFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot store consumer offset in " + offsetFile, e);
+        }
+        offset = nextOffset;
+    }
+
+    private long readOffset() {
+        if (!Files.exists(offsetFile)) return 0;
+        try {
+            return Long.parseLong(Files.readString(offsetFile, StandardCharsets.UTF_8).trim());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read consumer offset from " + offsetFile, e);
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Corrupt consumer offset file " + offsetFile, e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package services.events;
+
+import models.Project;
+import models.Task;
+import models.User;
+
+/**
+ * A change made through the service layer, published after it succeeded.
+ * Events are immutable value snapshots: they copy the fields subscribers
+ * need instead of holding the mutable entity, so a subscriber running
+ * later (asynchronous mode) still sees the state at publish time.
+ */
+public sealed interface DomainEvent {
+
+    record TaskCreated(String taskId, String projectId, String assignedUserId, String status)
+            implements DomainEvent {
+        public static TaskCreated of(Task task) {
+            return new TaskCreated(task.getTaskId(), task.getProjectId(), task.getAssignedUserId(), task.getTaskStatus());
+        }
+    }
+
+    record TaskStatusChanged(String taskId, String projectId, String assignedUserId,
+                             String oldStatus, String newStatus) implements DomainEvent {
+        public static TaskStatusChanged of(Task task, String oldStatus) {
+            return new TaskStatusChanged(task.getTaskId(), task.getProjectId(), task.getAssignedUserId(),
+                    oldStatus, task.getTaskStatus());
+        }
+    }
+
+    record TaskDeleted(String taskId, String projectId, String assignedUserId, String status)
+            implements DomainEvent {
+        public static TaskDeleted of(Task task) {
+            return new TaskDeleted(task.getTaskId(), task.getProjectId(), task.getAssignedUserId(), task.getTaskStatus());
+        }
+    }
+
+    /**
+     * A completed task moved from the hot repository to the archive tier;
+     * it no longer counts in reports built from the hot repository.
+     */
+    record TaskArchived(String taskId, String projectId, String assignedUserId, String status)
+            implements DomainEvent {
+        public static TaskArchived of(Task task) {
+            return new TaskArchived(task.getTaskId(), task.getProjectId(), task.getAssignedUserId(), task.getTaskStatus());
+        }
+    }
+
+    record ProjectAdded(String projectId, String projectName) implements DomainEvent {
+        public static ProjectAdded of(Project project) {
+            return new ProjectAdded(project.getId(), project.getName());
+        }
+    }
+
+    record ProjectUpdated(String projectId, String projectName) implements DomainEvent {
+    }
+
+    record ProjectRemoved(String projectId) implements DomainEvent {
+    }
+
+    record UserCreated(String userId, String role) implements DomainEvent {
+        public static UserCreated of(User user) {
+            return new UserCreated(user.getId(), user.getRole());
+        }
+    }
+
+    record UserAssigned(String projectId, String userId) implements DomainEvent {
+    }
+
+    record UserUnassigned(String projectId, String userId) implements DomainEvent {
+    }
+}
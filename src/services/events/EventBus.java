@@ -0,0 +1,230 @@
+package services.events;
+
+import utils.metrics.Counter;
+import utils.metrics.MetricsRegistry;
+
+import java.util.Arrays;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * EventBus following Single Responsibility Principle (SRP)
+ * - Only responsible for delivering domain events from publishers to subscribers
+ * - Synchronous (default): subscribers run on the publishing thread, nothing is queued
+ * - Asynchronous: publishers append to a bounded ring buffer and return; one
+ *   dispatcher thread drains it and hands subscribers whole batches
+ *
+ * The ring is multi-producer / single-consumer: a producer claims a sequence
+ * number and fills the slot, the dispatcher reads slots in sequence order and
+ * clears them. The batch array is allocated once and reused.
+ * A full ring makes publishers wait, so events are never dropped.
+ *
+ * A subscriber that throws is counted in EventBus.subscriberErrors, handed to the
+ * failure handler if one is set, and skipped; the others still get the event.
+ */
+public class EventBus implements AutoCloseable {
+
+    /** Default ring size for asynchronous mode. */
+    public static final int DEFAULT_CAPACITY = 1 << 14;
+    /** Most events handed to a subscriber in one onBatch call. */
+    public static final int MAX_BATCH = 256;
+
+    private static final long IDLE_PARK_NANOS = 50_000;
+
+    /**
+     * Told about every exception a subscriber throws, on the thread that delivered
+     * the event. It must not throw; what it throws is ignored.
+     */
+    @FunctionalInterface
+    public interface FailureHandler {
+        void onFailure(EventSubscriber subscriber, RuntimeException failure);
+    }
+
+    private static final FailureHandler COUNT_ONLY = (subscriber, failure) -> {
+    };
+
+    private static final MetricsRegistry METRICS = MetricsRegistry.global();
+    private static final Counter PUBLISHED = METRICS.counter("EventBus.published");
+    private static final Counter SUBSCRIBER_ERRORS = METRICS.counter("EventBus.subscriberErrors");
+    private static final Counter FULL_RING_WAITS = METRICS.counter("EventBus.fullRingWaits");
+
+    private final CopyOnWriteArrayList<EventSubscriber> subscribers = new CopyOnWriteArrayList<>();
+    private volatile FailureHandler failureHandler = COUNT_ONLY;
+
+    // Asynchronous mode only
+    private final AtomicReferenceArray<DomainEvent> ring;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+    private final Thread dispatcher;
+    private volatile boolean running;
+
+    /**
+     * Synchronous bus.
+     */
+    public EventBus() {
+        this.ring = null;
+        this.mask = 0;
+        this.dispatcher = null;
+    }
+
+    private EventBus(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1)
+            throw new IllegalArgumentException("Ring capacity must be a power of two");
+        this.ring = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.running = true;
+        this.dispatcher = new Thread(this::dispatchLoop, "event-bus");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    /**
+     * Asynchronous bus with a ring of the given size (a power of two).
+     * Close it to stop the dispatcher thread.
+     */
+    public static EventBus async(int capacity) {
+        return new EventBus(capacity);
+    }
+
+    public boolean isAsync() {
+        return ring != null;
+    }
+
+    /**
+     * Register a subscriber. Subscribing the same instance twice has no effect.
+     */
+    public void subscribe(EventSubscriber subscriber) {
+        if (subscriber == null) throw new IllegalArgumentException("Subscriber cannot be null");
+        subscribers.addIfAbsent(subscriber);
+    }
+
+    public void unsubscribe(EventSubscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    /**
+     * Set where subscriber failures are reported, e.g. a logger; null reverts to
+     * only counting them.
+     */
+    public void setFailureHandler(FailureHandler handler) {
+        this.failureHandler = handler == null ? COUNT_ONLY : handler;
+    }
+
+    public void publish(DomainEvent event) {
+        if (event == null) throw new IllegalArgumentException("Event cannot be null");
+        PUBLISHED.increment();
+        if (ring == null) {
+            for (EventSubscriber subscriber : subscribers) deliver(subscriber, event);
+            return;
+        }
+        if (!running) throw new IllegalStateException("Event bus is closed");
+
+        long sequence = claimed.getAndIncrement();
+        if (sequence - consumed.get() > mask) {
+            FULL_RING_WAITS.increment();
+            while (sequence - consumed.get() > mask) Thread.onSpinWait();
+        }
+        ring.lazySet((int) sequence & mask, event);
+    }
+
+    /**
+     * Publish several events; in synchronous mode every subscriber receives
+     * them in a single onBatch call.
+     */
+    public void publishAll(DomainEvent... events) {
+        if (events == null || events.length == 0) return;
+        if (ring != null) {
+            for (DomainEvent event : events) publish(event);
+            return;
+        }
+        for (DomainEvent event : events) {
+            if (event == null) throw new IllegalArgumentException("Event cannot be null");
+        }
+        PUBLISHED.add(events.length);
+        for (EventSubscriber subscriber : subscribers) deliverBatch(subscriber, events, events.length);
+    }
+
+    /**
+     * Wait until every event published so far has been delivered.
+     * Returns immediately in synchronous mode.
+     */
+    public void awaitDelivered() {
+        if (ring == null) return;
+        long target = claimed.get();
+        while (consumed.get() < target) {
+            if (!dispatcher.isAlive()) return;
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Deliver what is queued, then stop the dispatcher thread.
+     */
+    @Override
+    public void close() {
+        if (ring == null || !running) return;
+        awaitDelivered();
+        running = false;
+        LockSupport.unpark(dispatcher);
+        try {
+            dispatcher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void dispatchLoop() {
+        DomainEvent[] batch = new DomainEvent[MAX_BATCH];
+        long next = consumed.get();
+        while (running || next < claimed.get()) {
+            int count = 0;
+            while (count < MAX_BATCH) {
+                int slot = (int) next & mask;
+                DomainEvent event = ring.get(slot);
+                if (event == null) break;           // not published yet (or nothing left)
+                ring.lazySet(slot, null);
+                batch[count++] = event;
+                next++;
+            }
+            if (count == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            for (EventSubscriber subscriber : subscribers) deliverBatch(subscriber, batch, count);
+            Arrays.fill(batch, 0, count, null);
+            consumed.set(next);
+        }
+    }
+
+    private void deliver(EventSubscriber subscriber, DomainEvent event) {
+        try {
+            subscriber.onEvent(event);
+        } catch (RuntimeException e) {
+            reportFailure(subscriber, e);
+        }
+    }
+
+    private void deliverBatch(EventSubscriber subscriber, DomainEvent[] events, int count) {
+        try {
+            subscriber.onBatch(events, count);
+        } catch (RuntimeException e) {
+            // onBatch keeps going after a failed event and throws once at the end
+            reportFailure(subscriber, e);
+            for (Throwable suppressed : e.getSuppressed()) {
+                if (suppressed instanceof RuntimeException later) reportFailure(subscriber, later);
+            }
+        }
+    }
+
+    private void reportFailure(EventSubscriber subscriber, RuntimeException e) {
+        SUBSCRIBER_ERRORS.increment();
+        try {
+            failureHandler.onFailure(subscriber, e);
+        } catch (RuntimeException ignored) {
+            // A broken handler must not stop delivery to the remaining subscribers
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package services.events;
+
+import java.util.function.Consumer;
+
+/**
+ * Receives domain events from an EventBus.
+ * In synchronous mode events arrive on the publishing thread, one at a time;
+ * in asynchronous mode they arrive on the bus thread in batches.
+ */
+@FunctionalInterface
+public interface EventSubscriber {
+
+    void onEvent(DomainEvent event);
+
+    /**
+     * Handle a batch of events in publish order. The array is reused by the
+     * bus: only the first count entries are valid and it must not be kept.
+     * Override to apply a whole batch under one lock; a failing event must
+     * not stop the rest of the batch, see applyEach.
+     */
+    default void onBatch(DomainEvent[] events, int count) {
+        applyEach(events, count, this::onEvent);
+    }
+
+    /**
+     * Apply every event of a batch, also after one of them failed.
+     * The first failure is rethrown at the end with the later ones
+     * suppressed, so the bus reports each of them.
+     */
+    static void applyEach(DomainEvent[] events, int count, Consumer<DomainEvent> apply) {
+        RuntimeException failure = null;
+        for (int i = 0; i < count; i++) {
+            try {
+                apply.accept(events[i]);
+            } catch (RuntimeException e) {
+                if (failure == null) failure = e;
+                else failure.addSuppressed(e);
+            }
+        }
+        if (failure != null) throw failure;
+    }
+}
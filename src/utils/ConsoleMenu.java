@@ -4,9 +4,16 @@ import Controllers.ProjectController;
 import Controllers.ReportController;
 import Controllers.TaskController;
 import Controllers.UserController;
+import interfaces.IProjectService;
+import interfaces.ITaskService;
+import interfaces.IUserService;
+import models.CacheStats;
 import services.*;
+import utils.cache.LruCache;
+import utils.metrics.MetricsRegistry;
 
 import java.util.Scanner;
+import java.util.function.Supplier;
 
 /**
  * ConsoleMenu following Single Responsibility Principle (SRP)
@@ -15,16 +22,31 @@ import java.util.Scanner;
  * - All navigation delegated to MenuRouter
  */
 public class ConsoleMenu {
+    private static final int CACHE_CAPACITY = 256;
+
     private final Scanner scanner;
     private final MenuRouter menuRouter;
 
     public ConsoleMenu(ProjectService projectService, TaskService taskService,
             ReportService reportService, UserService userService) {
 
+        // Controllers read through caches; the concrete services stay the source of truth
+        CachingProjectService cachingProjects = new CachingProjectService(projectService, new LruCache<>(CACHE_CAPACITY));
+        CachingTaskService cachingTasks = new CachingTaskService(taskService, new LruCache<>(CACHE_CAPACITY));
+        CachingUserService cachingUsers = new CachingUserService(userService, new LruCache<>(CACHE_CAPACITY));
+        projectService.getEventBus().subscribe(cachingProjects);
+        taskService.getEventBus().subscribe(cachingTasks);
+        registerCacheGauges("cache.projects", cachingProjects::getCacheStats);
+        registerCacheGauges("cache.tasks", cachingTasks::getCacheStats);
+        registerCacheGauges("cache.users", cachingUsers::getCacheStats);
+        IProjectService cachedProjects = cachingProjects;
+        ITaskService cachedTasks = cachingTasks;
+        IUserService cachedUsers = cachingUsers;
+
         // Initialize utilities
         this.scanner = new Scanner(System.in);
         Printer printer = new Printer();
-        ValidationUtils validationUtils = new ValidationUtils(scanner, projectService, userService,
+        ValidationUtils validationUtils = new ValidationUtils(scanner, cachedProjects, cachedUsers,
                 new GenerateProjectId());
 
         // Initialize ID generators
@@ -32,7 +54,7 @@ public class ConsoleMenu {
         GenerateTaskId taskIdGenerator = new GenerateTaskId();
 
         // Initialize permission service
-        PermissionService permissionService = new PermissionService(userService);
+        PermissionService permissionService = new PermissionService(cachedUsers);
 
         // Initialize controllers (following Dependency Inversion Principle)
         // To resolve circular dependency (controllers need MenuRouter, MenuRouter needs controllers):
@@ -41,26 +63,41 @@ public class ConsoleMenu {
         // 3. Initialize MenuRouter's controllers using initializeControllers method
 
         // Step 1: Create MenuRouter (controllers will be set later)
-        this.menuRouter = new MenuRouter(null, null, null, null, printer, validationUtils, permissionService, userService);
+        this.menuRouter = new MenuRouter(null, null, null, null, printer, validationUtils, permissionService, cachedUsers);
+
+        // Project/user assignments and the workload report built on them
+        ProjectUserAssignmentOperations assignmentOperations = new ProjectUserAssignmentOperations(cachedProjects, cachedUsers, 20,
+                taskService.getEventBus());
+        WorkloadReport workloadReport = new WorkloadReport(assignmentOperations);
+        taskService.getEventBus().subscribe(workloadReport);
+        workloadReport.load(taskService.getAllTasks());
 
         // Step 2: Initialize controllers with MenuRouter
         ProjectController projectController = new ProjectController(
-                projectService, validationUtils, printer, projectIdGenerator, userService, taskService,
-                new ProjectUserAssignmentOperations(projectService, 20), this.menuRouter);
+                cachedProjects, validationUtils, printer, projectIdGenerator, cachedUsers, cachedTasks,
+                assignmentOperations, this.menuRouter);
 
         TaskController taskController = new TaskController(
-                taskService, userService, validationUtils, printer, taskIdGenerator, permissionService, this.menuRouter);
+                cachedTasks, cachedUsers, validationUtils, printer, taskIdGenerator, permissionService, this.menuRouter);
 
         UserController userController = new UserController(
-                userService, validationUtils, printer, this.menuRouter);
+                cachedUsers, validationUtils, printer, this.menuRouter);
 
         ReportController reportController = new ReportController(
-                reportService, printer, this.menuRouter, validationUtils);
+                reportService, printer, this.menuRouter, validationUtils, workloadReport);
 
         // Step 3: Initialize MenuRouter's controllers
         this.menuRouter.initializeControllers(projectController, taskController, userController, reportController);
     }
 
+    private static void registerCacheGauges(String prefix, Supplier<CacheStats> stats) {
+        MetricsRegistry metrics = MetricsRegistry.global();
+        metrics.gauge(prefix + ".hits", () -> stats.get().hits());
+        metrics.gauge(prefix + ".misses", () -> stats.get().misses());
+        metrics.gauge(prefix + ".evictions", () -> stats.get().evictions());
+        metrics.gauge(prefix + ".size", () -> stats.get().size());
+    }
+
     /**
      * Start the application by showing initial login menu
      */
@@ -0,0 +1,78 @@
+package utils;
+
+/**
+ * IdCodec following Single Responsibility Principle (SRP)
+ * - Only responsible for converting between IDs like "T0042" and their number
+ * - Parsing reads the characters in place: no substring, no boxing, no exception
+ *   for malformed input, which is reported as INVALID instead
+ * - Formatting builds the result in one step, with no format string to parse and
+ *   no intermediate builder or digit buffer
+ *
+ * The generated form is a one letter prefix followed by the number zero padded
+ * to WIDTH digits; numbers that need more digits are written unpadded.
+ */
+public final class IdCodec {
+
+    /** Returned by the parse methods for malformed IDs. */
+    public static final int INVALID = -1;
+
+    /** Width the number is zero padded to. */
+    public static final int WIDTH = 4;
+
+    private static final String[] PADDING = {"", "0", "00", "000"};
+
+    private IdCodec() {
+    }
+
+    /**
+     * ID for a number, e.g. format('T', 42) = "T0042".
+     */
+    public static String format(char prefix, int number) {
+        if (number < 0) throw new IllegalArgumentException("ID number cannot be negative: " + number);
+        return prefix + PADDING[padding(number)] + number;
+    }
+
+    /**
+     * Number of an ID with the given prefix, or INVALID. Any number of digits is
+     * accepted ("T2", "T0002" and "T00002" all give 2), like Integer.parseInt did.
+     */
+    public static int parse(String id, char prefix) {
+        if (id == null || id.isEmpty() || id.charAt(0) != prefix) return INVALID;
+        return parseDigits(id, 1);
+    }
+
+    /**
+     * Number of an ID in exactly the form format produces, or INVALID.
+     * Each number has one such ID, so the result can key a map in place of the ID.
+     */
+    public static int parseCanonical(String id, char prefix) {
+        if (id == null) return INVALID;
+        int length = id.length();
+        if (length < WIDTH + 1 || id.charAt(0) != prefix) return INVALID;
+        if (length > WIDTH + 1 && id.charAt(1) == '0') return INVALID;
+        return parseDigits(id, 1);
+    }
+
+    /**
+     * Non negative decimal number made of the characters from offset to the end,
+     * or INVALID when there are none, one is not a digit or the value overflows.
+     */
+    public static int parseDigits(String text, int offset) {
+        int length = text.length();
+        if (offset >= length) return INVALID;
+        int value = 0;
+        for (int i = offset; i < length; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || value > (Integer.MAX_VALUE - digit) / 10) return INVALID;
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static int padding(int number) {
+        if (number >= 1000) return 0;
+        if (number >= 100) return 1;
+        if (number >= 10) return 2;
+        return 3;
+    }
+}
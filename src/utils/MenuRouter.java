@@ -180,9 +180,10 @@ public class MenuRouter implements INavigation {
             printer.printMessage("3. Add Task");
             printer.printMessage("4. View Task");
             printer.printMessage("5. Update Task Status");
-            printer.printMessage("6. Exit Testing Mode");
+            printer.printMessage("6. View Metrics");
+            printer.printMessage("7. Exit Testing Mode");
 
-            choice = validationUtils.readIntInRange("Enter your choice: ", 1, 6);
+            choice = validationUtils.readIntInRange("Enter your choice: ", 1, 7);
 
             switch (choice) {
                 case 1:
@@ -201,13 +202,16 @@ public class MenuRouter implements INavigation {
                     taskController.updateTaskStatus();
                     break;
                 case 6:
+                    reportController.showMetrics();
+                    break;
+                case 7:
                     printer.printMessage("Exiting Testing Mode...");
                     showMainMenu();
                     break;
                 default:
                     printer.printMessage("Invalid choice! Please try again.");
             }
-        } while (choice != 6);
+        } while (choice != 7);
     }
 
     /**
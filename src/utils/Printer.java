@@ -4,14 +4,51 @@ import interfaces.IUserService;
 import models.Project;
 import models.Task;
 import models.User;
+import models.UserWorkloadDto;
 import services.ProjectUserAssignmentOperations;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Iterator;
+
 /**
  * Printer following Single Responsibility Principle (SRP)
  * - Only responsible for all output/display operations
  */
 public class Printer {
 
+    private static final String NARROW_RULER = "-".repeat(80);
+    private static final String WIDE_RULER = "-".repeat(120);
+
+    // Column layouts are computed once and shared by every call
+    private static final TableRenderer<Project> PROJECTS_TABLE = new TableRenderer<>(
+            TableRenderer.Column.text("ID", 5, Project::getId),
+            TableRenderer.Column.text("Name", 20, Project::getName),
+            TableRenderer.Column.text("Description", 30, Project::getDescription),
+            TableRenderer.Column.text("Type", 10, Project::getType),
+            TableRenderer.Column.number("Team", 10, Project::getTeamSize));
+
+    private static final TableRenderer<User> USERS_TABLE = new TableRenderer<>(
+            TableRenderer.Column.text("ID", 10, User::getId),
+            TableRenderer.Column.text("Name", 20, User::getName),
+            TableRenderer.Column.text("Email", 30, User::getEmail),
+            TableRenderer.Column.text("Role", 15, User::getRole));
+
+    private static final TableRenderer<UserWorkloadDto> WORKLOAD_TABLE = new TableRenderer<>(
+            TableRenderer.Column.text("USER", 10, UserWorkloadDto::userId),
+            TableRenderer.Column.number("OPEN", 10, UserWorkloadDto::openTasks),
+            TableRenderer.Column.number("COMPLETED", 10, UserWorkloadDto::completedTasks),
+            TableRenderer.Column.number("PROJECTS", 10, UserWorkloadDto::assignedProjects));
+
+    private static final TableRenderer<TaskRow> TASKS_TABLE = new TableRenderer<>(
+            TableRenderer.Column.text("ID", 5, r -> r.task.getTaskId()),
+            TableRenderer.Column.text("TASK NAME", 20, r -> r.task.getTaskName()),
+            TableRenderer.Column.text("STATUS", 30, r -> r.task.getTaskStatus()),
+            TableRenderer.Column.text("ASSIGNED USER", 15, r -> r.userName),
+            TableRenderer.Column.text("USER EMAIL", 30, r -> r.userEmail));
+
     public void printTitle(String title) {
         System.out.println("-".repeat(60));
         int padding = (60 - title.length() - 2) / 2;
@@ -28,15 +65,12 @@ public class Printer {
             System.out.println("No projects");
             return;
         }
-        System.out.printf("%-5s %-20s %-30s %-10s %-10s%n", "ID", "Name", "Description", "Type", "Team");
-        System.out.println("--------------------------------------------------------------------------------");
-        for (Project p : projects) {
-            if (p == null)
-                continue;
-            System.out.printf("%-5s %-20s %-30s %-10s %-10d%n",
-                    p.getId(), p.getName(), p.getDescription(), p.getType(), p.getTeamSize());
-        }
-        System.out.println("--------------------------------------------------------------------------------");
+        Writer out = TableRenderer.openConsole();
+        PROJECTS_TABLE.writeHeader(out);
+        TableRenderer.writeLine(out, NARROW_RULER);
+        PROJECTS_TABLE.writeRows(projects, out);
+        TableRenderer.writeLine(out, NARROW_RULER);
+        flush(out);
     }
 
     public void printUsersTable(User[] users) {
@@ -44,15 +78,12 @@ public class Printer {
             System.out.println("No users found.");
             return;
         }
-        System.out.printf("%-10s %-20s %-30s %-15s%n", "ID", "Name", "Email", "Role");
-        System.out.println("--------------------------------------------------------------------------------");
-        for (User u : users) {
-            if (u == null)
-                continue;
-            System.out.printf("%-10s %-20s %-30s %-15s%n",
-                    u.getId(), u.getName(), u.getEmail(), u.getRole());
-        }
-        System.out.println("--------------------------------------------------------------------------------");
+        Writer out = TableRenderer.openConsole();
+        USERS_TABLE.writeHeader(out);
+        TableRenderer.writeLine(out, NARROW_RULER);
+        USERS_TABLE.writeRows(users, out);
+        TableRenderer.writeLine(out, NARROW_RULER);
+        flush(out);
     }
 
     public void printTasksTable(Task[] tasks, IUserService userService, double completionRate) {
@@ -60,42 +91,57 @@ public class Printer {
             System.out.println("No Task found.");
             return;
         }
+        printTasksTable(Arrays.asList(tasks).iterator(), userService, completionRate);
+    }
+
+    /**
+     * Streaming variant: rows are pulled from the iterator (e.g. straight from
+     * TaskRepository) and written as they come, no Task[] is materialized.
+     */
+    public void printTasksTable(Iterator<Task> tasks, IUserService userService, double completionRate) {
+        if (tasks == null || !tasks.hasNext()) {
+            System.out.println("No Task found.");
+            return;
+        }
 
-        System.out.printf("%-5s %-20s %-30s %-15s %-30s%n", "ID", "TASK NAME", "STATUS", "ASSIGNED USER", "USER EMAIL");
-        System.out.println(
-                "------------------------------------------------------------------------------------------------------------------------");
+        Writer out = TableRenderer.openConsole();
+        TASKS_TABLE.writeHeader(out);
+        TableRenderer.writeLine(out, WIDE_RULER);
 
-        for (Task t : tasks) {
+        // One reusable row holder, the assigned user is resolved once per task
+        TaskRow row = new TaskRow(userService);
+        while (tasks.hasNext()) {
+            Task t = tasks.next();
             if (t == null)
                 continue;
-            String userId = t.getAssignedUserId();
-            String userName = "Unassigned";
-            String userEmail = "-";
-
-            if (userId != null && userService != null) {
-                User assignedUser = userService.getUserById(userId);
-                if (assignedUser != null) {
-                    userName = assignedUser.getName();
-                    userEmail = assignedUser.getEmail();
-                }
-            }
-
-            System.out.printf("%-5s %-20s %-30s %-15s %-30s%n",
-                    t.getTaskId(), t.getTaskName(), t.getTaskStatus(), userName, userEmail);
+            TASKS_TABLE.writeRow(row.reset(t), out);
         }
 
-        System.out.println(
-                "------------------------------------------------------------------------------------------------------------------------");
-        System.out.println("");
+        TableRenderer.writeLine(out, WIDE_RULER);
+        TableRenderer.writeLine(out, "");
+        flush(out);
         System.out.printf("Completion Rate : %.2f%%%n", completionRate);
     }
 
+    public void printWorkloadTable(UserWorkloadDto[] workloads) {
+        if (workloads == null || workloads.length == 0) {
+            System.out.println("No assigned tasks.");
+            return;
+        }
+        Writer out = TableRenderer.openConsole();
+        WORKLOAD_TABLE.writeHeader(out);
+        TableRenderer.writeLine(out, NARROW_RULER);
+        WORKLOAD_TABLE.writeRows(workloads, out);
+        TableRenderer.writeLine(out, NARROW_RULER);
+        flush(out);
+    }
+
     public void displayProjectDetails(
             String id,
             interfaces.IProjectService projectService,
             interfaces.ITaskService taskService,
             interfaces.IUserService userService, ProjectUserAssignmentOperations projectUserAssignmentOperations) {
-        Project project = projectService.getProjectById(id);
+        Project project = projectService.findProjectById(id).orElse(null);
         Task[] tasks = taskService.getTasksByProjectId(id);
         if (project == null) {
             System.out.println("Project not found.");
@@ -111,18 +157,16 @@ public class Printer {
             String[] assignedUserIds = projectUserAssignmentOperations.getAssignedUsers(id);
             if (assignedUserIds != null && userService != null) {
                 System.out.println("\nAssigned Users:");
-                System.out.printf("%-10s %-20s %-30s %-15s%n", "ID", "Name", "Email", "Role");
-                System.out.println("--------------------------------------------------------------------------------");
+                Writer out = TableRenderer.openConsole();
+                USERS_TABLE.writeHeader(out);
+                TableRenderer.writeLine(out, NARROW_RULER);
 
                 for (String userId : assignedUserIds) {
-                    User user = userService.getUserById(userId);
-                    if (user != null) {
-                        System.out.printf("%-10s %-20s %-30s %-15s%n", user.getId(), user.getName(), user.getEmail(),
-                                user.getRole());
-                    }
+                    USERS_TABLE.writeRow(userService.getUserById(userId), out);
                 }
 
-                System.out.println("--------------------------------------------------------------------------------");
+                TableRenderer.writeLine(out, NARROW_RULER);
+                flush(out);
             } else {
                 System.out.println("\nNo users assigned to this project.");
             }
@@ -132,6 +176,44 @@ public class Printer {
         }
     }
 
+    private static void flush(Writer out) {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Mutable row holder reused for every task of a table, so the assigned
+     * user is looked up once per row instead of once per column.
+     */
+    private static final class TaskRow {
+        private final IUserService userService;
+        private Task task;
+        private String userName;
+        private String userEmail;
+
+        private TaskRow(IUserService userService) {
+            this.userService = userService;
+        }
+
+        private TaskRow reset(Task t) {
+            task = t;
+            userName = "Unassigned";
+            userEmail = "-";
+            String userId = t.getAssignedUserId();
+            if (userId != null && userService != null) {
+                User assignedUser = userService.getUserById(userId);
+                if (assignedUser != null) {
+                    userName = assignedUser.getName();
+                    userEmail = assignedUser.getEmail();
+                }
+            }
+            return this;
+        }
+    }
+
     private void displayProjectDetailsHelper(
             Project project, Task[] tasks) {
         printTitle("PROJECT DETAILS : " + project.getId());
@@ -0,0 +1,48 @@
+package utils;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * StringInterner following Single Responsibility Principle (SRP)
+ * - Only responsible for handing out one shared instance per distinct string value
+ * - Repositories pass the repeated fields of stored entities (project, status
+ *   and user IDs, roles) through it, so a million tasks of one project hold one
+ *   projectId String instead of a million equal copies
+ * - Equal values that went through the same interner are also ==, which lets
+ *   String.equals and hash lookups return on the identity check
+ *
+ * Thread safe; a value already seen costs one lock-free map read. Unlike
+ * String.intern() the table is an ordinary heap map that can be counted.
+ */
+public final class StringInterner {
+
+    private static final StringInterner GLOBAL = new StringInterner();
+
+    private final ConcurrentHashMap<String, String> values = new ConcurrentHashMap<>();
+
+    /**
+     * Interner shared by all repositories, so e.g. a user's ID and the assignee
+     * ID of that user's tasks are one instance.
+     */
+    public static StringInterner global() {
+        return GLOBAL;
+    }
+
+    /**
+     * The shared instance equal to value (value itself the first time it is seen).
+     */
+    public String intern(String value) {
+        if (value == null) return null;
+        String shared = values.get(value);
+        if (shared != null) return shared;
+        shared = values.putIfAbsent(value, value);
+        return shared == null ? value : shared;
+    }
+
+    /**
+     * Number of distinct values held.
+     */
+    public int size() {
+        return values.size();
+    }
+}
@@ -0,0 +1,182 @@
+package utils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * TableRenderer following Single Responsibility Principle (SRP)
+ * - Only responsible for laying out rows into fixed-width text columns
+ * - Column layout (header line, padding) is computed once in the constructor
+ * - Rows are written straight into a Writer, no format string is parsed per row
+ *
+ * Output is identical to printf("%-Ns %-Ms ...%n"): values are left aligned,
+ * padded to the column width, never truncated and separated by one space.
+ * A renderer holds no per-call state, so one instance can write from many threads.
+ */
+public final class TableRenderer<T> {
+
+    /** Size of the buffer used when writing to the console. */
+    public static final int CONSOLE_BUFFER_SIZE = 1 << 16;
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private final Column<?>[] columns;
+    private final String headerLine;
+    private final char[] spaces;
+
+    @SafeVarargs
+    public TableRenderer(Column<T>... columns) {
+        if (columns == null || columns.length == 0)
+            throw new IllegalArgumentException("A table needs at least one column");
+        this.columns = new Column<?>[columns.length];
+        for (int i = 0; i < columns.length; i++) this.columns[i] = columns[i];
+
+        int maxWidth = 1;
+        StringBuilder header = new StringBuilder();
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) header.append(' ');
+            header.append(columns[i].header);
+            for (int p = columns[i].header.length(); p < columns[i].width; p++) header.append(' ');
+            maxWidth = Math.max(maxWidth, columns[i].width);
+        }
+        this.headerLine = header.append(LINE_SEPARATOR).toString();
+        this.spaces = new char[maxWidth];
+        Arrays.fill(spaces, ' ');
+    }
+
+    /**
+     * Open a buffered writer over the current System.out.
+     * Callers must flush (not close) it when the table is done.
+     */
+    public static Writer openConsole() {
+        PrintStream console = System.out;
+        return new BufferedWriter(new OutputStreamWriter(console, console.charset()), CONSOLE_BUFFER_SIZE);
+    }
+
+    public void writeHeader(Writer out) {
+        try {
+            out.write(headerLine);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static void writeLine(Writer out, String line) {
+        try {
+            out.write(line);
+            out.write(LINE_SEPARATOR);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Write one row. Null rows are skipped, like the printf based loops did.
+     */
+    public void writeRow(T row, Writer out) {
+        if (row == null) return;
+        try {
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) out.write(' ');
+                @SuppressWarnings("unchecked")
+                Column<T> column = (Column<T>) columns[i];
+                int written;
+                if (column.number != null) {
+                    written = writeInt(column.number.applyAsInt(row), out);
+                } else {
+                    String value = column.text.apply(row);
+                    if (value == null) value = "null";
+                    out.write(value);
+                    written = value.length();
+                }
+                if (written < column.width) out.write(spaces, 0, column.width - written);
+            }
+            out.write(LINE_SEPARATOR);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Stream rows from an iterator without materializing them into an array.
+     *
+     * @return number of rows written
+     */
+    public int writeRows(Iterator<? extends T> rows, Writer out) {
+        int count = 0;
+        while (rows.hasNext()) {
+            T row = rows.next();
+            if (row == null) continue;
+            writeRow(row, out);
+            count++;
+        }
+        return count;
+    }
+
+    public int writeRows(T[] rows, Writer out) {
+        int count = 0;
+        for (T row : rows) {
+            if (row == null) continue;
+            writeRow(row, out);
+            count++;
+        }
+        return count;
+    }
+
+    // Digits are written most significant first, so no buffer is shared between calls
+    private static int writeInt(int value, Writer out) throws IOException {
+        if (value == Integer.MIN_VALUE) {
+            String min = Integer.toString(value);
+            out.write(min);
+            return min.length();
+        }
+        int written = 0;
+        if (value < 0) {
+            out.write('-');
+            value = -value;
+            written++;
+        }
+        int divisor = 1;
+        while (value / divisor >= 10) divisor *= 10;
+        for (; divisor > 0; divisor /= 10) {
+            out.write('0' + value / divisor % 10);
+            written++;
+        }
+        return written;
+    }
+
+    /**
+     * A fixed-width column that reads either a text or an int value from a row.
+     */
+    public static final class Column<T> {
+        private final String header;
+        private final int width;
+        private final Function<? super T, String> text;
+        private final ToIntFunction<? super T> number;
+
+        private Column(String header, int width, Function<? super T, String> text, ToIntFunction<? super T> number) {
+            if (header == null) throw new IllegalArgumentException("Column header cannot be null");
+            if (width < 0) throw new IllegalArgumentException("Column width cannot be negative");
+            this.header = header;
+            this.width = width;
+            this.text = text;
+            this.number = number;
+        }
+
+        public static <T> Column<T> text(String header, int width, Function<? super T, String> value) {
+            return new Column<>(header, width, value, null);
+        }
+
+        public static <T> Column<T> number(String header, int width, ToIntFunction<? super T> value) {
+            return new Column<>(header, width, null, value);
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package utils;
 
 import services.GenerateProjectId;
-import services.ProjectService;
-import services.UserService;
+import interfaces.IProjectService;
+import interfaces.IUserService;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -18,8 +18,8 @@ import java.util.regex.Pattern;
  */
 public final class ValidationUtils {
     private final Scanner scanner;
-    private final ProjectService projectService; // optional
-    private final UserService userService;       // optional
+    private final IProjectService projectService; // optional
+    private final IUserService userService;      // optional
     private final GenerateProjectId idGenerator;
 
 
@@ -33,7 +33,7 @@ public final class ValidationUtils {
         this(scanner, null, null, idGenerator);
     }
 
-    public ValidationUtils(Scanner scanner, ProjectService projectService, UserService userService, GenerateProjectId idGenerator) {
+    public ValidationUtils(Scanner scanner, IProjectService projectService, IUserService userService, GenerateProjectId idGenerator) {
         this.idGenerator = idGenerator;
         if (scanner == null) throw new IllegalArgumentException("Scanner cannot be null");
         this.scanner = scanner;
@@ -146,7 +146,7 @@ public final class ValidationUtils {
                 System.out.println("Project ID cannot be empty. Please try again.");
                 continue;
             }
-            if (projectService.getProjectById(input) == null) {
+            if (projectService.findProjectById(input).isEmpty()) {
                 System.out.printf("No project found with ID %s. Enter a valid project ID or 0 to return.%n", input);
                 continue;
             }
@@ -0,0 +1,147 @@
+package utils.cache;
+
+import interfaces.ICache;
+import models.CacheStats;
+import utils.collections.IntObjectMap;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * LfuCache following Single Responsibility Principle (SRP)
+ * - Only responsible for bounded storage with least-frequently-used eviction
+ * - get, put and eviction are O(1)
+ * - Keys are grouped by access count; the group with the lowest count is evicted from first
+ * - Groups are looked up by their primitive count, a hit does not box an Integer
+ * - Within a group the oldest key goes first
+ */
+public class LfuCache<K, V> implements ICache<K, V> {
+
+    private static final class Entry<V> {
+        V value;
+        int frequency = 1;
+
+        Entry(V value) {
+            this.value = value;
+        }
+    }
+
+    private final int capacity;
+    private final Map<K, Entry<V>> entries = new HashMap<>();
+    private final IntObjectMap<LinkedHashSet<K>> byFrequency = new IntObjectMap<>();
+    private int minFrequency;
+    private long hits;
+    private long misses;
+    private long evictions;
+    // Bumped by invalidate and clear, a load that overlapped one is not stored
+    private long invalidations;
+
+    public LfuCache(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("Cache capacity must be positive");
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        touch(key, entry);
+        return entry.value;
+    }
+
+    @Override
+    public V getOrLoad(K key, Function<? super K, ? extends V> loader) {
+        V value = get(key);
+        if (value != null) return value;
+
+        // Load outside the lock, a slow backing store must not block other readers
+        long generation = invalidations();
+        value = loader.apply(key);
+        if (value != null) putIfNotInvalidated(key, value, generation);
+        return value;
+    }
+
+    private synchronized long invalidations() {
+        return invalidations;
+    }
+
+    private synchronized void putIfNotInvalidated(K key, V value, long generation) {
+        // An invalidate during the load may have been for this very value
+        if (invalidations == generation) put(key, value);
+    }
+
+    @Override
+    public synchronized void put(K key, V value) {
+        if (key == null || value == null) return;
+        Entry<V> existing = entries.get(key);
+        if (existing != null) {
+            existing.value = value;
+            touch(key, existing);
+            return;
+        }
+        if (entries.size() >= capacity) evict();
+        entries.put(key, new Entry<>(value));
+        byFrequency.computeIfAbsent(1, f -> new LinkedHashSet<>()).add(key);
+        minFrequency = 1;
+    }
+
+    @Override
+    public synchronized void invalidate(K key) {
+        invalidations++;
+        Entry<V> entry = entries.remove(key);
+        if (entry == null) return;
+        LinkedHashSet<K> keys = byFrequency.get(entry.frequency);
+        keys.remove(key);
+        if (keys.isEmpty()) byFrequency.remove(entry.frequency);
+    }
+
+    @Override
+    public synchronized void clear() {
+        invalidations++;
+        entries.clear();
+        byFrequency.clear();
+        minFrequency = 0;
+    }
+
+    @Override
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @Override
+    public synchronized CacheStats stats() {
+        return new CacheStats(hits, misses, evictions, entries.size(), capacity);
+    }
+
+    private void touch(K key, Entry<V> entry) {
+        LinkedHashSet<K> keys = byFrequency.get(entry.frequency);
+        keys.remove(key);
+        if (keys.isEmpty()) {
+            byFrequency.remove(entry.frequency);
+            if (minFrequency == entry.frequency) minFrequency++;
+        }
+        entry.frequency++;
+        byFrequency.computeIfAbsent(entry.frequency, f -> new LinkedHashSet<>()).add(key);
+    }
+
+    private void evict() {
+        LinkedHashSet<K> keys = byFrequency.get(minFrequency);
+        if (keys == null) {
+            // minFrequency is stale after an invalidate, find the real minimum
+            if (byFrequency.isEmpty()) return;
+            minFrequency = byFrequency.minKey();
+            keys = byFrequency.get(minFrequency);
+        }
+        K victim = keys.iterator().next();
+        keys.remove(victim);
+        if (keys.isEmpty()) byFrequency.remove(minFrequency);
+        entries.remove(victim);
+        evictions++;
+    }
+}
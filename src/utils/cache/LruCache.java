@@ -0,0 +1,95 @@
+package utils.cache;
+
+import interfaces.ICache;
+import models.CacheStats;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * LruCache following Single Responsibility Principle (SRP)
+ * - Only responsible for bounded storage with least-recently-used eviction
+ * - Backed by an access-ordered LinkedHashMap, so every operation is O(1)
+ * - When full, the entry that was read or written longest ago is evicted
+ */
+public class LruCache<K, V> implements ICache<K, V> {
+
+    private final int capacity;
+    private final LinkedHashMap<K, V> entries;
+    private long hits;
+    private long misses;
+    private long evictions;
+    // Bumped by invalidate and clear, a load that overlapped one is not stored
+    private long invalidations;
+
+    public LruCache(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("Cache capacity must be positive");
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                if (size() <= LruCache.this.capacity) return false;
+                evictions++;
+                return true;
+            }
+        };
+    }
+
+    @Override
+    public synchronized V get(K key) {
+        V value = entries.get(key);
+        if (value == null) misses++;
+        else hits++;
+        return value;
+    }
+
+    @Override
+    public V getOrLoad(K key, Function<? super K, ? extends V> loader) {
+        V value = get(key);
+        if (value != null) return value;
+
+        // Load outside the lock, a slow backing store must not block other readers
+        long generation = invalidations();
+        value = loader.apply(key);
+        if (value != null) putIfNotInvalidated(key, value, generation);
+        return value;
+    }
+
+    private synchronized long invalidations() {
+        return invalidations;
+    }
+
+    private synchronized void putIfNotInvalidated(K key, V value, long generation) {
+        // An invalidate during the load may have been for this very value
+        if (invalidations == generation) put(key, value);
+    }
+
+    @Override
+    public synchronized void put(K key, V value) {
+        if (key == null || value == null) return;
+        entries.put(key, value);
+    }
+
+    @Override
+    public synchronized void invalidate(K key) {
+        invalidations++;
+        entries.remove(key);
+    }
+
+    @Override
+    public synchronized void clear() {
+        invalidations++;
+        entries.clear();
+    }
+
+    @Override
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @Override
+    public synchronized CacheStats stats() {
+        return new CacheStats(hits, misses, evictions, entries.size(), capacity);
+    }
+}
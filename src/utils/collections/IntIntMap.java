@@ -0,0 +1,140 @@
+package utils.collections;
+
+import java.util.Arrays;
+
+/**
+ * IntIntMap following Single Responsibility Principle (SRP)
+ * - Only responsible for mapping int keys to int values without boxing
+ * - Open addressing with linear probing over parallel int[] arrays and a
+ *   bit per slot marking it used, so every int is a valid key and value
+ * - Removal shifts the following entries back, no tombstones accumulate
+ *
+ * Not thread safe.
+ */
+public final class IntIntMap {
+
+    private int[] keys;
+    private int[] values;
+    private long[] used;
+    private int size;
+    private int mask;
+
+    public IntIntMap() {
+        this(16);
+    }
+
+    public IntIntMap(int expectedSize) {
+        allocate(IntObjectMap.tableSize(Math.max(expectedSize, 4)));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean containsKey(int key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Value for key, or missingValue when the key is absent.
+     */
+    public int get(int key, int missingValue) {
+        int i = find(key);
+        return i < 0 ? missingValue : values[i];
+    }
+
+    public void put(int key, int value) {
+        int i = slot(key);
+        for (; isUsed(i); i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                values[i] = value;
+                return;
+            }
+        }
+        insertAt(i, key, value);
+    }
+
+    /**
+     * Add delta to the value of key (starting from 0 when absent).
+     *
+     * @return the new value
+     */
+    public int addTo(int key, int delta) {
+        int i = slot(key);
+        for (; isUsed(i); i = (i + 1) & mask) {
+            if (keys[i] == key) return values[i] += delta;
+        }
+        insertAt(i, key, delta);
+        return delta;
+    }
+
+    /**
+     * @return true when the key was present
+     */
+    public boolean remove(int key) {
+        int i = find(key);
+        if (i < 0) return false;
+
+        int hole = i;
+        for (int j = (i + 1) & mask; isUsed(j); j = (j + 1) & mask) {
+            int home = slot(keys[j]);
+            if (((j - home) & mask) >= ((j - hole) & mask)) {
+                keys[hole] = keys[j];
+                values[hole] = values[j];
+                hole = j;
+            }
+        }
+        used[hole >>> 6] &= ~(1L << hole);
+        size--;
+        return true;
+    }
+
+    public void clear() {
+        Arrays.fill(used, 0);
+        size = 0;
+    }
+
+    private int find(int key) {
+        for (int i = slot(key); isUsed(i); i = (i + 1) & mask) {
+            if (keys[i] == key) return i;
+        }
+        return -1;
+    }
+
+    private void insertAt(int i, int key, int value) {
+        keys[i] = key;
+        values[i] = value;
+        used[i >>> 6] |= 1L << i;
+        if (++size * 2 > keys.length) resize(keys.length * 2);
+    }
+
+    private boolean isUsed(int i) {
+        return (used[i >>> 6] & (1L << i)) != 0;
+    }
+
+    private int slot(int key) {
+        return IntObjectMap.mix(key) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        used = new long[(capacity + 63) >>> 6];
+        mask = capacity - 1;
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        long[] oldUsed = used;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if ((oldUsed[i >>> 6] & (1L << i)) == 0) continue;
+            int j = slot(oldKeys[i]);
+            while (isUsed(j)) j = (j + 1) & mask;
+            keys[j] = oldKeys[i];
+            values[j] = oldValues[i];
+            used[j >>> 6] |= 1L << j;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package utils.collections;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * IntObjectMap following Single Responsibility Principle (SRP)
+ * - Only responsible for mapping int keys to objects without boxing the keys
+ * - Open addressing with linear probing over parallel int[] / Object[] arrays;
+ *   a null value marks a free slot, so null values cannot be stored
+ * - Removal shifts the following entries back, no tombstones accumulate
+ *
+ * Iteration order is the table order, not insertion order. Not thread safe.
+ */
+public final class IntObjectMap<V> {
+
+    private int[] keys;
+    private Object[] values;
+    private int size;
+    private int mask;
+
+    public IntObjectMap() {
+        this(16);
+    }
+
+    public IntObjectMap(int expectedSize) {
+        int capacity = tableSize(Math.max(expectedSize, 4));
+        this.keys = new int[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        for (int i = slot(key); ; i = (i + 1) & mask) {
+            Object value = values[i];
+            if (value == null) return null;
+            if (keys[i] == key) return (V) value;
+        }
+    }
+
+    public boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    /**
+     * @return the previous value, or null
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        if (value == null) throw new IllegalArgumentException("Null values are not supported");
+        int i = slot(key);
+        for (; values[i] != null; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                V previous = (V) values[i];
+                values[i] = value;
+                return previous;
+            }
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size * 2 > values.length) resize(values.length * 2);
+        return null;
+    }
+
+    public V computeIfAbsent(int key, IntFunction<? extends V> factory) {
+        V value = get(key);
+        if (value != null) return value;
+        value = factory.apply(key);
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * @return the removed value, or null
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        int i = slot(key);
+        for (; values[i] != null; i = (i + 1) & mask) {
+            if (keys[i] == key) break;
+        }
+        V removed = (V) values[i];
+        if (removed == null) return null;
+
+        // Shift back entries of the probe run that would no longer be reachable
+        int hole = i;
+        for (int j = (i + 1) & mask; values[j] != null; j = (j + 1) & mask) {
+            int home = slot(keys[j]);
+            if (((j - home) & mask) >= ((j - hole) & mask)) {
+                keys[hole] = keys[j];
+                values[hole] = values[j];
+                hole = j;
+            }
+        }
+        values[hole] = null;
+        size--;
+        return removed;
+    }
+
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Smallest key, for callers that need an ordered minimum; O(capacity).
+     *
+     * @throws IllegalStateException when the map is empty
+     */
+    public int minKey() {
+        if (size == 0) throw new IllegalStateException("Map is empty");
+        int min = Integer.MAX_VALUE;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null && keys[i] < min) min = keys[i];
+        }
+        return min;
+    }
+
+    private int slot(int key) {
+        return mix(key) & mask;
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] == null) continue;
+            int j = slot(oldKeys[i]);
+            while (values[j] != null) j = (j + 1) & mask;
+            keys[j] = oldKeys[i];
+            values[j] = oldValues[i];
+        }
+    }
+
+    static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    static int tableSize(int expectedSize) {
+        return Integer.highestOneBit(Math.max(expectedSize * 2 - 1, 1)) << 1;
+    }
+}
@@ -0,0 +1,112 @@
+package utils.collections;
+
+import java.util.Arrays;
+
+/**
+ * LinkedIntSet following Single Responsibility Principle (SRP)
+ * - Only responsible for a set of ints that keeps insertion order (no boxing)
+ * - Each value is a node in parallel int[] arrays, linked to its neighbours;
+ *   an IntIntMap from value to node makes contains, add and remove O(1)
+ *   whatever the size, removal unlinks the node and keeps the order of the rest
+ * - Freed nodes are reused before the arrays grow
+ *
+ * Not thread safe.
+ */
+public final class LinkedIntSet {
+
+    private static final int NONE = -1;
+
+    private final IntIntMap nodes;
+    private int[] values;
+    private int[] previous;
+    private int[] next;
+    private int head = NONE;
+    private int tail = NONE;
+    private int free = NONE; // chained through next
+    private int allocated;
+
+    public LinkedIntSet() {
+        this(4);
+    }
+
+    public LinkedIntSet(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        this.nodes = new IntIntMap(capacity);
+        this.values = new int[capacity];
+        this.previous = new int[capacity];
+        this.next = new int[capacity];
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    public boolean isEmpty() {
+        return nodes.size() == 0;
+    }
+
+    public boolean contains(int value) {
+        return nodes.containsKey(value);
+    }
+
+    /**
+     * Append value unless it is already present.
+     *
+     * @return true when it was added
+     */
+    public boolean add(int value) {
+        if (nodes.containsKey(value)) return false;
+
+        int node = newNode();
+        values[node] = value;
+        previous[node] = tail;
+        next[node] = NONE;
+        if (tail == NONE) head = node;
+        else next[tail] = node;
+        tail = node;
+        nodes.put(value, node);
+        return true;
+    }
+
+    /**
+     * @return true when value was present
+     */
+    public boolean remove(int value) {
+        int node = nodes.get(value, NONE);
+        if (node == NONE) return false;
+
+        nodes.remove(value);
+        if (previous[node] == NONE) head = next[node];
+        else next[previous[node]] = next[node];
+        if (next[node] == NONE) tail = previous[node];
+        else previous[next[node]] = previous[node];
+        next[node] = free;
+        free = node;
+        return true;
+    }
+
+    /**
+     * Values in insertion order.
+     */
+    public int[] toArray() {
+        int[] result = new int[nodes.size()];
+        int i = 0;
+        for (int node = head; node != NONE; node = next[node]) result[i++] = values[node];
+        return result;
+    }
+
+    private int newNode() {
+        if (free != NONE) {
+            int node = free;
+            free = next[node];
+            return node;
+        }
+        if (allocated == values.length) {
+            int capacity = values.length * 2;
+            values = Arrays.copyOf(values, capacity);
+            previous = Arrays.copyOf(previous, capacity);
+            next = Arrays.copyOf(next, capacity);
+        }
+        return allocated++;
+    }
+}
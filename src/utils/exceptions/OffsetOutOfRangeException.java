@@ -0,0 +1,30 @@
+package utils.exceptions;
+
+/**
+ * Thrown when a log is read from an offset it no longer (or not yet) holds,
+ * e.g. a consumer resuming after its segments were deleted by retention.
+ */
+public class OffsetOutOfRangeException extends RuntimeException {
+    private final long requestedOffset;
+    private final long startOffset;
+    private final long endOffset;
+
+    public OffsetOutOfRangeException(long requestedOffset, long startOffset, long endOffset) {
+        super("Offset " + requestedOffset + " is outside the retained range [" + startOffset + ", " + endOffset + "]");
+        this.requestedOffset = requestedOffset;
+        this.startOffset = startOffset;
+        this.endOffset = endOffset;
+    }
+
+    public long getRequestedOffset() {
+        return requestedOffset;
+    }
+
+    public long getStartOffset() {
+        return startOffset;
+    }
+
+    public long getEndOffset() {
+        return endOffset;
+    }
+}
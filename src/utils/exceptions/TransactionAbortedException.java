@@ -0,0 +1,27 @@
+package utils.exceptions;
+
+import java.util.List;
+
+/**
+ * Thrown when a unit of work is refused or rolled back. None of its changes
+ * remain visible and nothing was published or logged for it.
+ */
+public class TransactionAbortedException extends RuntimeException {
+    private final String[] problems; // an array, so the exception serializes with them
+
+    public TransactionAbortedException(List<String> problems) {
+        this(problems, null);
+    }
+
+    public TransactionAbortedException(List<String> problems, Throwable cause) {
+        super("Transaction aborted: " + String.join("; ", problems), cause);
+        this.problems = problems.toArray(new String[0]);
+    }
+
+    /**
+     * Every reason found, one per refused operation.
+     */
+    public List<String> getProblems() {
+        return List.of(problems);
+    }
+}
@@ -0,0 +1,31 @@
+package utils.exceptions;
+
+/**
+ * Thrown when an update was based on a version of an entity that has since
+ * been changed by someone else. Callers should re-read the entity and retry.
+ */
+public class VersionConflictException extends RuntimeException {
+    private final String entityId;
+    private final long expectedVersion;
+    private final long actualVersion;
+
+    public VersionConflictException(String entityId, long expectedVersion, long actualVersion) {
+        super("Version conflict on " + entityId + ": expected version " + expectedVersion
+                + " but found " + actualVersion + ", reload and retry");
+        this.entityId = entityId;
+        this.expectedVersion = expectedVersion;
+        this.actualVersion = actualVersion;
+    }
+
+    public String getEntityId() {
+        return entityId;
+    }
+
+    public long getExpectedVersion() {
+        return expectedVersion;
+    }
+
+    public long getActualVersion() {
+        return actualVersion;
+    }
+}
@@ -0,0 +1,38 @@
+package utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for a repository backing array being grown and copied.
+ * Disabled by default; keeps its stack trace so the caller that forced the
+ * growth can be found in JMC.
+ */
+@Name("pms.CapacityGrowth")
+@Label("Repository Capacity Growth")
+@Category({"Project Management", "Repository"})
+@Description("Backing array of a repository copied into a larger one")
+@Enabled(false)
+public class CapacityGrowthEvent extends Event {
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("Old Capacity")
+    public int oldCapacity;
+
+    @Label("New Capacity")
+    public int newCapacity;
+
+    public void finish(String repository, int oldCapacity, int newCapacity) {
+        if (!shouldCommit()) return;
+        this.repository = repository;
+        this.oldCapacity = oldCapacity;
+        this.newCapacity = newCapacity;
+        commit();
+    }
+}
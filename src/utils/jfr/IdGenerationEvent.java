@@ -0,0 +1,34 @@
+package utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one generated ID. Disabled by default.
+ */
+@Name("pms.IdGeneration")
+@Label("ID Generation")
+@Category({"Project Management", "IDs"})
+@Description("An entity ID handed out by a generator")
+@Enabled(false)
+@StackTrace(false)
+public class IdGenerationEvent extends Event {
+
+    @Label("Generator")
+    public String generator;
+
+    @Label("ID")
+    public String id;
+
+    public void finish(String generator, String id) {
+        if (!shouldCommit()) return;
+        this.generator = generator;
+        this.id = id;
+        commit();
+    }
+}
@@ -0,0 +1,45 @@
+package utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a full report build over all projects and tasks
+ * (initial load of the report view and verification rebuilds).
+ * Disabled by default.
+ */
+@Name("pms.ReportBuild")
+@Label("Report Build")
+@Category({"Project Management", "Reports"})
+@Description("Full rebuild of the project status report")
+@Enabled(false)
+@StackTrace(false)
+public class ReportBuildEvent extends Event {
+
+    @Label("Kind")
+    @Description("load or rebuild")
+    public String kind;
+
+    @Label("Projects")
+    public int projects;
+
+    @Label("Tasks Scanned")
+    public int tasks;
+
+    @Label("Rows Produced")
+    public int rows;
+
+    public void finish(String kind, int projects, int tasks, int rows) {
+        if (!shouldCommit()) return;
+        this.kind = kind;
+        this.projects = projects;
+        this.tasks = tasks;
+        this.rows = rows;
+        commit();
+    }
+}
@@ -0,0 +1,49 @@
+package utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a repository read that walks slots or postings.
+ * Disabled by default; enable with
+ * -XX:StartFlightRecording:settings=profile,+pms.RepositoryScan#enabled=true
+ * or from JMC. Slow queries show up as long events with many rows scanned.
+ */
+@Name("pms.RepositoryScan")
+@Label("Repository Scan")
+@Category({"Project Management", "Repository"})
+@Description("Rows examined and returned by a repository read")
+@Enabled(false)
+@StackTrace(false)
+public class RepositoryScanEvent extends Event {
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Rows Scanned")
+    public int rowsScanned;
+
+    @Label("Rows Returned")
+    public int rowsReturned;
+
+    /**
+     * Fill in the attributes and commit, only if the event is enabled and
+     * over its threshold; otherwise this is a no-op.
+     */
+    public void finish(String repository, String operation, int rowsScanned, int rowsReturned) {
+        if (!shouldCommit()) return;
+        this.repository = repository;
+        this.operation = operation;
+        this.rowsScanned = rowsScanned;
+        this.rowsReturned = rowsReturned;
+        commit();
+    }
+}
@@ -0,0 +1,10 @@
+package utils.metrics;
+
+/**
+ * A value sampled only when metrics are dumped (sizes, hit counts, ...).
+ * Implementations must be cheap and thread-safe to read.
+ */
+@FunctionalInterface
+public interface Gauge {
+    long value();
+}
@@ -0,0 +1,163 @@
+package utils.metrics;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LatencyHistogram following Single Responsibility Principle (SRP)
+ * - Only responsible for recording durations and answering percentile queries
+ * - Log-linear buckets (HDR style): every power of two is split into 16
+ *   sub-buckets, so any recorded value is reported within 1/16 (6.25%)
+ * - Values below 32ns get one bucket each; values above MAX_TRACKABLE are clamped
+ *
+ * Recording is two atomic adds on preallocated storage, nothing is allocated
+ * on the hot path. Percentiles and the maximum are computed at read time from
+ * the buckets, so they carry the same 6.25% precision.
+ *
+ * Timed calls go through start() and recordSince(). The clock pair costs more
+ * than the record itself, so a sampled histogram reads the clock for one call
+ * in sampleEvery and records it with that weight: count and mean are estimates,
+ * percentiles are drawn from the sampled calls.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;          // 16 per power of two
+    private static final int LINEAR_LIMIT = SUB_BUCKETS << 1;             // 32 exact buckets
+    private static final int MAX_BIT = 40;                                // ~18 minutes in ns
+    /** Largest value that is recorded exactly into its own bucket range. */
+    public static final long MAX_TRACKABLE = (1L << (MAX_BIT + 1)) - 1;
+    private static final int BUCKET_COUNT = indexOf(MAX_TRACKABLE) + 1;
+
+    /** Returned by start() for a call that is not sampled; recordSince ignores it. */
+    public static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+    private final String name;
+    private final int sampleMask;
+    private final int weight;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder total = new LongAdder();
+
+    LatencyHistogram(String name) {
+        this(name, 1);
+    }
+
+    LatencyHistogram(String name, int sampleEvery) {
+        if (sampleEvery <= 0 || Integer.bitCount(sampleEvery) != 1)
+            throw new IllegalArgumentException("Sample rate must be a power of two");
+        this.name = name;
+        this.sampleMask = sampleEvery - 1;
+        this.weight = sampleEvery;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Start timing a call: System.nanoTime(), or NOT_SAMPLED when this call
+     * is skipped by the sample rate.
+     */
+    public long start() {
+        if (sampleMask != 0 && (ThreadLocalRandom.current().nextInt() & sampleMask) != 0) return NOT_SAMPLED;
+        return System.nanoTime();
+    }
+
+    /**
+     * Record a duration that started at the value returned by start().
+     */
+    public void recordSince(long startNanos) {
+        if (startNanos == NOT_SAMPLED) return;
+        add(System.nanoTime() - startNanos, weight);
+    }
+
+    /**
+     * Record one exact value, regardless of the sample rate.
+     */
+    public void record(long value) {
+        add(value, 1);
+    }
+
+    private void add(long value, int times) {
+        if (value < 0) value = 0;
+        else if (value > MAX_TRACKABLE) value = MAX_TRACKABLE;
+        buckets.addAndGet(indexOf(value), times);
+        total.add(value * times);
+    }
+
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            count += counts[i];
+        }
+        long maxValue = highestRecorded(counts);
+        if (count == 0) return new Snapshot(name, 0, 0, 0, 0, 0, 0, 0);
+        return new Snapshot(name, count, (double) total.sum() / count,
+                valueAt(counts, count, 0.50, maxValue),
+                valueAt(counts, count, 0.90, maxValue),
+                valueAt(counts, count, 0.99, maxValue),
+                valueAt(counts, count, 0.999, maxValue),
+                maxValue);
+    }
+
+    /**
+     * Value at the given percentile (0..100); 0 when nothing was recorded.
+     */
+    public long percentile(double percentile) {
+        if (percentile < 0 || percentile > 100)
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        long[] counts = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            count += counts[i];
+        }
+        return count == 0 ? 0 : valueAt(counts, count, percentile / 100.0, highestRecorded(counts));
+    }
+
+    void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) buckets.set(i, 0);
+        total.reset();
+    }
+
+    static int indexOf(long value) {
+        if (value < LINEAR_LIMIT) return (int) value;
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int top = (int) (value >>> shift);                 // in [16, 32)
+        return LINEAR_LIMIT + (shift - 1) * SUB_BUCKETS + (top - SUB_BUCKETS);
+    }
+
+    static long highestValueIn(int index) {
+        if (index < LINEAR_LIMIT) return index;
+        int offset = index - LINEAR_LIMIT;
+        int shift = offset / SUB_BUCKETS + 1;
+        long top = offset % SUB_BUCKETS + SUB_BUCKETS;
+        return ((top + 1) << shift) - 1;
+    }
+
+    private static long highestRecorded(long[] counts) {
+        for (int i = counts.length - 1; i >= 0; i--) {
+            if (counts[i] != 0) return highestValueIn(i);
+        }
+        return 0;
+    }
+
+    private static long valueAt(long[] counts, long count, double fraction, long maxValue) {
+        long rank = Math.max(1, (long) Math.ceil(fraction * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.min(highestValueIn(i), maxValue);
+        }
+        return maxValue;
+    }
+
+    /**
+     * Percentiles of one histogram at a point in time, values in nanoseconds.
+     */
+    public record Snapshot(String name, long count, double mean, long p50, long p90, long p99, long p999, long max) {
+    }
+}
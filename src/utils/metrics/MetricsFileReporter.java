@@ -0,0 +1,59 @@
+package utils.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically appends a registry dump to a file on a single daemon thread.
+ * Write failures are reported on stderr and retried on the next period.
+ */
+public final class MetricsFileReporter implements AutoCloseable {
+
+    private final MetricsRegistry registry;
+    private final Path file;
+    private final ScheduledExecutorService scheduler;
+
+    MetricsFileReporter(MetricsRegistry registry, Path file, long period, TimeUnit unit) {
+        if (file == null) throw new IllegalArgumentException("Metrics file cannot be null");
+        if (period <= 0) throw new IllegalArgumentException("Reporting period must be positive");
+        this.registry = registry;
+        this.file = file;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "metrics-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::report, period, period, unit);
+    }
+
+    /**
+     * Write one dump now.
+     */
+    public void report() {
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            out.write("=== " + Instant.now() + " ===" + System.lineSeparator());
+            registry.dump(out);
+            out.write(System.lineSeparator());
+        } catch (IOException e) {
+            System.err.println("Could not write metrics to " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stop reporting and write a final dump.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        report();
+    }
+}
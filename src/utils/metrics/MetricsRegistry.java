@@ -0,0 +1,125 @@
+package utils.metrics;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MetricsRegistry following Single Responsibility Principle (SRP)
+ * - Only responsible for naming metrics and rendering them
+ * - Counters and histograms are created once and cached by the caller in
+ *   static final fields, so lookups never happen on the hot path
+ * - Repository and CRUD service methods use sampled histograms, rarer and
+ *   heavier operations (reports, commits, archiving) time every call
+ * - Gauges are read only when a dump is taken
+ *
+ * The global registry is shared by the services and repositories; tests and
+ * tools may create their own instance.
+ */
+public final class MetricsRegistry {
+
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+    // One call in 8 is timed on sampled histograms
+    private static final int SAMPLE_EVERY = 8;
+
+    private final Map<String, Counter> counters = new ConcurrentSkipListMap<>();
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentSkipListMap<>();
+    private final Map<String, Gauge> gauges = new ConcurrentHashMap<>();
+
+    public MetricsRegistry() {
+    }
+
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(requireName(name), Counter::new);
+    }
+
+    /**
+     * Histogram that times every call.
+     */
+    public LatencyHistogram histogram(String name) {
+        return histograms.computeIfAbsent(requireName(name), LatencyHistogram::new);
+    }
+
+    /**
+     * Histogram that times one call in SAMPLE_EVERY, for hot paths where the
+     * clock would cost more than the call. A name keeps the rate it was first
+     * registered with.
+     */
+    public LatencyHistogram sampledHistogram(String name) {
+        return histograms.computeIfAbsent(requireName(name), n -> new LatencyHistogram(n, SAMPLE_EVERY));
+    }
+
+    /**
+     * Register (or replace) a gauge under the given name.
+     */
+    public void gauge(String name, Gauge gauge) {
+        if (gauge == null) throw new IllegalArgumentException("Gauge cannot be null");
+        gauges.put(requireName(name), gauge);
+    }
+
+    /**
+     * Zero all counters and histograms. Gauges are left registered.
+     */
+    public void reset() {
+        counters.values().forEach(Counter::reset);
+        histograms.values().forEach(LatencyHistogram::reset);
+    }
+
+    /**
+     * Render all metrics that have recorded something, one per line.
+     */
+    public String dump() {
+        StringWriter out = new StringWriter();
+        dump(out);
+        return out.toString();
+    }
+
+    public void dump(Writer out) {
+        try {
+            out.write(String.format("%-45s %10s %10s %10s %10s %10s %10s %10s%n",
+                    "LATENCY (ns)", "COUNT", "MEAN", "P50", "P90", "P99", "P99.9", "MAX"));
+            for (LatencyHistogram histogram : histograms.values()) {
+                LatencyHistogram.Snapshot s = histogram.snapshot();
+                if (s.count() == 0) continue;
+                out.write(String.format("%-45s %10d %10.0f %10d %10d %10d %10d %10d%n",
+                        s.name(), s.count(), s.mean(), s.p50(), s.p90(), s.p99(), s.p999(), s.max()));
+            }
+
+            out.write(String.format("%n%-45s %10s%n", "COUNTER", "VALUE"));
+            for (Counter counter : counters.values()) {
+                if (counter.get() == 0) continue;
+                out.write(String.format("%-45s %10d%n", counter.getName(), counter.get()));
+            }
+
+            out.write(String.format("%n%-45s %10s%n", "GAUGE", "VALUE"));
+            for (Map.Entry<String, Gauge> gauge : new ConcurrentSkipListMap<>(gauges).entrySet()) {
+                out.write(String.format("%-45s %10d%n", gauge.getKey(), gauge.getValue().value()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Append a timestamped dump to the given file every period until the
+     * returned reporter is closed.
+     */
+    public MetricsFileReporter startFileReporter(Path file, long period, TimeUnit unit) {
+        return new MetricsFileReporter(this, file, period, unit);
+    }
+
+    private static String requireName(String name) {
+        if (name == null || name.isBlank()) throw new IllegalArgumentException("Metric name cannot be empty");
+        return name;
+    }
+}